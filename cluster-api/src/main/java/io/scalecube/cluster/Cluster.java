@@ -1,9 +1,11 @@
 package io.scalecube.cluster;
 
+import io.scalecube.cluster.gossip.GossipProgress;
 import io.scalecube.cluster.transport.api.Message;
 import io.scalecube.net.Address;
 import java.util.Collection;
 import java.util.Optional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /** Facade cluster interface which provides API to interact with cluster members. */
@@ -59,13 +61,35 @@ public interface Cluster {
   Mono<Message> requestResponse(Member member, Message request);
 
   /**
-   * Spreads given message between cluster members using gossiping protocol.
+   * Spreads given message between cluster members using gossiping protocol. Gossip priority may
+   * be set by {@link io.scalecube.cluster.gossip.GossipConfig#HEADER_GOSSIP_PRIORITY} header.
    *
    * @param message message to disseminate.
    * @return result future
    */
   Mono<String> spreadGossip(Message message);
 
+  /**
+   * Spreads given message between cluster members using gossiping protocol and reports progress of
+   * spreading, see {@link GossipProgress}. The last progress is completed one.
+   *
+   * @param message message to disseminate.
+   * @return progress of spreading gossip
+   */
+  Flux<GossipProgress> spreadGossipWithProgress(Message message);
+
+  /**
+   * Spreads given message between cluster members using gossiping protocol. Unlike {@link
+   * #spreadGossip(Message)} result completes as soon as the given fraction of other members is
+   * known to have gossip (see {@link GossipProgress#infectedFraction()}), or once gossip is spread
+   * completely.
+   *
+   * @param message message to disseminate.
+   * @param fraction fraction of other members, from 0 to 1
+   * @return result future with gossip id
+   */
+  Mono<String> spreadGossip(Message message, double fraction);
+
   /**
    * Returns local cluster member metadata.
    *
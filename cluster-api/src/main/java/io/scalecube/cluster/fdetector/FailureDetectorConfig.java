@@ -22,6 +22,7 @@ public final class FailureDetectorConfig implements Cloneable {
   private int pingInterval = DEFAULT_PING_INTERVAL;
   private int pingTimeout = DEFAULT_PING_TIMEOUT;
   private int pingReqMembers = DEFAULT_PING_REQ_MEMBERS;
+  private boolean pingOverUdp = false;
 
   public FailureDetectorConfig() {}
 
@@ -110,6 +111,24 @@ public int pingReqMembers() {
     return pingReqMembers;
   }
 
+  /**
+   * Sets whether failure detector messages (ping, ping-req and ack) go over UDP transport bound on
+   * the same port as TCP one, instead of TCP connections. All cluster members must use the same
+   * setting.
+   *
+   * @param pingOverUdp whether to send failure detector messages over UDP
+   * @return new {@code FailureDetectorConfig}
+   */
+  public FailureDetectorConfig pingOverUdp(boolean pingOverUdp) {
+    FailureDetectorConfig f = clone();
+    f.pingOverUdp = pingOverUdp;
+    return f;
+  }
+
+  public boolean pingOverUdp() {
+    return pingOverUdp;
+  }
+
   @Override
   public FailureDetectorConfig clone() {
     try {
@@ -128,6 +147,8 @@ public String toString() {
         + pingTimeout
         + ", pingReqMembers="
         + pingReqMembers
+        + ", pingOverUdp="
+        + pingOverUdp
         + '}';
   }
 }
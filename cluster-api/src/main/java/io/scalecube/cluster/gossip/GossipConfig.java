@@ -1,13 +1,25 @@
 package io.scalecube.cluster.gossip;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import reactor.core.Exceptions;
 
 public final class GossipConfig implements Cloneable {
 
+  /**
+   * Header of gossip message with its integer priority, gossips of higher priority are spread
+   * ahead of others when gossip round budget is exhausted. Gossips with priority qualifiers go
+   * before any of them. Gossips without this header have priority 0.
+   */
+  public static final String HEADER_GOSSIP_PRIORITY = "gossipPriority";
+
   // Default settings for LAN cluster
   public static final long DEFAULT_GOSSIP_INTERVAL = 200;
   public static final int DEFAULT_GOSSIP_FANOUT = 3;
   public static final int DEFAULT_GOSSIP_REPEAT_MULT = 3;
+  public static final int DEFAULT_GOSSIP_BATCH_MAX_BYTES = 64 * 1024;
+  public static final int DEFAULT_GOSSIP_CHUNK_SIZE = 32 * 1024;
 
   // Default settings for WAN cluster (overrides default/LAN settings)
   public static final int DEFAULT_WAN_GOSSIP_FANOUT = 4;
@@ -20,6 +32,15 @@ public final class GossipConfig implements Cloneable {
   private int gossipFanout = DEFAULT_GOSSIP_FANOUT;
   private long gossipInterval = DEFAULT_GOSSIP_INTERVAL;
   private int gossipRepeatMult = DEFAULT_GOSSIP_REPEAT_MULT;
+  private int gossipBatchMaxBytes = DEFAULT_GOSSIP_BATCH_MAX_BYTES;
+  private int gossipPiggybackMaxBytes = 0;
+  private Set<String> gossipPriorityQualifiers = Collections.emptySet();
+  private long gossipAntiEntropyInterval = 0;
+  private GossipMode gossipMode = GossipMode.PUSH;
+  private int gossipChunkSize = DEFAULT_GOSSIP_CHUNK_SIZE;
+  private int gossipRoundMaxBytes = 0;
+  private int gossipRoundMaxMessages = 0;
+  private boolean gossipDeliveryTracking = false;
 
   public GossipConfig() {}
 
@@ -104,6 +125,168 @@ public int gossipRepeatMult() {
     return gossipRepeatMult;
   }
 
+  /**
+   * Sets gossipBatchMaxBytes. All gossips for a member are sent in one gossip request per gossip
+   * period, gossips which don't fit into this size wait for the next period. Gossip larger than
+   * this size is sent alone. Cluster caps this value by transport max frame length.
+   *
+   * @param gossipBatchMaxBytes max size of gossips in one gossip request
+   * @return new {@code GossipConfig}
+   */
+  public GossipConfig gossipBatchMaxBytes(int gossipBatchMaxBytes) {
+    GossipConfig g = clone();
+    g.gossipBatchMaxBytes = gossipBatchMaxBytes;
+    return g;
+  }
+
+  public int gossipBatchMaxBytes() {
+    return gossipBatchMaxBytes;
+  }
+
+  /**
+   * Sets gossipPiggybackMaxBytes. If positive then freshest gossips, up to this size, are
+   * piggybacked on failure detector pings and acks in addition to dedicated gossip requests. Gossip
+   * larger than this size is never piggybacked. Cluster caps this value by transport max frame
+   * length and by max datagram length if pings go over UDP.
+   *
+   * @param gossipPiggybackMaxBytes max size of gossips piggybacked on one ping or ack, zero to
+   *     disable piggybacking
+   * @return new {@code GossipConfig}
+   */
+  public GossipConfig gossipPiggybackMaxBytes(int gossipPiggybackMaxBytes) {
+    GossipConfig g = clone();
+    g.gossipPiggybackMaxBytes = gossipPiggybackMaxBytes;
+    return g;
+  }
+
+  public int gossipPiggybackMaxBytes() {
+    return gossipPiggybackMaxBytes;
+  }
+
+  /**
+   * Sets gossipPriorityQualifiers. Gossips with these qualifiers (e.g. membership updates) are
+   * piggybacked and spread ahead of other gossips.
+   *
+   * @param gossipPriorityQualifiers priority gossip qualifiers
+   * @return new {@code GossipConfig}
+   */
+  public GossipConfig gossipPriorityQualifiers(Set<String> gossipPriorityQualifiers) {
+    GossipConfig g = clone();
+    g.gossipPriorityQualifiers =
+        Collections.unmodifiableSet(new HashSet<>(gossipPriorityQualifiers));
+    return g;
+  }
+
+  public Set<String> gossipPriorityQualifiers() {
+    return gossipPriorityQualifiers;
+  }
+
+  /**
+   * Sets gossipAntiEntropyInterval. If positive then with this interval member exchanges digests of
+   * seen gossip ids with a random member, and each of them pulls gossips it missed (e.g. while it
+   * was paused) and pushes gossips the other one missed, as long as gossips aren't swept yet.
+   *
+   * @param gossipAntiEntropyInterval anti-entropy interval in milliseconds, zero to disable
+   *     anti-entropy
+   * @return new {@code GossipConfig}
+   */
+  public GossipConfig gossipAntiEntropyInterval(long gossipAntiEntropyInterval) {
+    GossipConfig g = clone();
+    g.gossipAntiEntropyInterval = gossipAntiEntropyInterval;
+    return g;
+  }
+
+  public long gossipAntiEntropyInterval() {
+    return gossipAntiEntropyInterval;
+  }
+
+  /**
+   * Sets gossipMode. All cluster members must use the same gossip mode.
+   *
+   * @param gossipMode gossip dissemination algorithm
+   * @return new {@code GossipConfig}
+   */
+  public GossipConfig gossipMode(GossipMode gossipMode) {
+    GossipConfig g = clone();
+    g.gossipMode = gossipMode;
+    return g;
+  }
+
+  public GossipMode gossipMode() {
+    return gossipMode;
+  }
+
+  /**
+   * Sets gossipChunkSize. Gossip message which is serialized to more bytes is split into chunks of
+   * this size, chunks are spread as separate gossips and reassembled by receivers. Cluster caps
+   * this value by gossip batch max bytes. Gossip which needs more than 256 chunks is rejected.
+   *
+   * @param gossipChunkSize max size of gossip spread as a whole, zero to disable chunking
+   * @return new {@code GossipConfig}
+   */
+  public GossipConfig gossipChunkSize(int gossipChunkSize) {
+    GossipConfig g = clone();
+    g.gossipChunkSize = gossipChunkSize;
+    return g;
+  }
+
+  public int gossipChunkSize() {
+    return gossipChunkSize;
+  }
+
+  /**
+   * Sets gossipRoundMaxBytes. Limits total size of gossips sent to all members in one gossip
+   * round. Gossips are spread by priority (see {@link #HEADER_GOSSIP_PRIORITY}) and then by age,
+   * gossips which don't fit roll over to the next round.
+   *
+   * @param gossipRoundMaxBytes max size of gossips sent per round, zero for no limit
+   * @return new {@code GossipConfig}
+   */
+  public GossipConfig gossipRoundMaxBytes(int gossipRoundMaxBytes) {
+    GossipConfig g = clone();
+    g.gossipRoundMaxBytes = gossipRoundMaxBytes;
+    return g;
+  }
+
+  public int gossipRoundMaxBytes() {
+    return gossipRoundMaxBytes;
+  }
+
+  /**
+   * Sets gossipRoundMaxMessages. Limits number of gossips sent to all members in one gossip round,
+   * every gossip sent to every member counts. See {@link #gossipRoundMaxBytes(int)}.
+   *
+   * @param gossipRoundMaxMessages max number of gossips sent per round, zero for no limit
+   * @return new {@code GossipConfig}
+   */
+  public GossipConfig gossipRoundMaxMessages(int gossipRoundMaxMessages) {
+    GossipConfig g = clone();
+    g.gossipRoundMaxMessages = gossipRoundMaxMessages;
+    return g;
+  }
+
+  public int gossipRoundMaxMessages() {
+    return gossipRoundMaxMessages;
+  }
+
+  /**
+   * Sets gossipDeliveryTracking. If true then once per gossip period member reports gossips it
+   * received to members which started them, so that progress of spreading gossip (see {@link
+   * GossipProgress}) reflects members actually infected. Should be enabled on all cluster members.
+   *
+   * @param gossipDeliveryTracking whether received gossips are reported to their origins
+   * @return new {@code GossipConfig}
+   */
+  public GossipConfig gossipDeliveryTracking(boolean gossipDeliveryTracking) {
+    GossipConfig g = clone();
+    g.gossipDeliveryTracking = gossipDeliveryTracking;
+    return g;
+  }
+
+  public boolean gossipDeliveryTracking() {
+    return gossipDeliveryTracking;
+  }
+
   @Override
   public GossipConfig clone() {
     try {
@@ -122,6 +305,24 @@ public String toString() {
         + gossipInterval
         + ", gossipRepeatMult="
         + gossipRepeatMult
+        + ", gossipBatchMaxBytes="
+        + gossipBatchMaxBytes
+        + ", gossipPiggybackMaxBytes="
+        + gossipPiggybackMaxBytes
+        + ", gossipPriorityQualifiers="
+        + gossipPriorityQualifiers
+        + ", gossipAntiEntropyInterval="
+        + gossipAntiEntropyInterval
+        + ", gossipMode="
+        + gossipMode
+        + ", gossipChunkSize="
+        + gossipChunkSize
+        + ", gossipRoundMaxBytes="
+        + gossipRoundMaxBytes
+        + ", gossipRoundMaxMessages="
+        + gossipRoundMaxMessages
+        + ", gossipDeliveryTracking="
+        + gossipDeliveryTracking
         + '}';
   }
 }
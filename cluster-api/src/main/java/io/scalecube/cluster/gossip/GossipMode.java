@@ -0,0 +1,20 @@
+package io.scalecube.cluster.gossip;
+
+/** Algorithm of gossip dissemination. */
+public enum GossipMode {
+
+  /**
+   * Every member pushes every gossip to {@code gossipFanout} random members for {@code
+   * gossipRepeatMult * log2(N)} gossip periods. Robust, but costs O(N * fanout * log N) messages
+   * per gossip.
+   */
+  PUSH,
+
+  /**
+   * Epidemic broadcast trees (Plumtree): gossip is eagerly pushed along self-healing spanning tree
+   * of members, the rest of member peers get just announcements of gossip ids and request gossips
+   * they miss. Costs close to N messages per gossip plus batched announcements. Piggybacking and
+   * anti-entropy settings apply only to {@link #PUSH}.
+   */
+  PLUMTREE
+}
@@ -0,0 +1,79 @@
+package io.scalecube.cluster.gossip;
+
+/**
+ * Progress of gossip spreading as seen by member which started gossip. Known infected members are
+ * those which reported gossip as received, by spreading it back or in anti-entropy digest; with
+ * {@link GossipConfig#gossipDeliveryTracking(boolean)} enabled every member reports gossips it
+ * received. Members gossip was only sent to aren't counted, since sending is lossy; {@link
+ * #estimatedReach()} accounts for them. This class is immutable.
+ */
+public final class GossipProgress {
+
+  private final String gossipId;
+  private final int infected;
+  private final int membersCount;
+  private final double estimatedReach;
+  private final boolean completed;
+
+  /**
+   * Create instance of gossip progress.
+   *
+   * @param gossipId gossip id
+   * @param infected number of other members known to have gossip
+   * @param membersCount number of other cluster members
+   * @param estimatedReach estimated fraction of other members having gossip, from 0 to 1
+   * @param completed whether gossip is spread completely and no more progress follows
+   */
+  public GossipProgress(
+      String gossipId, int infected, int membersCount, double estimatedReach, boolean completed) {
+    this.gossipId = gossipId;
+    this.infected = infected;
+    this.membersCount = membersCount;
+    this.estimatedReach = estimatedReach;
+    this.completed = completed;
+  }
+
+  public String gossipId() {
+    return gossipId;
+  }
+
+  public int infected() {
+    return infected;
+  }
+
+  public int membersCount() {
+    return membersCount;
+  }
+
+  public double estimatedReach() {
+    return estimatedReach;
+  }
+
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  /**
+   * Returns fraction of other members known to have gossip.
+   *
+   * @return number from 0 to 1, 1 if there're no other members
+   */
+  public double infectedFraction() {
+    return membersCount > 0 ? Math.min(1.0, (double) infected / membersCount) : 1.0;
+  }
+
+  @Override
+  public String toString() {
+    return "GossipProgress{gossipId="
+        + gossipId
+        + ", infected="
+        + infected
+        + ", membersCount="
+        + membersCount
+        + ", estimatedReach="
+        + estimatedReach
+        + ", completed="
+        + completed
+        + '}';
+  }
+}
@@ -13,6 +13,8 @@ public final class MembershipConfig implements Cloneable {
   public static final int DEFAULT_SYNC_INTERVAL = 30_000;
   public static final int DEFAULT_SYNC_TIMEOUT = 3_000;
   public static final int DEFAULT_SUSPICION_MULT = 5;
+  public static final int DEFAULT_SUSPICION_MIN_MULT = 3;
+  public static final int DEFAULT_SUSPICION_CONFIRMATIONS = 3;
 
   // Default settings for WAN cluster (overrides default/LAN settings)
   public static final int DEFAULT_WAN_SUSPICION_MULT = 6;
@@ -27,7 +29,11 @@ public final class MembershipConfig implements Cloneable {
   private int syncInterval = DEFAULT_SYNC_INTERVAL;
   private int syncTimeout = DEFAULT_SYNC_TIMEOUT;
   private int suspicionMult = DEFAULT_SUSPICION_MULT;
+  private int suspicionMinMult = DEFAULT_SUSPICION_MIN_MULT;
+  private int suspicionConfirmations = DEFAULT_SUSPICION_CONFIRMATIONS;
   private String syncGroup = "default";
+  private boolean warmUpSeedMembers = false;
+  private boolean deltaSync = true;
 
   public MembershipConfig() {}
 
@@ -140,6 +146,40 @@ public MembershipConfig suspicionMult(int suspicionMult) {
     return m;
   }
 
+  public int suspicionMinMult() {
+    return suspicionMinMult;
+  }
+
+  /**
+   * Sets a suspicionMinMult. Suspicion timeout computed with {@link #suspicionMult()} decreases as
+   * other members independently confirm suspicion, down to timeout computed with this multiplier.
+   *
+   * @param suspicionMinMult min suspicion multiplier
+   * @return new {@code MembershipConfig} instance
+   */
+  public MembershipConfig suspicionMinMult(int suspicionMinMult) {
+    MembershipConfig m = clone();
+    m.suspicionMinMult = suspicionMinMult;
+    return m;
+  }
+
+  public int suspicionConfirmations() {
+    return suspicionConfirmations;
+  }
+
+  /**
+   * Sets a suspicionConfirmations. Number of independent confirmations of suspicion after which
+   * suspicion timeout reaches its min. Zero disables decreasing of suspicion timeout.
+   *
+   * @param suspicionConfirmations expected number of suspicion confirmations
+   * @return new {@code MembershipConfig} instance
+   */
+  public MembershipConfig suspicionConfirmations(int suspicionConfirmations) {
+    MembershipConfig m = clone();
+    m.suspicionConfirmations = suspicionConfirmations;
+    return m;
+  }
+
   public String syncGroup() {
     return syncGroup;
   }
@@ -156,6 +196,41 @@ public MembershipConfig syncGroup(String syncGroup) {
     return m;
   }
 
+  public boolean warmUpSeedMembers() {
+    return warmUpSeedMembers;
+  }
+
+  /**
+   * Sets a warmUpSeedMembers. If enabled then connections to seed members are established right
+   * after transport bind, before membership starts.
+   *
+   * @param warmUpSeedMembers whether to connect to seed members on transport bind
+   * @return new {@code MembershipConfig} instance
+   */
+  public MembershipConfig warmUpSeedMembers(boolean warmUpSeedMembers) {
+    MembershipConfig m = clone();
+    m.warmUpSeedMembers = warmUpSeedMembers;
+    return m;
+  }
+
+  public boolean deltaSync() {
+    return deltaSync;
+  }
+
+  /**
+   * Sets a deltaSync. If enabled then periodic sync and sync on member becoming alive send digest
+   * of membership table instead of the table itself, and members exchange only records which
+   * differ. Initial sync always sends full membership table.
+   *
+   * @param deltaSync whether to sync membership by digest
+   * @return new {@code MembershipConfig} instance
+   */
+  public MembershipConfig deltaSync(boolean deltaSync) {
+    MembershipConfig m = clone();
+    m.deltaSync = deltaSync;
+    return m;
+  }
+
   @Override
   public MembershipConfig clone() {
     try {
@@ -176,9 +251,17 @@ public String toString() {
         + syncTimeout
         + ", suspicionMult="
         + suspicionMult
+        + ", suspicionMinMult="
+        + suspicionMinMult
+        + ", suspicionConfirmations="
+        + suspicionConfirmations
         + ", syncGroup='"
         + syncGroup
         + '\''
+        + ", warmUpSeedMembers="
+        + warmUpSeedMembers
+        + ", deltaSync="
+        + deltaSync
         + '}';
   }
 }
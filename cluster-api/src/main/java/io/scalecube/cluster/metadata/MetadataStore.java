@@ -1,7 +1,10 @@
 package io.scalecube.cluster.metadata;
 
 import io.scalecube.cluster.Member;
+import io.scalecube.net.Address;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import reactor.core.publisher.Mono;
 
@@ -56,6 +59,17 @@ public interface MetadataStore {
    */
   Mono<ByteBuffer> fetchMetadata(Member member);
 
+  /**
+   * Retrives metadata of many cluster members at once from cluster member at given address, which
+   * serves metadata of itself and metadata of members from its own store. Members whose metadata
+   * couldn't be retrieved are absent in result.
+   *
+   * @param address address of cluster member to retrieve metadata from
+   * @param members cluster members
+   * @return mono result of getting members metadata
+   */
+  Mono<Map<Member, ByteBuffer>> fetchMetadata(Address address, Collection<Member> members);
+
   /**
    * Removes cluster member metadata from store.
    *
@@ -3,6 +3,8 @@
 import io.scalecube.cluster.transport.api.Message;
 import io.scalecube.cluster.transport.api.Transport;
 import io.scalecube.net.Address;
+import java.time.Duration;
+import java.util.function.Function;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -52,6 +54,17 @@ public Mono<Void> send(Address address, Message message) {
 
   @Override
   public Mono<Message> requestResponse(Address address, Message request) {
+    return requestResponse(address, request, msg -> transport.requestResponse(address, msg));
+  }
+
+  @Override
+  public Mono<Message> requestResponse(Address address, Message request, Duration timeout) {
+    return requestResponse(
+        address, request, msg -> transport.requestResponse(address, msg, timeout));
+  }
+
+  private Mono<Message> requestResponse(
+      Address address, Message request, Function<Message, Mono<Message>> requestResponse) {
     return Mono.defer(
         () ->
             Mono.just(enhanceWithSender(request))
@@ -59,8 +72,8 @@ public Mono<Message> requestResponse(Address address, Message request) {
                 .flatMap(msg -> networkEmulator.tryDelayOutbound(msg, address))
                 .flatMap(
                     msg ->
-                        transport
-                            .requestResponse(address, msg)
+                        requestResponse
+                            .apply(msg)
                             .flatMap(
                                 message -> {
                                   boolean shallPass =
@@ -1,18 +1,32 @@
 package io.scalecube.cluster;
 
 import io.scalecube.cluster.fdetector.FailureDetectorImpl;
+import io.scalecube.cluster.fdetector.Piggyback;
+import io.scalecube.cluster.gossip.ChunkingGossipProtocol;
+import io.scalecube.cluster.gossip.GossipConfig;
+import io.scalecube.cluster.gossip.GossipMode;
+import io.scalecube.cluster.gossip.GossipProgress;
+import io.scalecube.cluster.gossip.GossipProtocol;
 import io.scalecube.cluster.gossip.GossipProtocolImpl;
+import io.scalecube.cluster.gossip.PlumtreeGossipProtocol;
+import io.scalecube.cluster.membership.MembershipConfig;
 import io.scalecube.cluster.membership.MembershipEvent;
 import io.scalecube.cluster.membership.MembershipProtocolImpl;
 import io.scalecube.cluster.metadata.MetadataStore;
 import io.scalecube.cluster.metadata.MetadataStoreImpl;
 import io.scalecube.cluster.transport.api.Message;
 import io.scalecube.cluster.transport.api.Transport;
+import io.scalecube.cluster.transport.api.TransportConfig;
 import io.scalecube.net.Address;
 import io.scalecube.transport.netty.TransportImpl;
+import io.scalecube.transport.udp.UdpTransport;
 import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +48,7 @@
 import reactor.core.publisher.MonoProcessor;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
+import reactor.netty.resources.LoopResources;
 
 /** Cluster implementation. */
 public final class ClusterImpl implements Cluster {
@@ -49,16 +64,40 @@ public final class ClusterImpl implements Cluster {
                   MembershipProtocolImpl.SYNC,
                   MembershipProtocolImpl.SYNC_ACK,
                   GossipProtocolImpl.GOSSIP_REQ,
+                  GossipProtocolImpl.GOSSIP_DIGEST,
+                  GossipProtocolImpl.GOSSIP_PULL,
+                  GossipProtocolImpl.GOSSIP_ACK,
+                  PlumtreeGossipProtocol.GOSSIP_IHAVE,
+                  PlumtreeGossipProtocol.GOSSIP_GRAFT,
+                  PlumtreeGossipProtocol.GOSSIP_PRUNE,
+                  ChunkingGossipProtocol.GOSSIP_CHUNK,
                   MetadataStoreImpl.GET_METADATA_REQ,
-                  MetadataStoreImpl.GET_METADATA_RESP)
+                  MetadataStoreImpl.GET_METADATA_RESP,
+                  MetadataStoreImpl.GET_METADATA_BATCH_REQ,
+                  MetadataStoreImpl.GET_METADATA_BATCH_RESP)
+              .collect(Collectors.toSet()));
+
+  private static final Set<String> PRIORITY_MESSAGES =
+      Collections.unmodifiableSet(
+          Stream.of(
+                  FailureDetectorImpl.PING,
+                  FailureDetectorImpl.PING_REQ,
+                  FailureDetectorImpl.PING_ACK)
               .collect(Collectors.toSet()));
 
   private static final Set<String> SYSTEM_GOSSIPS =
       Collections.singleton(MembershipProtocolImpl.MEMBERSHIP_GOSSIP);
 
+  // Room for gossip request headers, sender and gossip ids beyond gossips themselves
+  private static final int GOSSIP_REQUEST_OVERHEAD = 4 * 1024;
+
+  // Room for chunk message headers and manifest beyond chunk bytes
+  private static final int GOSSIP_CHUNK_OVERHEAD = 1024;
+
   private ClusterConfig config;
   private Function<Cluster, ? extends ClusterMessageHandler> handler =
       cluster -> new ClusterMessageHandler() {};
+  private LoopResources loopResources;
 
   // Subject
   private final DirectProcessor<MembershipEvent> membershipEvents = DirectProcessor.create();
@@ -75,12 +114,14 @@ public final class ClusterImpl implements Cluster {
 
   // Cluster components
   private Transport transport;
+  private TransportImpl tcpTransport;
   private Member localMember;
   private FailureDetectorImpl failureDetector;
-  private GossipProtocolImpl gossip;
+  private GossipProtocol gossip;
   private MembershipProtocolImpl membership;
   private MetadataStore metadataStore;
   private Scheduler scheduler;
+  private HashedWheelTimer timer;
   private CorrelationIdGenerator cidGenerator;
 
   public ClusterImpl() {
@@ -95,6 +136,7 @@ public ClusterImpl(ClusterConfig config) {
   private ClusterImpl(ClusterImpl that) {
     this.config = that.config.clone();
     this.handler = that.handler;
+    this.loopResources = that.loopResources;
     initLifecycle();
   }
 
@@ -142,6 +184,21 @@ public ClusterImpl handler(Function<Cluster, ClusterMessageHandler> handler) {
     return cluster;
   }
 
+  /**
+   * Returns a new cluster's instance which runs transport on the given event loops. Event loops
+   * may be shared by several cluster instances in one JVM, they are not disposed on cluster
+   * shutdown.
+   *
+   * @param loopResources transport event loops
+   * @return new {@code ClusterImpl} instance
+   */
+  public ClusterImpl loopResources(LoopResources loopResources) {
+    Objects.requireNonNull(loopResources);
+    ClusterImpl cluster = new ClusterImpl(this);
+    cluster.loopResources = loopResources;
+    return cluster;
+  }
+
   /**
    * Starts this instance. See {@link ClusterImpl#doStart()} function.
    *
@@ -168,7 +225,10 @@ private Mono<Cluster> doStart() {
   }
 
   private Mono<Cluster> doStart0() {
-    return TransportImpl.bind(config.transportConfig())
+    return new TransportImpl(transportConfig(), loopResources)
+        .bind0()
+        .doOnNext(transport1 -> tcpTransport = (TransportImpl) transport1)
+        .flatMap(this::bindUdpTransport)
         .flatMap(
             transport1 -> {
               localMember = createLocalMember(transport1.address().port());
@@ -176,7 +236,14 @@ private Mono<Cluster> doStart0() {
 
               cidGenerator = new CorrelationIdGenerator(localMember.id());
               scheduler = Schedulers.newSingle("sc-cluster-" + localMember.address().port(), true);
+              timer =
+                  new HashedWheelTimer(
+                      scheduler,
+                      ClusterMath.timerTickDuration(config.failureDetectorConfig().pingInterval()));
+
+              GossipProtocol gossipProtocol = createGossipProtocol();
 
+              // gossip runs on failure detector scheduler, so gossips can piggyback on pings
               failureDetector =
                   new FailureDetectorImpl(
                       localMember,
@@ -184,15 +251,15 @@ private Mono<Cluster> doStart0() {
                       membershipEvents.onBackpressureBuffer(),
                       config.failureDetectorConfig(),
                       scheduler,
-                      cidGenerator);
+                      cidGenerator,
+                      gossipProtocol instanceof Piggyback ? (Piggyback) gossipProtocol : null);
 
               gossip =
-                  new GossipProtocolImpl(
+                  new ChunkingGossipProtocol(
+                      gossipProtocol,
                       localMember,
-                      transport,
-                      membershipEvents.onBackpressureBuffer(),
-                      config.gossipConfig(),
-                      scheduler);
+                      gossipConfig(),
+                      config.transportConfig().messageCodec());
 
               metadataStore =
                   new MetadataStoreImpl(
@@ -207,6 +274,7 @@ private Mono<Cluster> doStart0() {
                       metadataStore,
                       config,
                       scheduler,
+                      timer,
                       cidGenerator);
 
               actionsDisposables.add(
@@ -226,6 +294,85 @@ private Mono<Cluster> doStart0() {
         .thenReturn(this);
   }
 
+  private Mono<Transport> bindUdpTransport(Transport tcpTransport) {
+    if (!config.failureDetectorConfig().pingOverUdp()) {
+      return Mono.just(tcpTransport);
+    }
+    // bind udp on the same port, so member address is valid for both transports
+    TransportConfig udpConfig = transportConfig().port(tcpTransport.address().port());
+    return (loopResources != null
+            ? UdpTransport.bind(udpConfig, loopResources)
+            : UdpTransport.bind(udpConfig))
+        .<Transport>map(
+            udpTransport -> new RoutingTransport(tcpTransport, udpTransport, PRIORITY_MESSAGES))
+        .onErrorResume(ex -> tcpTransport.stop().then(Mono.error(ex)));
+  }
+
+  private GossipProtocol createGossipProtocol() {
+    GossipConfig gossipConfig = gossipConfig();
+    if (gossipConfig.gossipMode() == GossipMode.PLUMTREE) {
+      return new PlumtreeGossipProtocol(
+          localMember,
+          transport,
+          membershipEvents.onBackpressureBuffer(),
+          gossipConfig,
+          config.transportConfig().messageCodec(),
+          scheduler);
+    }
+    return new GossipProtocolImpl(
+        localMember,
+        transport,
+        membershipEvents.onBackpressureBuffer(),
+        gossipConfig,
+        config.transportConfig().messageCodec(),
+        scheduler);
+  }
+
+  private TransportConfig transportConfig() {
+    TransportConfig transportConfig = config.transportConfig();
+    Set<String> priorityQualifiers = new HashSet<>(transportConfig.priorityQualifiers());
+    priorityQualifiers.addAll(PRIORITY_MESSAGES);
+    Set<String> systemQualifiers = new HashSet<>(transportConfig.systemQualifiers());
+    systemQualifiers.addAll(SYSTEM_MESSAGES);
+    transportConfig =
+        transportConfig.priorityQualifiers(priorityQualifiers).systemQualifiers(systemQualifiers);
+    MembershipConfig membershipConfig = config.membershipConfig();
+    if (membershipConfig.warmUpSeedMembers()) {
+      List<Address> warmUpAddresses = new ArrayList<>(transportConfig.warmUpAddresses());
+      warmUpAddresses.addAll(membershipConfig.seedMembers());
+      transportConfig = transportConfig.warmUpAddresses(warmUpAddresses);
+    }
+    return transportConfig;
+  }
+
+  private GossipConfig gossipConfig() {
+    GossipConfig gossipConfig = config.gossipConfig();
+    // Leave room for gossip request envelope
+    int maxBatchBytes = config.transportConfig().maxFrameLength() - GOSSIP_REQUEST_OVERHEAD;
+    int maxPiggybackBytes = maxBatchBytes;
+    // Chunk with its headers must fit into a batch
+    int maxChunkSize = Math.min(maxBatchBytes, gossipConfig.gossipBatchMaxBytes());
+    maxChunkSize -= GOSSIP_CHUNK_OVERHEAD;
+    if (config.failureDetectorConfig().pingOverUdp()) {
+      // Leave room for ping envelope too, ping must fit into datagram
+      maxPiggybackBytes =
+          Math.min(maxPiggybackBytes, UdpTransport.MAX_DATAGRAM_LENGTH - GOSSIP_REQUEST_OVERHEAD);
+    }
+    return gossipConfig
+        .gossipBatchMaxBytes(
+            Math.min(gossipConfig.gossipBatchMaxBytes(), Math.max(0, maxBatchBytes)))
+        .gossipPiggybackMaxBytes(
+            Math.min(gossipConfig.gossipPiggybackMaxBytes(), Math.max(0, maxPiggybackBytes)))
+        .gossipChunkSize(Math.min(gossipConfig.gossipChunkSize(), Math.max(1, maxChunkSize)))
+        .gossipPriorityQualifiers(priorityGossips(gossipConfig));
+  }
+
+  private static Set<String> priorityGossips(GossipConfig gossipConfig) {
+    Set<String> priorityGossips = new HashSet<>(gossipConfig.gossipPriorityQualifiers());
+    priorityGossips.addAll(SYSTEM_GOSSIPS);
+    return priorityGossips;
+  }
+
   private void validateConfiguration() {
     Objects.requireNonNull(
         config.metadataDecoder(), "Invalid cluster config: metadataDecoder must be specified");
@@ -317,6 +464,20 @@ public Mono<String> spreadGossip(Message message) {
     return gossip.spread(message);
   }
 
+  @Override
+  public Flux<GossipProgress> spreadGossipWithProgress(Message message) {
+    return gossip.spreadWithProgress(message);
+  }
+
+  @Override
+  public Mono<String> spreadGossip(Message message, double fraction) {
+    return gossip
+        .spreadWithProgress(message)
+        .filter(progress -> progress.isCompleted() || progress.infectedFraction() >= fraction)
+        .next()
+        .map(GossipProgress::gossipId);
+  }
+
   @Override
   public Collection<Member> members() {
     return membership.members();
@@ -436,6 +597,16 @@ public interface MonitorMBean {
     Collection<String> getMember();
 
     Collection<String> getMetadata();
+
+    long getOutboundQueueSize();
+
+    long getOutboundDroppedCount();
+
+    int getOutstandingTimeouts();
+
+    long getExpiredTimeouts();
+
+    long getCancelledTimeouts();
   }
 
   public static class JmxMonitorMBean implements MonitorMBean {
@@ -466,6 +637,85 @@ public Collection<String> getMetadata() {
       return Collections.singletonList(
           cluster.metadataStore.metadata().map(Object::toString).orElse(null));
     }
+
+    @Override
+    public long getOutboundQueueSize() {
+      return cluster.tcpTransport.outboundQueueSize();
+    }
+
+    @Override
+    public long getOutboundDroppedCount() {
+      return cluster.tcpTransport.outboundDroppedCount();
+    }
+
+    @Override
+    public int getOutstandingTimeouts() {
+      return cluster.timer.outstandingTimeouts();
+    }
+
+    @Override
+    public long getExpiredTimeouts() {
+      return cluster.timer.expiredTimeouts();
+    }
+
+    @Override
+    public long getCancelledTimeouts() {
+      return cluster.timer.cancelledTimeouts();
+    }
+  }
+
+  /** Transport which sends messages with given qualifiers over udp and the rest over tcp. */
+  private static class RoutingTransport implements Transport {
+
+    private final Transport tcpTransport;
+    private final Transport udpTransport;
+    private final Set<String> udpQualifiers;
+
+    private RoutingTransport(
+        Transport tcpTransport, Transport udpTransport, Set<String> udpQualifiers) {
+      this.tcpTransport = Objects.requireNonNull(tcpTransport);
+      this.udpTransport = Objects.requireNonNull(udpTransport);
+      this.udpQualifiers = Objects.requireNonNull(udpQualifiers);
+    }
+
+    @Override
+    public Address address() {
+      return tcpTransport.address();
+    }
+
+    @Override
+    public Mono<Void> stop() {
+      return Mono.whenDelayError(udpTransport.stop(), tcpTransport.stop());
+    }
+
+    @Override
+    public boolean isStopped() {
+      return tcpTransport.isStopped();
+    }
+
+    @Override
+    public Mono<Void> send(Address address, Message message) {
+      return route(message).send(address, message);
+    }
+
+    @Override
+    public Mono<Message> requestResponse(Address address, Message request) {
+      return route(request).requestResponse(address, request);
+    }
+
+    @Override
+    public Mono<Message> requestResponse(Address address, Message request, Duration timeout) {
+      return route(request).requestResponse(address, request, timeout);
+    }
+
+    @Override
+    public Flux<Message> listen() {
+      return Flux.merge(tcpTransport.listen(), udpTransport.listen());
+    }
+
+    private Transport route(Message message) {
+      return udpQualifiers.contains(message.qualifier()) ? udpTransport : tcpTransport;
+    }
   }
 
   private static class SenderAwareTransport implements Transport {
@@ -503,6 +753,12 @@ public Mono<Message> requestResponse(Address address, Message request) {
       return Mono.defer(() -> transport.requestResponse(address, enhanceWithSender(request)));
     }
 
+    @Override
+    public Mono<Message> requestResponse(Address address, Message request, Duration timeout) {
+      return Mono.defer(
+          () -> transport.requestResponse(address, enhanceWithSender(request), timeout));
+    }
+
     @Override
     public Flux<Message> listen() {
       return transport.listen();
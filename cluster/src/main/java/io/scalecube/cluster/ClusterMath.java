@@ -7,6 +7,8 @@
  */
 public final class ClusterMath {
 
+  private static final int TIMER_TICKS_PER_PING_INTERVAL = 20;
+
   private ClusterMath() {
     // Do not instantiate
   }
@@ -42,6 +44,28 @@ public static double gossipConvergenceProbability(
     return spreadSize / clusterSize;
   }
 
+  /**
+   * Returns estimated fraction of cluster members infected with gossip after the given number of
+   * gossip periods, assuming every infected member pushes gossip to {@code fanout} random members
+   * per period and no messages are lost.
+   *
+   * @param fanout fan out
+   * @param clusterSize cluster size
+   * @param periods gossip periods since gossip was started
+   * @return fraction of cluster members, from 0 to 1
+   */
+  public static double gossipReachEstimate(int fanout, int clusterSize, long periods) {
+    if (clusterSize <= 1) {
+      return 1.0;
+    }
+    double infected = 1.0 / clusterSize;
+    for (long i = 0; i < periods && infected < 1.0; i++) {
+      // susceptible member stays so if none of infected ones picks it
+      infected += (1.0 - infected) * (1.0 - Math.exp(-fanout * infected));
+    }
+    return Math.min(1.0, infected);
+  }
+
   /**
    * Returns maxMessagesPerGossipTotal.
    *
@@ -124,6 +148,38 @@ public static long suspicionTimeout(int suspicionMult, int clusterSize, long pin
     return suspicionMult * ceilLog2(clusterSize) * pingInterval;
   }
 
+  /**
+   * Returns suspicion timeout decreased by independent confirmations of suspicion (Lifeguard). It
+   * decreases logarithmically from {@code maxTimeout} with no confirmations down to {@code
+   * minTimeout} with {@code expectedConfirmations}, so first confirmations count the most.
+   *
+   * @param minTimeout min suspicion timeout
+   * @param maxTimeout max suspicion timeout
+   * @param confirmations number of independent confirmations
+   * @param expectedConfirmations number of confirmations to reach min timeout
+   * @return suspicionTimeout
+   */
+  public static long suspicionTimeout(
+      long minTimeout, long maxTimeout, int confirmations, int expectedConfirmations) {
+    if (expectedConfirmations <= 0 || confirmations <= 0) {
+      return maxTimeout;
+    }
+    double fraction = Math.log(confirmations + 1) / Math.log(expectedConfirmations + 1);
+    long timeout = (long) Math.floor(maxTimeout - fraction * (maxTimeout - minTimeout));
+    return Math.max(minTimeout, timeout);
+  }
+
+  /**
+   * Returns tick duration of cluster timer, fine enough for suspicion timeout which is counted in
+   * ping intervals.
+   *
+   * @param pingInterval ping interval
+   * @return timer tick duration
+   */
+  public static long timerTickDuration(long pingInterval) {
+    return Math.max(1, pingInterval / TIMER_TICKS_PER_PING_INTERVAL);
+  }
+
   /**
    * Returns ceilLog2.
    *
@@ -0,0 +1,282 @@
+package io.scalecube.cluster;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Hashed wheel timer of cluster scheduler, it runs suspicion timeouts. Request timeouts aren't run
+ * by it, transport expires pending requests itself. Timeouts are kept in a wheel of buckets, one
+ * bucket per tick, so scheduling and cancelling of a timeout costs O(1) and the only task on
+ * cluster scheduler is a periodic tick, which runs while there're outstanding timeouts. Timeouts
+ * expire on cluster scheduler not earlier than requested and at most one tick later.
+ *
+ * <p>Timeouts may be scheduled and cancelled from any thread, the wheel itself is accessed only
+ * from cluster scheduler.
+ */
+public final class HashedWheelTimer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+  private static final int WHEEL_SIZE = 512;
+
+  private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+  private final Scheduler scheduler;
+  private final long tickDuration;
+  private final long startTime;
+
+  // Accessed only from scheduler
+  private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+  private long tick;
+  private int wheelTimeouts;
+
+  private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+  private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean ticking = new AtomicBoolean();
+  private volatile Disposable tickTask;
+
+  // Metrics
+  private final AtomicInteger outstandingTimeouts = new AtomicInteger();
+  private final AtomicLong expiredTimeouts = new AtomicLong();
+  private final AtomicLong cancelledTimeoutsCount = new AtomicLong();
+
+  /**
+   * Creates timer.
+   *
+   * @param scheduler cluster scheduler, ticks and expired timeouts run on it
+   * @param tickDuration tick duration in millis
+   */
+  public HashedWheelTimer(Scheduler scheduler, long tickDuration) {
+    if (tickDuration <= 0) {
+      throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+    }
+    this.scheduler = Objects.requireNonNull(scheduler);
+    this.tickDuration = tickDuration;
+    this.startTime = scheduler.now(TimeUnit.MILLISECONDS);
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel[i] = new Bucket();
+    }
+  }
+
+  /**
+   * Schedules task to be run on cluster scheduler after the given delay.
+   *
+   * @param task task
+   * @param delay delay
+   * @param unit time unit of delay
+   * @return disposable cancelling timeout
+   */
+  public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+    Timeout timeout =
+        new Timeout(
+            Objects.requireNonNull(task),
+            scheduler.now(TimeUnit.MILLISECONDS) + Math.max(0, unit.toMillis(delay)));
+    outstandingTimeouts.incrementAndGet();
+    pendingTimeouts.add(timeout);
+    startTicking();
+    return timeout;
+  }
+
+  /**
+   * Returns tick duration.
+   *
+   * @return tick duration in millis
+   */
+  public long tickDuration() {
+    return tickDuration;
+  }
+
+  /**
+   * Returns number of scheduled timeouts which neither expired nor were cancelled.
+   *
+   * @return number of outstanding timeouts
+   */
+  public int outstandingTimeouts() {
+    return outstandingTimeouts.get();
+  }
+
+  /**
+   * Returns number of expired timeouts since timer creation.
+   *
+   * @return number of expired timeouts
+   */
+  public long expiredTimeouts() {
+    return expiredTimeouts.get();
+  }
+
+  /**
+   * Returns number of cancelled timeouts since timer creation.
+   *
+   * @return number of cancelled timeouts
+   */
+  public long cancelledTimeouts() {
+    return cancelledTimeoutsCount.get();
+  }
+
+  private void startTicking() {
+    if (ticking.compareAndSet(false, true)) {
+      tickTask =
+          scheduler.schedulePeriodically(
+              this::onTick, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void onTick() {
+    long targetTick = (scheduler.now(TimeUnit.MILLISECONDS) - startTime) / tickDuration;
+    if (wheelTimeouts == 0) {
+      // nothing to expire in skipped ticks
+      tick = Math.max(tick, targetTick - 1);
+    }
+    while (tick < targetTick) {
+      tick++;
+      removeCancelledTimeouts();
+      transferPendingTimeouts();
+      expireTimeouts(wheel[(int) (tick & (WHEEL_SIZE - 1))]);
+    }
+
+    // Stop ticking while there's nothing to wait for
+    Disposable task = tickTask;
+    if (task != null && outstandingTimeouts.get() == 0) {
+      ticking.set(false);
+      task.dispose();
+      if (outstandingTimeouts.get() > 0) {
+        startTicking();
+      }
+    }
+  }
+
+  private void removeCancelledTimeouts() {
+    for (Timeout timeout = cancelledTimeouts.poll();
+        timeout != null;
+        timeout = cancelledTimeouts.poll()) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+        wheelTimeouts--;
+      }
+    }
+  }
+
+  private void transferPendingTimeouts() {
+    for (Timeout timeout = pendingTimeouts.poll();
+        timeout != null;
+        timeout = pendingTimeouts.poll()) {
+      if (timeout.state != Timeout.STATE_INIT) {
+        continue;
+      }
+      long deadlineTick = (timeout.deadline - startTime + tickDuration - 1) / tickDuration;
+      deadlineTick = Math.max(deadlineTick, tick);
+      timeout.remainingRounds = (deadlineTick - tick) / WHEEL_SIZE;
+      wheel[(int) (deadlineTick & (WHEEL_SIZE - 1))].add(timeout);
+      wheelTimeouts++;
+    }
+  }
+
+  private void expireTimeouts(Bucket bucket) {
+    Timeout timeout = bucket.head;
+    while (timeout != null) {
+      Timeout next = timeout.next;
+      if (timeout.remainingRounds <= 0) {
+        bucket.remove(timeout);
+        wheelTimeouts--;
+        timeout.expire();
+      } else {
+        timeout.remainingRounds--;
+      }
+      timeout = next;
+    }
+  }
+
+  private final class Timeout implements Disposable {
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private final Runnable task;
+    private final long deadline;
+    volatile int state = STATE_INIT;
+
+    // Accessed only from scheduler
+    private long remainingRounds;
+    private Bucket bucket;
+    private Timeout prev;
+    private Timeout next;
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public void dispose() {
+      if (STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_CANCELLED)) {
+        outstandingTimeouts.decrementAndGet();
+        cancelledTimeoutsCount.incrementAndGet();
+        cancelledTimeouts.add(this);
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return state != STATE_INIT;
+    }
+
+    private void expire() {
+      if (!STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_EXPIRED)) {
+        return;
+      }
+      outstandingTimeouts.decrementAndGet();
+      expiredTimeouts.incrementAndGet();
+      try {
+        task.run();
+      } catch (Throwable th) {
+        LOGGER.warn("Exception on running timeout task: {}", th.toString());
+      }
+    }
+  }
+
+  /** Doubly linked list of timeouts expiring on the same tick of the wheel. */
+  private static final class Bucket {
+
+    private Timeout head;
+    private Timeout tail;
+
+    private void add(Timeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+    }
+
+    private void remove(Timeout timeout) {
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      } else {
+        head = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      } else {
+        tail = timeout.prev;
+      }
+      timeout.bucket = null;
+      timeout.prev = null;
+      timeout.next = null;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package io.scalecube.cluster;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.transport.binary.BinaryCodecs;
+
+/** Binary schema of {@link Member}, shared by binary data codecs of cluster messages. */
+public final class MemberCodec {
+
+  private MemberCodec() {
+    // Do not instantiate
+  }
+
+  /**
+   * Writes nullable member.
+   *
+   * @param byteBuf byte buffer
+   * @param member member or null
+   */
+  public static void writeMember(ByteBuf byteBuf, Member member) {
+    if (member == null) {
+      BinaryCodecs.writeString(byteBuf, null);
+      return;
+    }
+    BinaryCodecs.writeString(byteBuf, member.id());
+    BinaryCodecs.writeAddress(byteBuf, member.address());
+  }
+
+  /**
+   * Reads member written by {@link #writeMember(ByteBuf, Member)}.
+   *
+   * @param byteBuf byte buffer
+   * @return member or null
+   */
+  public static Member readMember(ByteBuf byteBuf) {
+    String id = BinaryCodecs.readString(byteBuf);
+    if (id == null) {
+      return null;
+    }
+    return new Member(id, BinaryCodecs.readAddress(byteBuf));
+  }
+}
@@ -42,6 +42,7 @@ public final class FailureDetectorImpl implements FailureDetector {
   private final Transport transport;
   private final FailureDetectorConfig config;
   private final CorrelationIdGenerator cidGenerator;
+  private final Piggyback piggyback;
 
   // State
 
@@ -79,12 +80,36 @@ public FailureDetectorImpl(
       FailureDetectorConfig config,
       Scheduler scheduler,
       CorrelationIdGenerator cidGenerator) {
+    this(localMember, transport, membershipProcessor, config, scheduler, cidGenerator, null);
+  }
+
+  /**
+   * Creates new instance of failure detector with given transport and settings.
+   *
+   * @param localMember local cluster member
+   * @param transport cluster transport
+   * @param membershipProcessor membership event processor
+   * @param config failure detector settings
+   * @param scheduler scheduler
+   * @param cidGenerator correlationId generator
+   * @param piggyback component whose messages are piggybacked on pings and acks, it's called on
+   *     the given scheduler; if null then nothing is piggybacked
+   */
+  public FailureDetectorImpl(
+      Member localMember,
+      Transport transport,
+      Flux<MembershipEvent> membershipProcessor,
+      FailureDetectorConfig config,
+      Scheduler scheduler,
+      CorrelationIdGenerator cidGenerator,
+      Piggyback piggyback) {
 
     this.localMember = Objects.requireNonNull(localMember);
     this.transport = Objects.requireNonNull(transport);
     this.config = Objects.requireNonNull(config);
     this.scheduler = Objects.requireNonNull(scheduler);
     this.cidGenerator = Objects.requireNonNull(cidGenerator);
+    this.piggyback = piggyback;
 
     // Subscribe
     actionsDisposables.addAll(
@@ -135,18 +160,18 @@ private void doPing() {
 
     // Send ping
     String cid = cidGenerator.nextCid();
-    PingData pingData = new PingData(localMember, pingMember);
+    PingData pingData = new PingData(localMember, pingMember).withPiggyback(outgoing(pingMember));
     Message pingMsg = Message.withData(pingData).qualifier(PING).correlationId(cid).build();
 
     LOGGER.trace("Send Ping[{}] to {} [at {}]", period, pingMember, localMember);
     Address address = pingMember.address();
     transport
-        .requestResponse(address, pingMsg)
-        .timeout(Duration.ofMillis(config.pingTimeout()), scheduler)
+        .requestResponse(address, pingMsg, Duration.ofMillis(config.pingTimeout()))
         .publishOn(scheduler)
         .subscribe(
             message -> {
               LOGGER.trace("Received PingAck[{}] from {} [at {}]", period, pingMember, localMember);
+              incoming(pingMember, message.data());
               publishPingResult(period, pingMember, computeMemberStatus(message, period));
             },
             ex -> {
@@ -183,8 +208,7 @@ private void doPingReq(
     pingReqMembers.forEach(
         member ->
             transport
-                .requestResponse(member.address(), pingReqMsg)
-                .timeout(timeout, scheduler)
+                .requestResponse(member.address(), pingReqMsg, timeout)
                 .publishOn(scheduler)
                 .subscribe(
                     message -> {
@@ -227,7 +251,8 @@ private void onPing(Message message) {
     long period = this.currentPeriod;
     LOGGER.trace("Received Ping[{}] [at {}]", period, localMember);
     PingData data = message.data();
-    data = data.withAckType(AckType.DEST_OK);
+    incoming(data.getFrom(), data);
+    data = data.withAckType(AckType.DEST_OK).withPiggyback(outgoing(data.getFrom()));
     if (!data.getTo().id().equals(localMember.id())) {
       LOGGER.warn(
           "Received Ping[{}] to {}, but local member is {}", period, data.getTo(), localMember);
@@ -259,7 +284,8 @@ private void onPingReq(Message message) {
     Member target = data.getTo();
     Member originalIssuer = data.getFrom();
     String correlationId = message.correlationId();
-    PingData pingReqData = new PingData(localMember, target, originalIssuer);
+    PingData pingReqData =
+        new PingData(localMember, target, originalIssuer).withPiggyback(outgoing(target));
     Message pingMessage =
         Message.withData(pingReqData).qualifier(PING).correlationId(correlationId).build();
     Address address = target.address();
@@ -284,6 +310,7 @@ private void onTransitPingAck(Message message) {
     long period = this.currentPeriod;
     LOGGER.trace("Received transit PingAck[{}] [at {}]", period, localMember);
     PingData data = message.data();
+    incoming(data.getTo(), data);
     AckType ackType = data.getAckType();
     Member target = data.getOriginalIssuer();
     String correlationId = message.correlationId();
@@ -362,6 +389,20 @@ private List<Member> selectPingReqMembers(Member pingMember) {
     return selectAll ? candidates : candidates.subList(0, config.pingReqMembers());
   }
 
+  private Message outgoing(Member member) {
+    return piggyback != null ? piggyback.outgoing(member) : null;
+  }
+
+  private void incoming(Member member, PingData data) {
+    if (piggyback != null && data.getPiggyback() != null) {
+      try {
+        piggyback.incoming(member, data.getPiggyback());
+      } catch (Exception ex) {
+        LOGGER.warn("Failed to handle piggyback from {}, cause: {}", member, ex.toString());
+      }
+    }
+  }
+
   private void publishPingResult(long period, Member member, MemberStatus status) {
     LOGGER.debug("Member {} detected as {} period={} [at {}]", member, status, period, localMember);
     sink.next(new FailureDetectorEvent(member, status));
@@ -0,0 +1,29 @@
+package io.scalecube.cluster.fdetector;
+
+import io.scalecube.cluster.Member;
+import io.scalecube.cluster.transport.api.Message;
+
+/**
+ * Component which attaches its messages to failure detector pings and acks (SWIM-style
+ * piggybacking), so that they spread on traffic which is sent anyway.
+ *
+ * <p><b>NOTE:</b> methods are called on failure detector scheduler.
+ */
+public interface Piggyback {
+
+  /**
+   * Returns message to attach to ping or ack sent to the given member.
+   *
+   * @param member member ping or ack is sent to
+   * @return message or null if there's nothing to attach
+   */
+  Message outgoing(Member member);
+
+  /**
+   * Handles message attached to ping or ack received from the given member.
+   *
+   * @param member member ping or ack is received from
+   * @param message attached message
+   */
+  void incoming(Member member, Message message);
+}
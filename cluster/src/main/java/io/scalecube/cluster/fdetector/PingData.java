@@ -1,6 +1,7 @@
 package io.scalecube.cluster.fdetector;
 
 import io.scalecube.cluster.Member;
+import io.scalecube.cluster.transport.api.Message;
 
 /** DTO class. Supports FailureDetector messages (Ping, Ack, PingReq). */
 final class PingData {
@@ -30,6 +31,8 @@ enum AckType {
   private Member originalIssuer;
   /** Ping response type. */
   private AckType ackType;
+  /** Message piggybacked by another component, see {@link Piggyback}. */
+  private Message piggyback;
 
   /** Instantiates empty ping data for deserialization purpose. */
   PingData() {}
@@ -39,6 +42,7 @@ private PingData(PingData other) {
     this.to = other.to;
     this.originalIssuer = other.originalIssuer;
     this.ackType = other.ackType;
+    this.piggyback = other.piggyback;
   }
 
   public PingData(Member from, Member to) {
@@ -71,12 +75,22 @@ public AckType getAckType() {
     return ackType;
   }
 
+  public Message getPiggyback() {
+    return piggyback;
+  }
+
   public PingData withAckType(AckType ackType) {
     PingData p = new PingData(this);
     p.ackType = ackType;
     return p;
   }
 
+  public PingData withPiggyback(Message piggyback) {
+    PingData p = new PingData(this);
+    p.piggyback = piggyback;
+    return p;
+  }
+
   @Override
   public String toString() {
     return "PingData{"
@@ -88,6 +102,8 @@ public String toString() {
         + originalIssuer
         + ", ackType="
         + ackType
+        + ", piggyback="
+        + piggyback
         + '}';
   }
 }
@@ -0,0 +1,53 @@
+package io.scalecube.cluster.fdetector;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.cluster.MemberCodec;
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+
+/** Binary schema of {@link PingData}. */
+public final class PingDataCodec implements DataCodec<PingData> {
+
+  public static final int TYPE_ID = 16;
+
+  private static final PingData.AckType[] ACK_TYPES = PingData.AckType.values();
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<PingData> dataType() {
+    return PingData.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, PingData data)
+      throws Exception {
+    MemberCodec.writeMember(byteBuf, data.getFrom());
+    MemberCodec.writeMember(byteBuf, data.getTo());
+    MemberCodec.writeMember(byteBuf, data.getOriginalIssuer());
+    byteBuf.writeByte(data.getAckType() != null ? data.getAckType().ordinal() + 1 : 0);
+    Message piggyback = data.getPiggyback();
+    byteBuf.writeBoolean(piggyback != null);
+    if (piggyback != null) {
+      codec.writeMessage(piggyback, byteBuf);
+    }
+  }
+
+  @Override
+  public PingData decode(BinaryMessageCodec codec, ByteBuf byteBuf) throws Exception {
+    PingData data =
+        new PingData(
+            MemberCodec.readMember(byteBuf),
+            MemberCodec.readMember(byteBuf),
+            MemberCodec.readMember(byteBuf));
+    int ackType = byteBuf.readByte();
+    if (ackType > 0) {
+      data = data.withAckType(ACK_TYPES[ackType - 1]);
+    }
+    return byteBuf.readBoolean() ? data.withPiggyback(codec.readMessage(byteBuf)) : data;
+  }
+}
@@ -0,0 +1,297 @@
+package io.scalecube.cluster.gossip;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.scalecube.cluster.ClusterMath;
+import io.scalecube.cluster.Member;
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.MessageCodec;
+import io.scalecube.transport.netty.ByteBufMessages;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxProcessor;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gossip protocol decorator which splits gossip messages larger than {@link
+ * GossipConfig#gossipChunkSize()} into chunks of this size. Chunks are spread as separate gossips
+ * by the underlying gossip protocol, so they're deduplicated and batched independently and small
+ * gossips don't wait behind large ones. Receiver reassembles message before emitting it, incomplete
+ * messages are dropped once their chunks can't come anymore. Spreading message which needs more
+ * than {@link GossipOrigins#WINDOW_SIZE} chunks fails.
+ */
+public final class ChunkingGossipProtocol implements GossipProtocol {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChunkingGossipProtocol.class);
+
+  // Qualifiers
+
+  public static final String GOSSIP_CHUNK = "sc/gossip/chunk";
+
+  // Max number of messages being reassembled at once
+  private static final int MAX_ASSEMBLIES = 1024;
+
+  // Max number of chunks of one message, chunks of a message are spread at once, so they have to
+  // fit into dedup window of receivers
+  static final int MAX_CHUNKS = GossipOrigins.WINDOW_SIZE;
+
+  // Injected
+
+  private final GossipProtocol delegate;
+  private final Member localMember;
+  private final MessageCodec messageCodec;
+  private final int chunkSize;
+  private final long assemblyTimeout;
+
+  // State
+
+  private final AtomicLong chunkedCounter = new AtomicLong();
+  // accessed on gossip protocol scheduler, which emits gossips
+  private final Map<String, Assembly> assemblies = new LinkedHashMap<>();
+  private Disposable disposable;
+
+  // Subject
+
+  private final FluxProcessor<Message, Message> subject =
+      DirectProcessor.<Message>create().serialize();
+
+  private final FluxSink<Message> sink = subject.sink();
+
+  /**
+   * Creates new instance of chunking gossip protocol.
+   *
+   * @param delegate underlying gossip protocol
+   * @param localMember local cluster member
+   * @param config gossip protocol settings
+   * @param messageCodec transport message codec, used to serialize large gossips
+   */
+  public ChunkingGossipProtocol(
+      GossipProtocol delegate, Member localMember, GossipConfig config, MessageCodec messageCodec) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.localMember = Objects.requireNonNull(localMember);
+    this.messageCodec = Objects.requireNonNull(messageCodec);
+    this.chunkSize = config.gossipChunkSize();
+    // chunks of a message are swept by then in cluster of any size
+    this.assemblyTimeout =
+        TimeUnit.MILLISECONDS.toNanos(
+            ClusterMath.gossipTimeoutToSweep(
+                config.gossipRepeatMult(), Integer.MAX_VALUE, config.gossipInterval()));
+  }
+
+  @Override
+  public void start() {
+    disposable = delegate.listen().subscribe(this::onMessage, this::onError);
+    delegate.start();
+  }
+
+  @Override
+  public void stop() {
+    delegate.stop();
+    if (disposable != null) {
+      disposable.dispose();
+    }
+    sink.complete();
+  }
+
+  @Override
+  public Mono<String> spread(Message message) {
+    if (chunkSize <= 0) {
+      return delegate.spread(message);
+    }
+    return Mono.fromCallable(() -> split(message))
+        .flatMap(
+            chunks ->
+                chunks.size() == 1
+                    ? delegate.spread(message)
+                    : Flux.fromIterable(chunks)
+                        .flatMap(delegate::spread)
+                        .then(Mono.just(chunks.get(0).<GossipChunk>data().id())));
+  }
+
+  @Override
+  public Flux<GossipProgress> spreadWithProgress(Message message) {
+    if (chunkSize <= 0) {
+      return delegate.spreadWithProgress(message);
+    }
+    return Mono.fromCallable(() -> split(message))
+        .flatMapMany(
+            chunks ->
+                chunks.size() == 1
+                    ? delegate.spreadWithProgress(message)
+                    : spreadChunksWithProgress(chunks));
+  }
+
+  @Override
+  public Flux<Message> listen() {
+    return subject.onBackpressureBuffer();
+  }
+
+  /**
+   * Returns chunk messages of the given message, or single element list if message fits into one
+   * chunk.
+   */
+  private List<Message> split(Message message) {
+    ByteBuf byteBuf = ByteBufMessages.toByteBuf(messageCodec, message);
+    try {
+      int size = byteBuf.readableBytes();
+      if (size <= chunkSize) {
+        return Collections.singletonList(message);
+      }
+      String id = localMember.id() + "-" + chunkedCounter.getAndIncrement();
+      int count = (size + chunkSize - 1) / chunkSize;
+      if (count > MAX_CHUNKS) {
+        throw new IllegalArgumentException(
+            "Gossip of "
+                + size
+                + " bytes exceeds max of "
+                + MAX_CHUNKS
+                + " chunks of "
+                + chunkSize
+                + " bytes");
+      }
+      List<Message> chunks = new ArrayList<>(count);
+      // chunks are spread with priority of the message
+      String priority = message.header(GossipConfig.HEADER_GOSSIP_PRIORITY);
+      for (int i = 0; i < count; i++) {
+        byte[] bytes = new byte[Math.min(chunkSize, byteBuf.readableBytes())];
+        byteBuf.readBytes(bytes);
+        GossipChunk chunk = new GossipChunk(id, i, count, bytes);
+        Message.Builder builder = Message.withData(chunk).qualifier(GOSSIP_CHUNK);
+        if (priority != null) {
+          builder.header(GossipConfig.HEADER_GOSSIP_PRIORITY, priority);
+        }
+        chunks.add(builder.build());
+      }
+      LOGGER.debug("Split gossip {} of {} bytes into {} chunks", id, size, count);
+      return chunks;
+    } finally {
+      byteBuf.release();
+    }
+  }
+
+  /** Progress of chunked message is the least progress of its chunks. */
+  private Flux<GossipProgress> spreadChunksWithProgress(List<Message> chunks) {
+    String id = chunks.get(0).<GossipChunk>data().id();
+    List<Flux<GossipProgress>> progresses = new ArrayList<>(chunks.size());
+    for (Message chunk : chunks) {
+      progresses.add(delegate.spreadWithProgress(chunk));
+    }
+    return Flux.combineLatest(
+        progresses,
+        values -> {
+          int infected = Integer.MAX_VALUE;
+          int membersCount = 0;
+          double estimatedReach = 1.0;
+          boolean completed = true;
+          for (Object value : values) {
+            GossipProgress progress = (GossipProgress) value;
+            infected = Math.min(infected, progress.infected());
+            membersCount = Math.max(membersCount, progress.membersCount());
+            estimatedReach = Math.min(estimatedReach, progress.estimatedReach());
+            completed &= progress.isCompleted();
+          }
+          return new GossipProgress(id, infected, membersCount, estimatedReach, completed);
+        });
+  }
+
+  private void onMessage(Message message) {
+    if (!GOSSIP_CHUNK.equals(message.qualifier())) {
+      sink.next(message);
+      return;
+    }
+    Message assembled = onChunk(message.data());
+    if (assembled != null) {
+      sink.next(assembled);
+    }
+  }
+
+  private Message onChunk(GossipChunk chunk) {
+    long now = System.nanoTime();
+    sweepAssemblies(now);
+
+    if (chunk.count() <= 0
+        || chunk.count() > MAX_CHUNKS
+        || chunk.index() < 0
+        || chunk.index() >= chunk.count()
+        || chunk.bytes() == null) {
+      LOGGER.warn("Dropped invalid gossip chunk: {}", chunk);
+      return null;
+    }
+    Assembly assembly = assemblies.computeIfAbsent(chunk.id(), id -> new Assembly(chunk, now));
+    if (assembly.chunks.length != chunk.count()) {
+      LOGGER.warn("Dropped gossip chunk inconsistent with previous ones: {}", chunk);
+      return null;
+    }
+    if (assembly.chunks[chunk.index()] == null) {
+      assembly.chunks[chunk.index()] = chunk.bytes();
+      assembly.received++;
+      assembly.size += chunk.bytes().length;
+    }
+    if (assembly.received < assembly.chunks.length) {
+      return null;
+    }
+
+    assemblies.remove(chunk.id());
+    byte[] bytes = new byte[assembly.size];
+    int offset = 0;
+    for (byte[] part : assembly.chunks) {
+      System.arraycopy(part, 0, bytes, offset, part.length);
+      offset += part.length;
+    }
+    try {
+      return ByteBufMessages.toMessage(messageCodec, Unpooled.wrappedBuffer(bytes));
+    } catch (Exception ex) {
+      LOGGER.warn("Failed to reassemble gossip {}, cause: {}", chunk.id(), ex.toString());
+      return null;
+    }
+  }
+
+  private void sweepAssemblies(long now) {
+    for (Iterator<Assembly> it = assemblies.values().iterator(); it.hasNext(); ) {
+      Assembly assembly = it.next();
+      // assemblies are in creation order, so the rest are younger
+      if (assemblies.size() <= MAX_ASSEMBLIES && now - assembly.created < assemblyTimeout) {
+        break;
+      }
+      LOGGER.debug(
+          "Dropped incomplete gossip {} ({} of {} chunks)",
+          assembly.id,
+          assembly.received,
+          assembly.chunks.length);
+      it.remove();
+    }
+  }
+
+  private void onError(Throwable throwable) {
+    LOGGER.error("Received unexpected error: ", throwable);
+  }
+
+  /** Chunks of message received so far. */
+  private static final class Assembly {
+
+    private final String id;
+    private final long created;
+    private final byte[][] chunks;
+    private int received;
+    private int size;
+
+    private Assembly(GossipChunk chunk, long created) {
+      this.id = chunk.id();
+      this.created = created;
+      this.chunks = new byte[chunk.count()][];
+    }
+  }
+}
@@ -3,22 +3,35 @@
 import io.scalecube.cluster.transport.api.Message;
 import java.util.Objects;
 
-/** Data model for gossip, include gossip id, qualifier and object need to disseminate. */
+/**
+ * Data model for gossip, include gossip identity (id of member which started gossip and sequence
+ * number of gossip at that member), qualifier and object need to disseminate.
+ */
 final class Gossip {
 
-  private String gossipId;
+  private String gossiperId;
+  private long sequenceId;
   private Message message;
 
   /** Instantiates empty gossip for deserialization purpose. */
   Gossip() {}
 
-  public Gossip(String gossipId, Message message) {
-    this.gossipId = Objects.requireNonNull(gossipId);
+  public Gossip(String gossiperId, long sequenceId, Message message) {
+    this.gossiperId = Objects.requireNonNull(gossiperId);
+    this.sequenceId = sequenceId;
     this.message = Objects.requireNonNull(message);
   }
 
+  public String gossiperId() {
+    return gossiperId;
+  }
+
+  public long sequenceId() {
+    return sequenceId;
+  }
+
   public String gossipId() {
-    return gossipId;
+    return gossiperId + "-" + sequenceId;
   }
 
   public Message message() {
@@ -34,16 +47,18 @@ public boolean equals(Object that) {
       return false;
     }
     Gossip gossip = (Gossip) that;
-    return Objects.equals(gossipId, gossip.gossipId) && Objects.equals(message, gossip.message);
+    return sequenceId == gossip.sequenceId
+        && Objects.equals(gossiperId, gossip.gossiperId)
+        && Objects.equals(message, gossip.message);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(gossipId, message);
+    return Objects.hash(gossiperId, sequenceId, message);
   }
 
   @Override
   public String toString() {
-    return "Gossip{gossipId=" + gossipId + ", message=" + message + '}';
+    return "Gossip{gossipId=" + gossipId() + ", message=" + message + '}';
   }
 }
@@ -0,0 +1,92 @@
+package io.scalecube.cluster.gossip;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.cluster.transport.api.MessageCodec;
+import io.scalecube.transport.netty.ByteBufMessages;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Estimates serialized size of gossips and packs gossips into batches which fit into one gossip
+ * request. Size of gossip is estimated once and cached in its {@link GossipState}.
+ */
+final class GossipBatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GossipBatcher.class);
+
+  private final MessageCodec messageCodec;
+  private final int maxBytes;
+
+  /**
+   * Constructor.
+   *
+   * @param messageCodec transport message codec; if null then size of gossips is zero and batches
+   *     aren't limited by size
+   * @param maxBytes max size of gossips in one batch
+   */
+  GossipBatcher(MessageCodec messageCodec, int maxBytes) {
+    this.messageCodec = messageCodec;
+    this.maxBytes = maxBytes;
+  }
+
+  int maxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Returns serialized size of gossip.
+   *
+   * @param gossipState gossip state
+   * @return size in bytes
+   */
+  int sizeOf(GossipState gossipState) {
+    if (gossipState.size() < 0) {
+      gossipState.size(estimateSize(gossipState.gossip()));
+    }
+    return gossipState.size();
+  }
+
+  /**
+   * Splits gossips into batches of at most max bytes, gossip larger than max bytes goes alone.
+   *
+   * @param gossipStates gossips
+   * @param action action for every batch
+   */
+  void forEachBatch(List<GossipState> gossipStates, Consumer<List<Gossip>> action) {
+    List<Gossip> batch = new ArrayList<>();
+    long bytes = 0;
+    for (GossipState gossipState : gossipStates) {
+      int size = sizeOf(gossipState);
+      if (!batch.isEmpty() && bytes + size > maxBytes) {
+        action.accept(batch);
+        batch = new ArrayList<>();
+        bytes = 0;
+      }
+      batch.add(gossipState.gossip());
+      bytes += size;
+    }
+    if (!batch.isEmpty()) {
+      action.accept(batch);
+    }
+  }
+
+  private int estimateSize(Gossip gossip) {
+    if (messageCodec == null) {
+      return 0;
+    }
+    try {
+      ByteBuf byteBuf = ByteBufMessages.toByteBuf(messageCodec, gossip.message());
+      try {
+        return byteBuf.readableBytes() + gossip.gossipId().length();
+      } finally {
+        byteBuf.release();
+      }
+    } catch (Exception ex) {
+      LOGGER.warn("Failed to estimate size of gossip {}, cause: {}", gossip, ex.toString());
+      return 0;
+    }
+  }
+}
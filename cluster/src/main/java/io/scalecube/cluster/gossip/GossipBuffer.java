@@ -0,0 +1,203 @@
+package io.scalecube.cluster.gossip;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Gossips maintained by gossip protocol, bucketed by spread period (see {@link
+ * GossipState#spreadPeriod()}). Buckets are kept in period order, so spreading visits only buckets
+ * of recent periods and sweeping drops expired buckets from the head without scanning live
+ * gossips. Deferred gossip is appended to the latest bucket and its entry in the older bucket is
+ * left stale, stale entries are skipped and go away with their bucket.
+ *
+ * <p><b>NOTE:</b> not thread safe, accessed only on gossip protocol scheduler.
+ */
+final class GossipBuffer {
+
+  private final ArrayDeque<Bucket> buckets = new ArrayDeque<>();
+  private int size;
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void forEach(Consumer<GossipState> action) {
+    for (Bucket bucket : buckets) {
+      for (GossipState gossipState : bucket.gossips) {
+        if (bucket.holds(gossipState)) {
+          action.accept(gossipState);
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds gossip state. Spread periods of added gossips are expected to not decrease, gossip of
+   * older period goes to the latest bucket and takes its period.
+   *
+   * @param gossipState gossip state
+   */
+  void add(GossipState gossipState) {
+    size++;
+    append(gossipState);
+  }
+
+  /**
+   * Moves gossip state to the given spread period, so that it's spread and swept as if it was added
+   * in this period. Period is expected to be not less than period of the latest bucket.
+   *
+   * @param gossipState gossip state of this buffer
+   * @param period new spread period
+   */
+  void defer(GossipState gossipState, long period) {
+    if (gossipState.spreadPeriod() == period) {
+      return; // already there
+    }
+    gossipState.spreadPeriod(period);
+    append(gossipState);
+  }
+
+  private void append(GossipState gossipState) {
+    Bucket bucket = buckets.peekLast();
+    if (bucket == null || bucket.period < gossipState.spreadPeriod()) {
+      bucket = new Bucket(gossipState.spreadPeriod());
+      buckets.addLast(bucket);
+    } else if (bucket.period > gossipState.spreadPeriod()) {
+      gossipState.spreadPeriod(bucket.period); // otherwise bucket wouldn't hold it
+    }
+    bucket.gossips.add(gossipState);
+  }
+
+  /**
+   * Returns gossips of buckets with period greater or equal to the given one, oldest first.
+   *
+   * @param minPeriod min infection period
+   * @return iterator over gossips
+   */
+  Iterator<GossipState> since(long minPeriod) {
+    Iterator<Bucket> bucketIterator = buckets.iterator();
+    return new Iterator<GossipState>() {
+      private Bucket bucket;
+      private Iterator<GossipState> current;
+      private GossipState next;
+
+      @Override
+      public boolean hasNext() {
+        while (next == null) {
+          while (current == null || !current.hasNext()) {
+            if (!bucketIterator.hasNext()) {
+              return false;
+            }
+            bucket = bucketIterator.next();
+            if (bucket.period >= minPeriod) {
+              current = bucket.gossips.iterator();
+            }
+          }
+          GossipState gossipState = current.next();
+          if (bucket.holds(gossipState)) {
+            next = gossipState;
+          }
+        }
+        return true;
+      }
+
+      @Override
+      public GossipState next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        GossipState result = next;
+        next = null;
+        return result;
+      }
+    };
+  }
+
+  /**
+   * Returns gossips of buckets with period greater or equal to the given one, newest first.
+   *
+   * @param minPeriod min infection period
+   * @return iterator over gossips
+   */
+  Iterator<GossipState> newestSince(long minPeriod) {
+    Iterator<Bucket> bucketIterator = buckets.descendingIterator();
+    return new Iterator<GossipState>() {
+      private Bucket bucket;
+      private ListIterator<GossipState> current;
+      private GossipState next;
+
+      @Override
+      public boolean hasNext() {
+        while (next == null) {
+          while (current == null || !current.hasPrevious()) {
+            if (!bucketIterator.hasNext()) {
+              return false;
+            }
+            bucket = bucketIterator.next();
+            if (bucket.period < minPeriod) {
+              return false; // the rest buckets are older
+            }
+            current = bucket.gossips.listIterator(bucket.gossips.size());
+          }
+          GossipState gossipState = current.previous();
+          if (bucket.holds(gossipState)) {
+            next = gossipState;
+          }
+        }
+        return true;
+      }
+
+      @Override
+      public GossipState next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        GossipState result = next;
+        next = null;
+        return result;
+      }
+    };
+  }
+
+  /**
+   * Removes buckets with period less or equal to the given one.
+   *
+   * @param maxPeriod max infection period to remove
+   * @param onRemoved callback for every removed gossip
+   */
+  void sweep(long maxPeriod, Consumer<GossipState> onRemoved) {
+    while (!buckets.isEmpty() && buckets.peekFirst().period <= maxPeriod) {
+      Bucket bucket = buckets.pollFirst();
+      for (GossipState gossipState : bucket.gossips) {
+        if (bucket.holds(gossipState)) {
+          size--;
+          onRemoved.accept(gossipState);
+        }
+      }
+    }
+  }
+
+  private static final class Bucket {
+
+    private final long period;
+    private final List<GossipState> gossips = new ArrayList<>();
+
+    private Bucket(long period) {
+      this.period = period;
+    }
+
+    /** Returns false if gossip state was deferred to later bucket. */
+    private boolean holds(GossipState gossipState) {
+      return gossipState.spreadPeriod() == period;
+    }
+  }
+}
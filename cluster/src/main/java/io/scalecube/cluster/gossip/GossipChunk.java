@@ -0,0 +1,54 @@
+package io.scalecube.cluster.gossip;
+
+/**
+ * Chunk of serialized gossip message which is too large to be spread as a whole. Every chunk is
+ * spread as separate gossip and carries id and number of chunks of the whole message, so receiver
+ * reassembles message however chunks come.
+ */
+final class GossipChunk {
+
+  private String id;
+  private int index;
+  private int count;
+  private byte[] bytes;
+
+  /** Instantiates empty gossip chunk for deserialization purpose. */
+  GossipChunk() {}
+
+  GossipChunk(String id, int index, int count, byte[] bytes) {
+    this.id = id;
+    this.index = index;
+    this.count = count;
+    this.bytes = bytes;
+  }
+
+  /** Returns id of the whole message. */
+  public String id() {
+    return id;
+  }
+
+  public int index() {
+    return index;
+  }
+
+  public int count() {
+    return count;
+  }
+
+  public byte[] bytes() {
+    return bytes;
+  }
+
+  @Override
+  public String toString() {
+    return "GossipChunk{id="
+        + id
+        + ", index="
+        + index
+        + ", count="
+        + count
+        + ", bytes="
+        + (bytes != null ? bytes.length : 0)
+        + '}';
+  }
+}
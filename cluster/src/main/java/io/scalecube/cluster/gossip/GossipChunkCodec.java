@@ -0,0 +1,38 @@
+package io.scalecube.cluster.gossip;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.transport.binary.BinaryCodecs;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+
+/** Binary schema of {@link GossipChunk}. */
+public final class GossipChunkCodec implements DataCodec<GossipChunk> {
+
+  public static final int TYPE_ID = 23;
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<GossipChunk> dataType() {
+    return GossipChunk.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, GossipChunk data) {
+    BinaryCodecs.writeString(byteBuf, data.id());
+    BinaryCodecs.writeVarInt(byteBuf, data.index());
+    BinaryCodecs.writeVarInt(byteBuf, data.count());
+    BinaryCodecs.writeBytes(byteBuf, data.bytes());
+  }
+
+  @Override
+  public GossipChunk decode(BinaryMessageCodec codec, ByteBuf byteBuf) {
+    String id = BinaryCodecs.readString(byteBuf);
+    int index = BinaryCodecs.readVarInt(byteBuf);
+    int count = BinaryCodecs.readVarInt(byteBuf);
+    return new GossipChunk(id, index, count, BinaryCodecs.readBytes(byteBuf));
+  }
+}
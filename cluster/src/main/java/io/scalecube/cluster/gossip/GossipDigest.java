@@ -0,0 +1,113 @@
+package io.scalecube.cluster.gossip;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact digest of gossip ids, exchanged by anti-entropy. For every origin it carries sequence
+ * number high-water mark plus bitmap of the window of sequence numbers below it (see {@link
+ * GossipOrigins}). Digest of {@link GossipProtocolImpl#GOSSIP_DIGEST} lists gossips seen by sender,
+ * digest of {@link GossipProtocolImpl#GOSSIP_PULL} lists gossips wanted by sender.
+ */
+final class GossipDigest {
+
+  private List<Entry> entries;
+  private String from;
+
+  /** Instantiates empty gossip digest for deserialization purpose. */
+  GossipDigest() {}
+
+  public GossipDigest(List<Entry> entries, String from) {
+    this.entries = new ArrayList<>(entries);
+    this.from = from;
+  }
+
+  public List<Entry> entries() {
+    return entries;
+  }
+
+  public String from() {
+    return from;
+  }
+
+  @Override
+  public String toString() {
+    return "GossipDigest{entries=" + entries + ", from=" + from + '}';
+  }
+
+  /** Sequence numbers of one origin. */
+  static final class Entry {
+
+    private String gossiperId;
+    private long highWater;
+    private long[] window;
+
+    /** Instantiates empty entry for deserialization purpose. */
+    Entry() {}
+
+    Entry(String gossiperId, long highWater, long[] window) {
+      this.gossiperId = gossiperId;
+      this.highWater = highWater;
+      this.window = window;
+    }
+
+    String gossiperId() {
+      return gossiperId;
+    }
+
+    long highWater() {
+      return highWater;
+    }
+
+    long[] window() {
+      return window;
+    }
+
+    /**
+     * Returns whether sequence number is within the window and its bit is set.
+     *
+     * @param sequenceId sequence number
+     * @return true if sequence number is set
+     */
+    boolean contains(long sequenceId) {
+      return sequenceId <= highWater
+          && highWater - sequenceId < (long) window.length * Long.SIZE
+          && isSet(window, sequenceId);
+    }
+
+    /**
+     * Returns whether sequence number is set or is older than the window, that is whether digest
+     * sender has seen the gossip.
+     *
+     * @param sequenceId sequence number
+     * @return true if sequence number is seen
+     */
+    boolean seen(long sequenceId) {
+      return sequenceId <= highWater
+          && (highWater - sequenceId >= (long) window.length * Long.SIZE
+              || isSet(window, sequenceId));
+    }
+
+    static boolean isSet(long[] window, long sequenceId) {
+      int bit = (int) (sequenceId & (window.length * Long.SIZE - 1));
+      return (window[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    static void set(long[] window, long sequenceId) {
+      int bit = (int) (sequenceId & (window.length * Long.SIZE - 1));
+      window[bit >>> 6] |= 1L << bit;
+    }
+
+    @Override
+    public String toString() {
+      return "Entry{gossiperId="
+          + gossiperId
+          + ", highWater="
+          + highWater
+          + ", window="
+          + Arrays.toString(window)
+          + '}';
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package io.scalecube.cluster.gossip;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.transport.binary.BinaryCodecs;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Binary schema of {@link GossipDigest}. */
+public final class GossipDigestCodec implements DataCodec<GossipDigest> {
+
+  public static final int TYPE_ID = 22;
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<GossipDigest> dataType() {
+    return GossipDigest.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, GossipDigest data) {
+    BinaryCodecs.writeString(byteBuf, data.from());
+    List<GossipDigest.Entry> entries = data.entries();
+    BinaryCodecs.writeVarInt(byteBuf, entries.size());
+    for (GossipDigest.Entry entry : entries) {
+      BinaryCodecs.writeString(byteBuf, entry.gossiperId());
+      BinaryCodecs.writeVarLong(byteBuf, entry.highWater() + 1); // high-water mark may be -1
+      long[] window = entry.window();
+      BinaryCodecs.writeVarInt(byteBuf, window.length);
+      for (long word : window) {
+        byteBuf.writeLong(word);
+      }
+    }
+  }
+
+  @Override
+  public GossipDigest decode(BinaryMessageCodec codec, ByteBuf byteBuf) {
+    String from = BinaryCodecs.readString(byteBuf);
+    int count = BinaryCodecs.readVarInt(byteBuf);
+    List<GossipDigest.Entry> entries = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String gossiperId = BinaryCodecs.readString(byteBuf);
+      long highWater = BinaryCodecs.readVarLong(byteBuf) - 1;
+      int length = BinaryCodecs.readVarInt(byteBuf);
+      if (Integer.bitCount(length) != 1 || length > byteBuf.readableBytes() / Long.BYTES) {
+        throw new IllegalArgumentException("Invalid gossip digest window length: " + length);
+      }
+      long[] window = new long[length];
+      for (int j = 0; j < window.length; j++) {
+        window[j] = byteBuf.readLong();
+      }
+      entries.add(new GossipDigest.Entry(gossiperId, highWater, window));
+    }
+    return new GossipDigest(entries, from);
+  }
+}
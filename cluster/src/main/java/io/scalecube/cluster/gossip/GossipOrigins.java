@@ -0,0 +1,222 @@
+package io.scalecube.cluster.gossip;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Deduplication state of gossips per origin (member which started gossip). Gossip of an origin is
+ * identified by its sequence number, seen sequence numbers are tracked by high-water mark plus
+ * window bitmap of {@link #WINDOW_SIZE} sequence numbers below it. Gossips of an origin arrive out
+ * of order since they come through different members, so sequence number older than the window is
+ * checked exactly against live gossips and gossips swept recently, see {@link #sweep(long)}.
+ *
+ * <p><b>NOTE:</b> not thread safe, accessed only on gossip protocol scheduler.
+ */
+final class GossipOrigins {
+
+  static final int WINDOW_SIZE = 256;
+
+  private final Map<String, Origin> origins = new HashMap<>();
+
+  /**
+   * Returns origin state, creates one if there's no state for origin yet.
+   *
+   * @param gossiperId origin member id
+   * @param period current gossip period
+   * @return origin state
+   */
+  Origin getOrCreate(String gossiperId, long period) {
+    Origin origin = origins.computeIfAbsent(gossiperId, id -> new Origin());
+    origin.lastPeriod = period;
+    return origin;
+  }
+
+  /**
+   * Returns origin state.
+   *
+   * @param gossiperId origin member id
+   * @return origin state or null
+   */
+  Origin get(String gossiperId) {
+    return origins.get(gossiperId);
+  }
+
+  /**
+   * Returns digest of sequence numbers seen from every origin.
+   *
+   * @return digest entries
+   */
+  List<GossipDigest.Entry> digest() {
+    List<GossipDigest.Entry> entries = new ArrayList<>(origins.size());
+    origins.forEach((gossiperId, origin) -> entries.add(origin.digestEntry(gossiperId)));
+    return entries;
+  }
+
+  void forEach(BiConsumer<String, Origin> action) {
+    origins.forEach(action);
+  }
+
+  /**
+   * Sweeps gossips which were spread for the given number of periods and then forgets gossips and
+   * origins which stayed idle for as long again.
+   *
+   * @param gossips gossips of gossip protocol
+   * @param period current gossip period
+   * @param periodsToSweep number of periods gossip is kept for
+   * @param onSwept callback for every swept gossip
+   */
+  void sweep(
+      GossipBuffer gossips, long period, int periodsToSweep, Consumer<GossipState> onSwept) {
+    gossips.sweep(
+        period - periodsToSweep - 1,
+        gossipState -> {
+          Gossip gossip = gossipState.gossip();
+          Origin origin = origins.get(gossip.gossiperId());
+          if (origin != null) {
+            origin.removeLive(gossip.sequenceId(), period);
+          }
+          onSwept.accept(gossipState);
+        });
+    // nobody spreads gossips of idle origins anymore
+    sweep(period - 2L * periodsToSweep);
+  }
+
+  /**
+   * Forgets gossips swept before the given period and removes state of origins which have no live
+   * gossips and weren't seen since the given period.
+   *
+   * @param minPeriod min period to keep state of swept gossips and idle origins
+   */
+  void sweep(long minPeriod) {
+    for (Iterator<Origin> it = origins.values().iterator(); it.hasNext(); ) {
+      Origin origin = it.next();
+      origin.swept.values().removeIf(period -> period < minPeriod);
+      if (origin.live.isEmpty() && origin.lastPeriod < minPeriod) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Visits sequence numbers which digest entry has and origin hasn't seen, newest first.
+   *
+   * @param entry digest entry
+   * @param origin local state of the entry's origin or null
+   * @param action action for every unseen sequence number
+   */
+  static void forEachUnseen(GossipDigest.Entry entry, Origin origin, LongConsumer action) {
+    long windowSize = (long) entry.window().length * Long.SIZE;
+    for (long s = entry.highWater(); s >= 0 && entry.highWater() - s < windowSize; s--) {
+      if (entry.contains(s) && (origin == null || !origin.isSeen(s))) {
+        action.accept(s);
+      }
+    }
+  }
+
+  static final class Origin {
+
+    private final long[] window = new long[WINDOW_SIZE / Long.SIZE];
+    private final Map<Long, GossipState> live = new HashMap<>();
+    // sequence number of swept gossip -> period it was swept at
+    private final Map<Long, Long> swept = new HashMap<>();
+    private long highWater = -1;
+    private long lastPeriod;
+
+    /**
+     * Marks sequence number as seen.
+     *
+     * @param sequenceId sequence number
+     * @return true if sequence number wasn't seen before
+     */
+    boolean markSeen(long sequenceId) {
+      if (sequenceId > highWater) {
+        if (sequenceId - highWater >= WINDOW_SIZE) {
+          Arrays.fill(window, 0);
+        } else {
+          for (long s = highWater + 1; s < sequenceId; s++) {
+            clear(s);
+          }
+        }
+        highWater = sequenceId;
+        GossipDigest.Entry.set(window, sequenceId);
+        return true;
+      }
+      if (highWater - sequenceId >= WINDOW_SIZE) {
+        // older than window, caller makes new gossip live
+        return !isKnown(sequenceId);
+      }
+      if (GossipDigest.Entry.isSet(window, sequenceId)) {
+        return false;
+      }
+      GossipDigest.Entry.set(window, sequenceId);
+      return true;
+    }
+
+    /**
+     * Returns whether sequence number was seen, see {@link #markSeen(long)}.
+     *
+     * @param sequenceId sequence number
+     * @return true if sequence number was seen
+     */
+    boolean isSeen(long sequenceId) {
+      if (sequenceId > highWater) {
+        return false;
+      }
+      return highWater - sequenceId >= WINDOW_SIZE
+          ? isKnown(sequenceId)
+          : GossipDigest.Entry.isSet(window, sequenceId);
+    }
+
+    private boolean isKnown(long sequenceId) {
+      return live.containsKey(sequenceId) || swept.containsKey(sequenceId);
+    }
+
+    /**
+     * Returns digest entry of sequence numbers seen from this origin.
+     *
+     * @param gossiperId origin member id
+     * @return digest entry
+     */
+    GossipDigest.Entry digestEntry(String gossiperId) {
+      return new GossipDigest.Entry(gossiperId, highWater, window.clone());
+    }
+
+    GossipState live(long sequenceId) {
+      return live.get(sequenceId);
+    }
+
+    Collection<GossipState> live() {
+      return live.values();
+    }
+
+    void addLive(GossipState gossipState) {
+      live.put(gossipState.gossip().sequenceId(), gossipState);
+    }
+
+    /**
+     * Removes live gossip, its sequence number is remembered as seen until {@link
+     * GossipOrigins#sweep(long)} with greater period.
+     *
+     * @param sequenceId sequence number
+     * @param period current gossip period
+     */
+    void removeLive(long sequenceId, long period) {
+      if (live.remove(sequenceId) != null) {
+        swept.put(sequenceId, period);
+      }
+    }
+
+    private void clear(long sequenceId) {
+      int bit = (int) (sequenceId & (WINDOW_SIZE - 1));
+      window[bit >>> 6] &= ~(1L << bit);
+    }
+  }
+}
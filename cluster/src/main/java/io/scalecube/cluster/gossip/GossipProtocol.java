@@ -24,6 +24,16 @@ public interface GossipProtocol {
    */
   Mono<String> spread(Message message);
 
+  /**
+   * Spreads given message between cluster members and reports progress of spreading. By default
+   * reports only completion of spreading.
+   *
+   * @return progress of spreading gossip, the last progress is completed one
+   */
+  default Flux<GossipProgress> spreadWithProgress(Message message) {
+    return spread(message).map(gossipId -> new GossipProgress(gossipId, 0, 0, 1.0, true)).flux();
+  }
+
   /** Listens for gossips from other cluster members. */
   Flux<Message> listen();
 }
@@ -2,20 +2,26 @@
 
 import io.scalecube.cluster.ClusterMath;
 import io.scalecube.cluster.Member;
+import io.scalecube.cluster.fdetector.Piggyback;
 import io.scalecube.cluster.membership.MembershipEvent;
 import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.MessageCodec;
 import io.scalecube.cluster.transport.api.Transport;
 import io.scalecube.net.Address;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.Disposable;
@@ -25,31 +31,46 @@
 import reactor.core.publisher.FluxProcessor;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoSink;
 import reactor.core.scheduler.Scheduler;
 
-public final class GossipProtocolImpl implements GossipProtocol {
+public final class GossipProtocolImpl implements GossipProtocol, Piggyback {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GossipProtocolImpl.class);
 
   // Qualifiers
 
   public static final String GOSSIP_REQ = "sc/gossip/req";
+  public static final String GOSSIP_DIGEST = "sc/gossip/digest";
+  public static final String GOSSIP_PULL = "sc/gossip/pull";
+  public static final String GOSSIP_ACK = "sc/gossip/ack";
+
+  // Higher priority first, then older first
+  // Gossips of higher priority overtake older gossips of the same origin, see withinWindow()
+  private static final Comparator<GossipState> SPREAD_ORDER =
+      Comparator.<GossipState>comparingInt(GossipState::priority)
+          .reversed()
+          .thenComparingLong(GossipState::infectionPeriod);
 
   // Injected
 
   private final Member localMember;
   private final Transport transport;
   private final GossipConfig config;
+  private final GossipBatcher batcher;
+  private final GossipSender gossipSender;
 
   // Local State
 
   private long currentPeriod = 0;
   private long gossipCounter = 0;
-  private Map<String, GossipState> gossips = new HashMap<>();
-  private Map<String, MonoSink<String>> futures = new HashMap<>();
-
-  private List<Member> remoteMembers = new ArrayList<>();
+  private final GossipBuffer gossips = new GossipBuffer();
+  private final MemberSlots memberSlots = new MemberSlots();
+  private final GossipOrigins origins = new GossipOrigins();
+  // removed on cancellation of progress subscriber, which may happen on any thread
+  private final Map<Long, FluxSink<GossipProgress>> futures = new ConcurrentHashMap<>();
+  private final Set<String> originsToAck = new HashSet<>();
+
+  private final RemoteMembers remoteMembers = new RemoteMembers();
   private int remoteMembersIndex = -1;
 
   // Disposables
@@ -82,10 +103,33 @@ public GossipProtocolImpl(
       Flux<MembershipEvent> membershipProcessor,
       GossipConfig config,
       Scheduler scheduler) {
+    this(localMember, transport, membershipProcessor, config, MessageCodec.INSTANCE, scheduler);
+  }
+
+  /**
+   * Creates new instance of gossip protocol with given memberId, transport and settings.
+   *
+   * @param localMember local cluster member
+   * @param transport cluster transport
+   * @param membershipProcessor membership event processor
+   * @param config gossip protocol settings
+   * @param messageCodec transport message codec, used to estimate size of gossips; if null then
+   *     gossip requests are not limited by size
+   * @param scheduler scheduler
+   */
+  public GossipProtocolImpl(
+      Member localMember,
+      Transport transport,
+      Flux<MembershipEvent> membershipProcessor,
+      GossipConfig config,
+      MessageCodec messageCodec,
+      Scheduler scheduler) {
 
     this.transport = Objects.requireNonNull(transport);
     this.config = Objects.requireNonNull(config);
+    this.batcher = new GossipBatcher(messageCodec, config.gossipBatchMaxBytes());
     this.localMember = Objects.requireNonNull(localMember);
+    this.gossipSender = new GossipSender(localMember.id(), transport, batcher);
     this.scheduler = Objects.requireNonNull(scheduler);
 
     // Subscribe
@@ -97,8 +141,7 @@ public GossipProtocolImpl(
             transport
                 .listen()
                 .publishOn(scheduler)
-                .filter(this::isGossipReq)
-                .subscribe(this::onGossipReq, this::onError)));
+                .subscribe(this::onMessage, this::onError)));
   }
 
   @Override
@@ -109,6 +152,15 @@ public void start() {
             config.gossipInterval(),
             config.gossipInterval(),
             TimeUnit.MILLISECONDS));
+    long antiEntropyInterval = config.gossipAntiEntropyInterval();
+    if (antiEntropyInterval > 0) {
+      actionsDisposables.add(
+          scheduler.schedulePeriodically(
+              this::doAntiEntropy,
+              antiEntropyInterval,
+              antiEntropyInterval,
+              TimeUnit.MILLISECONDS));
+    }
   }
 
   @Override
@@ -122,9 +174,27 @@ public void stop() {
 
   @Override
   public Mono<String> spread(Message message) {
+    return spreadWithProgress(message).last().map(GossipProgress::gossipId);
+  }
+
+  /**
+   * Spreads given message between cluster members and reports progress of spreading once per
+   * gossip period, see {@link GossipConfig#gossipDeliveryTracking()}.
+   *
+   * @return progress of spreading gossip, the last progress is completed one
+   */
+  @Override
+  public Flux<GossipProgress> spreadWithProgress(Message message) {
     return Mono.fromCallable(() -> message)
         .subscribeOn(scheduler)
-        .flatMap(msg -> Mono.create(sink -> futures.put(createAndPutGossip(msg), sink)));
+        .flatMapMany(
+            msg ->
+                Flux.create(
+                    sink -> {
+                      long sequenceId = createAndPutGossip(msg);
+                      futures.put(sequenceId, sink);
+                      sink.onDispose(() -> futures.remove(sequenceId));
+                    }));
   }
 
   @Override
@@ -132,6 +202,60 @@ public Flux<Message> listen() {
     return subject.onBackpressureBuffer();
   }
 
+  /**
+   * Returns freshest gossips which the given member isn't infected with yet, gossips with priority
+   * qualifiers go first, see {@link GossipConfig#gossipPiggybackMaxBytes()}. Returned gossips are
+   * considered as spread to the member.
+   *
+   * <p><b>NOTE:</b> must be called on gossip protocol scheduler.
+   *
+   * @param member member ping or ack is sent to
+   * @return gossip request message or null
+   */
+  @Override
+  public Message outgoing(Member member) {
+    int maxBytes = config.gossipPiggybackMaxBytes();
+    if (maxBytes <= 0 || gossips.isEmpty()) {
+      return null;
+    }
+    int periodsToSpread =
+        ClusterMath.gossipPeriodsToSpread(config.gossipRepeatMult(), remoteMembers.size() + 1);
+    long minPeriod = currentPeriod - periodsToSpread;
+    int slot = memberSlots.slotOf(member.id());
+
+    Map<String, Long> oldestUnsent = oldestUnsent(gossips.since(minPeriod), slot);
+    List<GossipState> selected = new ArrayList<>();
+    int bytes = selectPiggyback(minPeriod, slot, true, maxBytes, oldestUnsent, selected);
+    selectPiggyback(minPeriod, slot, false, maxBytes - bytes, oldestUnsent, selected);
+    if (selected.isEmpty()) {
+      return null;
+    }
+
+    List<Gossip> result = new ArrayList<>(selected.size());
+    for (GossipState gossipState : selected) {
+      if (slot >= 0) {
+        gossipState.addToInfected(slot);
+      }
+      result.add(gossipState.gossip());
+    }
+    return gossipSender.gossipRequest(result);
+  }
+
+  /**
+   * Handles gossips piggybacked on ping or ack as gossip request.
+   *
+   * <p><b>NOTE:</b> must be called on gossip protocol scheduler.
+   *
+   * @param member member ping or ack is received from
+   * @param message attached message
+   */
+  @Override
+  public void incoming(Member member, Message message) {
+    if (isGossipReq(message)) {
+      onGossipReq(message);
+    }
+  }
+
   // ================================================
   // ============== Action Methods ==================
   // ================================================
@@ -140,45 +264,237 @@ private void doSpreadGossip() {
     // Increment period
     long period = currentPeriod++;
 
+    // Report gossips received since previous period to their origins
+    if (!originsToAck.isEmpty()) {
+      ackGossips();
+    }
+
     // Check any gossips exists
     if (gossips.isEmpty()) {
       return; // nothing to spread
     }
 
     try {
-      // Spread gossips to randomly selected member(s)
-      selectGossipMembers().forEach(member -> spreadGossipsTo(period, member));
+      // Spread gossips to randomly selected member(s) by priority and age within round budget
+      List<GossipState> candidates = selectGossipCandidates(period);
+      RoundBudget budget =
+          new RoundBudget(config.gossipRoundMaxBytes(), config.gossipRoundMaxMessages());
+      selectGossipMembers().forEach(member -> spreadGossipsTo(period, member, candidates, budget));
+
+      // Gossips which didn't get their turn and weren't sent to anyone roll over to the next round
+      for (GossipState gossipState : budget.starved) {
+        if (!budget.sent.contains(gossipState)) {
+          gossips.defer(gossipState, currentPeriod);
+        }
+      }
 
       // Sweep gossips
       sweepGossips(period);
+
+      // Report progress of own gossips
+      emitProgress();
     } catch (Exception ex) {
       LOGGER.warn("Exception at doSpreadGossip[{}]: {}", period, ex.getMessage(), ex);
     }
   }
 
+  private void ackGossips() {
+    try {
+      for (String gossiperId : originsToAck) {
+        Member member = remoteMembers.get(gossiperId);
+        GossipOrigins.Origin origin = origins.get(gossiperId);
+        if (member != null && origin != null) {
+          List<GossipDigest.Entry> entries =
+              Collections.singletonList(origin.digestEntry(gossiperId));
+          GossipDigest ack = new GossipDigest(entries, localMember.id());
+          gossipSender.send(member.address(), Message.withData(ack).qualifier(GOSSIP_ACK).build());
+        }
+      }
+    } catch (Exception ex) {
+      LOGGER.warn("Exception at ackGossips: {}", ex.getMessage(), ex);
+    } finally {
+      originsToAck.clear();
+    }
+  }
+
+  private void doAntiEntropy() {
+    if (remoteMembers.isEmpty()) {
+      return;
+    }
+    try {
+      // Random member pushes gossips missing in digest and pulls gossips it misses itself
+      List<Member> members = remoteMembers.list();
+      Member member = members.get(ThreadLocalRandom.current().nextInt(members.size()));
+      GossipDigest digest = new GossipDigest(origins.digest(), localMember.id());
+      gossipSender.send(
+          member.address(), Message.withData(digest).qualifier(GOSSIP_DIGEST).build());
+    } catch (Exception ex) {
+      LOGGER.warn("Exception at doAntiEntropy: {}", ex.getMessage(), ex);
+    }
+  }
+
   // ================================================
   // ============== Event Listeners =================
   // ================================================
 
-  private String createAndPutGossip(Message message) {
+  private void onMessage(Message message) {
+    if (isGossipReq(message)) {
+      onGossipReq(message);
+    } else if (GOSSIP_DIGEST.equals(message.qualifier())) {
+      onGossipDigest(message);
+    } else if (GOSSIP_PULL.equals(message.qualifier())) {
+      onGossipPull(message);
+    } else if (GOSSIP_ACK.equals(message.qualifier())) {
+      onGossipAck(message);
+    }
+  }
+
+  private long createAndPutGossip(Message message) {
     long period = this.currentPeriod;
-    Gossip gossip = new Gossip(generateGossipId(), message);
-    GossipState gossipState = new GossipState(gossip, period);
-    gossips.put(gossip.gossipId(), gossipState);
-    return gossip.gossipId();
+    Gossip gossip = new Gossip(localMember.id(), gossipCounter++, message);
+    GossipOrigins.Origin origin = origins.getOrCreate(localMember.id(), period);
+    origin.markSeen(gossip.sequenceId()); // so that own gossip coming back isn't emitted
+    putGossip(origin, new GossipState(gossip, period));
+    return gossip.sequenceId();
+  }
+
+  private void putGossip(GossipOrigins.Origin origin, GossipState gossipState) {
+    gossipState.priority(priorityOf(gossipState.gossip().message()));
+    gossips.add(gossipState);
+    origin.addLive(gossipState);
   }
 
   private void onGossipReq(Message message) {
     long period = this.currentPeriod;
     GossipRequest gossipRequest = message.data();
+    int fromSlot = memberSlots.slotOf(gossipRequest.from()); // -1 if not a known member yet
+    String gossiperId = null;
+    GossipOrigins.Origin origin = null;
+    boolean own = false;
     for (Gossip gossip : gossipRequest.gossips()) {
-      GossipState gossipState = gossips.get(gossip.gossipId());
-      if (gossipState == null) { // new gossip
+      // gossips of one request usually share origin
+      if (!gossip.gossiperId().equals(gossiperId)) {
+        gossiperId = gossip.gossiperId();
+        own = localMember.id().equals(gossiperId);
+        // own gossip which came back is never new
+        origin = own ? origins.get(gossiperId) : origins.getOrCreate(gossiperId, period);
+      }
+      if (origin == null) {
+        continue;
+      }
+      GossipState gossipState;
+      if (!own && origin.markSeen(gossip.sequenceId())) { // new gossip
         gossipState = new GossipState(gossip, period);
-        gossips.put(gossip.gossipId(), gossipState);
+        putGossip(origin, gossipState);
         sink.next(gossip.message());
+        if (config.gossipDeliveryTracking()) {
+          originsToAck.add(gossiperId);
+        }
+      } else {
+        gossipState = origin.live(gossip.sequenceId()); // null if already swept
+      }
+      if (gossipState != null && fromSlot >= 0) {
+        if (own) {
+          gossipState.addToConfirmed(fromSlot); // own gossip came back from member
+        } else {
+          gossipState.addToInfected(fromSlot);
+        }
+      }
+    }
+  }
+
+  /** Pushes live gossips which digest sender hasn't seen and pulls gossips it has seen. */
+  private void onGossipDigest(Message message) {
+    GossipDigest digest = message.data();
+    Member member = remoteMembers.get(digest.from());
+    if (member == null) {
+      return; // not a known member yet
+    }
+    int slot = memberSlots.slotOf(member.id());
+
+    Map<String, GossipDigest.Entry> entries = new HashMap<>();
+    List<GossipDigest.Entry> pull = new ArrayList<>();
+    for (GossipDigest.Entry entry : digest.entries()) {
+      entries.put(entry.gossiperId(), entry);
+      if (!localMember.id().equals(entry.gossiperId())) { // own gossips are never missed
+        GossipDigest.Entry wanted = wanted(entry, origins.get(entry.gossiperId()));
+        if (wanted != null) {
+          pull.add(wanted);
+        }
+      }
+    }
+
+    List<GossipState> push = new ArrayList<>();
+    origins.forEach(
+        (gossiperId, origin) -> {
+          GossipDigest.Entry entry = entries.get(gossiperId);
+          boolean own = localMember.id().equals(gossiperId);
+          for (GossipState gossipState : origin.live()) {
+            long sequenceId = gossipState.gossip().sequenceId();
+            if (entry == null || !entry.seen(sequenceId)) {
+              push.add(gossipState);
+            }
+            if (slot >= 0) {
+              if (own && entry != null && entry.contains(sequenceId)) {
+                gossipState.addToConfirmed(slot);
+              } else {
+                gossipState.addToInfected(slot); // seen already or pushed right now
+              }
+            }
+          }
+        });
+
+    if (!push.isEmpty()) {
+      LOGGER.debug("Push {} gossips missed by {}", push.size(), member);
+      gossipSender.sendGossips(member.address(), push);
+    }
+    if (!pull.isEmpty()) {
+      GossipDigest pullDigest = new GossipDigest(pull, localMember.id());
+      gossipSender.send(
+          member.address(), Message.withData(pullDigest).qualifier(GOSSIP_PULL).build());
+    }
+  }
+
+  /** Sends live gossips which pull sender wants. */
+  private void onGossipPull(Message message) {
+    GossipDigest digest = message.data();
+    Member member = remoteMembers.get(digest.from());
+    if (member == null) {
+      return; // not a known member yet
+    }
+    List<GossipState> push = new ArrayList<>();
+    for (GossipDigest.Entry entry : digest.entries()) {
+      GossipOrigins.Origin origin = origins.get(entry.gossiperId());
+      if (origin != null) {
+        for (GossipState gossipState : origin.live()) {
+          if (entry.contains(gossipState.gossip().sequenceId())) {
+            push.add(gossipState);
+          }
+        }
+      }
+    }
+    if (!push.isEmpty()) {
+      LOGGER.debug("Push {} gossips pulled by {}", push.size(), member);
+      gossipSender.sendGossips(member.address(), push);
+    }
+  }
+
+  /** Marks own gossips which ack sender has seen as confirmed. */
+  private void onGossipAck(Message message) {
+    GossipDigest digest = message.data();
+    int slot = memberSlots.slotOf(digest.from());
+    GossipOrigins.Origin origin = origins.get(localMember.id());
+    if (slot < 0 || origin == null) {
+      return; // not a known member yet or no own gossips
+    }
+    for (GossipDigest.Entry entry : digest.entries()) {
+      if (localMember.id().equals(entry.gossiperId())) {
+        for (GossipState gossipState : origin.live()) {
+          if (entry.seen(gossipState.gossip().sequenceId())) {
+            gossipState.addToConfirmed(slot);
+          }
+        }
       }
-      gossipState.addToInfected(gossipRequest.from());
     }
   }
 
@@ -186,12 +502,18 @@ private void onMemberEvent(MembershipEvent event) {
     Member member = event.member();
     if (event.isRemoved()) {
       boolean removed = remoteMembers.remove(member);
+      int slot = memberSlots.remove(member.id());
+      if (slot >= 0) {
+        // slot will be reused by another member
+        gossips.forEach(gossipState -> gossipState.removeFromInfected(slot));
+      }
       if (removed) {
         LOGGER.debug("Removed {} from remoteMembers list (size={})", member, remoteMembers.size());
       }
     }
     if (event.isAdded()) {
       remoteMembers.add(member);
+      memberSlots.add(member.id());
       LOGGER.debug("Added {} to remoteMembers list (size={})", member, remoteMembers.size());
     }
   }
@@ -208,50 +530,181 @@ private boolean isGossipReq(Message message) {
     return GOSSIP_REQ.equals(message.qualifier());
   }
 
-  private String generateGossipId() {
-    return localMember.id() + "-" + gossipCounter++;
-  }
-
-  private void spreadGossipsTo(long period, Member member) {
+  private void spreadGossipsTo(
+      long period, Member member, List<GossipState> candidates, RoundBudget budget) {
     // Select gossips to send
-    List<Gossip> gossips = selectGossipsToSend(period, member);
+    List<Gossip> gossips = selectGossipsToSend(member, candidates, budget);
     if (gossips.isEmpty()) {
       return; // nothing to spread
     }
 
     // Send gossip request
     Address address = member.address();
+    Message message = gossipSender.gossipRequest(gossips);
+
+    transport
+        .send(address, message)
+        .subscribe(
+            null,
+            ex ->
+                LOGGER.debug(
+                    "Failed to send GossipReq[{}]: {} to {}, cause: {}",
+                    period,
+                    message,
+                    address,
+                    ex.toString()));
+  }
+
+  /**
+   * Returns sequence numbers which digest entry has and local origin hasn't seen.
+   *
+   * @param entry digest entry
+   * @param origin local origin state or null
+   * @return entry of wanted sequence numbers or null if nothing is wanted
+   */
+  private static GossipDigest.Entry wanted(GossipDigest.Entry entry, GossipOrigins.Origin origin) {
+    long[] window = new long[entry.window().length];
+    GossipOrigins.forEachUnseen(
+        entry, origin, sequenceId -> GossipDigest.Entry.set(window, sequenceId));
+    for (long word : window) {
+      if (word != 0) {
+        return new GossipDigest.Entry(entry.gossiperId(), entry.highWater(), window);
+      }
+    }
+    return null;
+  }
 
-    gossips.stream()
-        .map(this::buildGossipRequestMessage)
-        .forEach(
-            message ->
-                transport
-                    .send(address, message)
-                    .subscribe(
-                        null,
-                        ex ->
-                            LOGGER.debug(
-                                "Failed to send GossipReq[{}]: {} to {}, cause: {}",
-                                period,
-                                message,
-                                address,
-                                ex.toString())));
-  }
-
-  private List<Gossip> selectGossipsToSend(long period, Member member) {
+  /**
+   * Returns gossips to spread in this period, gossips of higher priority go first, older gossips go
+   * first within the same priority.
+   */
+  private List<GossipState> selectGossipCandidates(long period) {
     int periodsToSpread =
         ClusterMath.gossipPeriodsToSpread(config.gossipRepeatMult(), remoteMembers.size() + 1);
-    return gossips.values().stream()
-        .filter(
-            gossipState -> gossipState.infectionPeriod() + periodsToSpread >= period) // max rounds
-        .filter(gossipState -> !gossipState.isInfected(member.id())) // already infected
-        .map(GossipState::gossip)
-        .collect(Collectors.toList());
+    List<GossipState> result = new ArrayList<>(gossips.size());
+    gossips.since(period - periodsToSpread).forEachRemaining(result::add);
+    result.sort(SPREAD_ORDER);
+    return result;
+  }
+
+  private List<Gossip> selectGossipsToSend(
+      Member member, List<GossipState> candidates, RoundBudget budget) {
+    // As many as fit into one request, the rest waits for the next period
+    List<Gossip> result = new ArrayList<>();
+    long bytes = 0;
+    boolean full = false; // either request or round budget
+    int slot = memberSlots.slotOf(member.id());
+    Map<String, Long> oldestUnsent = oldestUnsent(candidates.iterator(), slot);
+    for (GossipState gossipState : candidates) {
+      if (slot >= 0 && gossipState.isInfected(slot)) {
+        continue; // already infected
+      }
+      if (!withinWindow(gossipState, oldestUnsent)) {
+        budget.starved.add(gossipState); // goes after older gossips of its origin
+        continue;
+      }
+      if (full) {
+        budget.starved.add(gossipState);
+        continue;
+      }
+      int size = batcher.sizeOf(gossipState);
+      if ((!result.isEmpty() && bytes + size > config.gossipBatchMaxBytes())
+          || !budget.tryConsume(size)) {
+        full = true;
+        budget.starved.add(gossipState);
+        continue;
+      }
+      budget.sent.add(gossipState);
+      result.add(gossipState.gossip());
+      bytes += size;
+    }
+    return result;
+  }
+
+  /**
+   * Returns gossip priority, gossips with priority qualifiers go before gossips of any priority
+   * set by {@link GossipConfig#HEADER_GOSSIP_PRIORITY} header.
+   */
+  private int priorityOf(Message message) {
+    if (config.gossipPriorityQualifiers().contains(message.qualifier())) {
+      return Integer.MAX_VALUE;
+    }
+    String priority = message.header(GossipConfig.HEADER_GOSSIP_PRIORITY);
+    if (priority == null) {
+      return 0;
+    }
+    try {
+      return Math.min(Integer.parseInt(priority), Integer.MAX_VALUE - 1);
+    } catch (NumberFormatException ex) {
+      LOGGER.warn("Invalid gossip priority: {}, message: {}", priority, message);
+      return 0;
+    }
+  }
+
+  /**
+   * Returns the oldest sequence number per origin among gossips not yet sent to member.
+   *
+   * @param gossipStates gossips to spread
+   * @param slot member slot or -1
+   * @return origin member id -> oldest sequence number of gossip member wasn't infected with
+   */
+  private static Map<String, Long> oldestUnsent(Iterator<GossipState> gossipStates, int slot) {
+    Map<String, Long> result = new HashMap<>();
+    while (gossipStates.hasNext()) {
+      GossipState gossipState = gossipStates.next();
+      if (slot < 0 || !gossipState.isInfected(slot)) {
+        Gossip gossip = gossipState.gossip();
+        result.merge(gossip.gossiperId(), gossip.sequenceId(), Math::min);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns whether gossip may be sent ahead of older unsent gossips of its origin. Receiver's
+   * dedup window follows the newest sequence number it has seen, so gossip overtaking older ones by
+   * {@link GossipOrigins#WINDOW_SIZE} or more would push them below the window, where receiver's
+   * digest and ack report them as seen. Such gossip waits for older ones instead.
+   */
+  private static boolean withinWindow(GossipState gossipState, Map<String, Long> oldestUnsent) {
+    Gossip gossip = gossipState.gossip();
+    Long oldest = oldestUnsent.get(gossip.gossiperId());
+    return oldest == null || gossip.sequenceId() - oldest < GossipOrigins.WINDOW_SIZE;
+  }
+
+  private int selectPiggyback(
+      long minPeriod,
+      int slot,
+      boolean priority,
+      int maxBytes,
+      Map<String, Long> oldestUnsent,
+      List<GossipState> result) {
+    Set<String> priorityQualifiers = config.gossipPriorityQualifiers();
+    int bytes = 0;
+    for (Iterator<GossipState> it = gossips.newestSince(minPeriod); it.hasNext(); ) {
+      GossipState gossipState = it.next();
+      if (priority != priorityQualifiers.contains(gossipState.gossip().message().qualifier())) {
+        continue;
+      }
+      if (slot >= 0 && gossipState.isInfected(slot)) {
+        continue; // already infected
+      }
+      if (!withinWindow(gossipState, oldestUnsent)) {
+        continue; // goes after older gossips of its origin
+      }
+      int size = batcher.sizeOf(gossipState);
+      if (bytes + size > maxBytes) {
+        continue; // doesn't fit, but smaller one may
+      }
+      result.add(gossipState);
+      bytes += size;
+    }
+    return bytes;
   }
 
   private List<Member> selectGossipMembers() {
     int gossipFanout = config.gossipFanout();
+    List<Member> remoteMembers = this.remoteMembers.list();
     if (remoteMembers.size() < gossipFanout) { // select all
       return remoteMembers;
     } else { // select random members
@@ -273,33 +726,90 @@ private List<Member> selectGossipMembers() {
     }
   }
 
-  private Message buildGossipRequestMessage(Gossip gossip) {
-    GossipRequest gossipRequest = new GossipRequest(gossip, localMember.id());
-    return Message.withData(gossipRequest).qualifier(GOSSIP_REQ).build();
-  }
-
   private void sweepGossips(long period) {
-    // Select gossips to sweep
+    // Sweep buckets of gossips which were spread long enough
     int periodsToSweep =
         ClusterMath.gossipPeriodsToSweep(config.gossipRepeatMult(), remoteMembers.size() + 1);
-    Set<GossipState> gossipsToRemove =
-        gossips.values().stream()
-            .filter(gossipState -> period > gossipState.infectionPeriod() + periodsToSweep)
-            .collect(Collectors.toSet());
+    origins.sweep(gossips, period, periodsToSweep, this::onGossipSwept);
+  }
 
-    // Check if anything selected
-    if (gossipsToRemove.isEmpty()) {
-      return; // nothing to sweep
+  private void onGossipSwept(GossipState gossipState) {
+    Gossip gossip = gossipState.gossip();
+    LOGGER.debug("Sweep gossip: {}", gossipState);
+    if (localMember.id().equals(gossip.gossiperId())) {
+      FluxSink<GossipProgress> sink = futures.remove(gossip.sequenceId());
+      if (sink != null) {
+        sink.next(progressOf(gossipState, true));
+        sink.complete();
+      }
     }
+  }
 
-    // Sweep gossips
-    LOGGER.debug("Sweep gossips[{}]: {}", period, gossipsToRemove);
-    for (GossipState gossipState : gossipsToRemove) {
-      gossips.remove(gossipState.gossip().gossipId());
-      MonoSink<String> sink = futures.remove(gossipState.gossip().gossipId());
-      if (sink != null) {
-        sink.success(gossipState.gossip().gossipId());
+  private void emitProgress() {
+    if (futures.isEmpty()) {
+      return;
+    }
+    GossipOrigins.Origin origin = origins.get(localMember.id());
+    if (origin == null) {
+      return;
+    }
+    futures.forEach(
+        (sequenceId, sink) -> {
+          GossipState gossipState = origin.live(sequenceId);
+          if (gossipState != null) {
+            sink.next(progressOf(gossipState, false));
+          }
+        });
+  }
+
+  private GossipProgress progressOf(GossipState gossipState, boolean completed) {
+    int membersCount = remoteMembers.size();
+    int infected = Math.min(gossipState.confirmedCount(), membersCount);
+    double estimatedReach = 1.0;
+    if (membersCount > 0) {
+      // estimate is for whole cluster including this member
+      int clusterSize = membersCount + 1;
+      long periods = currentPeriod - gossipState.infectionPeriod();
+      double reach = ClusterMath.gossipReachEstimate(config.gossipFanout(), clusterSize, periods);
+      estimatedReach =
+          Math.max((double) infected / membersCount, (reach * clusterSize - 1) / membersCount);
+    }
+    return new GossipProgress(
+        gossipState.gossip().gossipId(), infected, membersCount, estimatedReach, completed);
+  }
+
+  /**
+   * Bytes and messages sent to all members in one gossip round, see {@link
+   * GossipConfig#gossipRoundMaxBytes()} and {@link GossipConfig#gossipRoundMaxMessages()}.
+   */
+  private static final class RoundBudget {
+
+    private final int maxBytes;
+    private final int maxMessages;
+    private long bytes;
+    private int messages;
+
+    // Gossips sent to at least one member in round
+    private final Set<GossipState> sent = new HashSet<>();
+
+    // Gossips which didn't get their turn for some member in round
+    private final Set<GossipState> starved = new HashSet<>();
+
+    private RoundBudget(int maxBytes, int maxMessages) {
+      this.maxBytes = maxBytes;
+      this.maxMessages = maxMessages;
+    }
+
+    /** Consumes budget for gossip of the given size, the first gossip of round always fits. */
+    private boolean tryConsume(int size) {
+      if (messages > 0
+          && ((maxBytes > 0 && bytes + size > maxBytes)
+              || (maxMessages > 0 && messages >= maxMessages))) {
+        return false;
       }
+      bytes += size;
+      messages++;
+      return true;
     }
   }
 
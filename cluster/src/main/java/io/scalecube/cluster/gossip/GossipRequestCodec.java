@@ -0,0 +1,50 @@
+package io.scalecube.cluster.gossip;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.transport.binary.BinaryCodecs;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Binary schema of {@link GossipRequest}, gossip messages are written as nested messages. */
+public final class GossipRequestCodec implements DataCodec<GossipRequest> {
+
+  public static final int TYPE_ID = 17;
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<GossipRequest> dataType() {
+    return GossipRequest.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, GossipRequest data)
+      throws Exception {
+    BinaryCodecs.writeString(byteBuf, data.from());
+    List<Gossip> gossips = data.gossips();
+    BinaryCodecs.writeVarInt(byteBuf, gossips.size());
+    for (Gossip gossip : gossips) {
+      BinaryCodecs.writeString(byteBuf, gossip.gossiperId());
+      BinaryCodecs.writeVarLong(byteBuf, gossip.sequenceId());
+      codec.writeMessage(gossip.message(), byteBuf);
+    }
+  }
+
+  @Override
+  public GossipRequest decode(BinaryMessageCodec codec, ByteBuf byteBuf) throws Exception {
+    String from = BinaryCodecs.readString(byteBuf);
+    int count = BinaryCodecs.readVarInt(byteBuf);
+    List<Gossip> gossips = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String gossiperId = BinaryCodecs.readString(byteBuf);
+      long sequenceId = BinaryCodecs.readVarLong(byteBuf);
+      gossips.add(new Gossip(gossiperId, sequenceId, codec.readMessage(byteBuf)));
+    }
+    return new GossipRequest(gossips, from);
+  }
+}
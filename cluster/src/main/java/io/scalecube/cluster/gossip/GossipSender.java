@@ -0,0 +1,72 @@
+package io.scalecube.cluster.gossip;
+
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.Transport;
+import io.scalecube.net.Address;
+import java.util.List;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends messages of gossip protocol. Sending is fire and forget: gossips are spread redundantly, so
+ * failed send is only logged.
+ */
+final class GossipSender {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GossipSender.class);
+
+  private final String localMemberId;
+  private final Transport transport;
+  private final GossipBatcher batcher;
+
+  /**
+   * Constructor.
+   *
+   * @param localMemberId local member id, gossip requests are sent on behalf of it
+   * @param transport cluster transport
+   * @param batcher batcher of gossip requests
+   */
+  GossipSender(String localMemberId, Transport transport, GossipBatcher batcher) {
+    this.localMemberId = Objects.requireNonNull(localMemberId);
+    this.transport = Objects.requireNonNull(transport);
+    this.batcher = Objects.requireNonNull(batcher);
+  }
+
+  /**
+   * Returns gossip request message of the given gossips.
+   *
+   * @param gossips gossips
+   * @return gossip request message
+   */
+  Message gossipRequest(List<Gossip> gossips) {
+    GossipRequest gossipRequest = new GossipRequest(gossips, localMemberId);
+    return Message.withData(gossipRequest).qualifier(GossipProtocolImpl.GOSSIP_REQ).build();
+  }
+
+  /**
+   * Sends gossips in as many gossip requests as needed to fit into gossip batch max bytes.
+   *
+   * @param address member address
+   * @param gossipStates gossips
+   */
+  void sendGossips(Address address, List<GossipState> gossipStates) {
+    batcher.forEachBatch(gossipStates, batch -> send(address, gossipRequest(batch)));
+  }
+
+  /**
+   * Sends message.
+   *
+   * @param address member address
+   * @param message message
+   */
+  void send(Address address, Message message) {
+    transport
+        .send(address, message)
+        .subscribe(
+            null,
+            ex ->
+                LOGGER.debug(
+                    "Failed to send {} to {}, cause: {}", message, address, ex.toString()));
+  }
+}
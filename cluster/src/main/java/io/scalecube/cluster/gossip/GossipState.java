@@ -1,24 +1,39 @@
 package io.scalecube.cluster.gossip;
 
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Objects;
-import java.util.Set;
 
 /** Data related to gossip, maintained locally on each node. */
 final class GossipState {
 
+  private static final long[] EMPTY = new long[0];
+
   /** Target gossip. */
   private final Gossip gossip;
 
   /** Local gossip period when gossip was received for the first time. */
   private final long infectionPeriod;
 
-  /** Set of member IDs this gossip was received from. */
-  private final Set<String> infected = new HashSet<>();
+  /** Local gossip period since which gossip is spread, later than infection period if deferred. */
+  private long spreadPeriod;
+
+  /** Priority of gossip, see {@link GossipConfig#HEADER_GOSSIP_PRIORITY}. */
+  private int priority;
+
+  /** Slots (see {@link MemberSlots}) of members this gossip was received from, as a bitset. */
+  private long[] infected = EMPTY;
+
+  /** Slots of members known to have received this gossip, subset of infected ones. */
+  private long[] confirmed = EMPTY;
+
+  /** Serialized size of gossip message, -1 if not computed yet. */
+  private int size = -1;
 
   GossipState(Gossip gossip, long infectionPeriod) {
     this.gossip = Objects.requireNonNull(gossip);
     this.infectionPeriod = infectionPeriod;
+    this.spreadPeriod = infectionPeriod;
   }
 
   public Gossip gossip() {
@@ -29,12 +44,80 @@ public long infectionPeriod() {
     return infectionPeriod;
   }
 
-  public void addToInfected(String memberId) {
-    infected.add(memberId);
+  public long spreadPeriod() {
+    return spreadPeriod;
+  }
+
+  public void spreadPeriod(long spreadPeriod) {
+    this.spreadPeriod = spreadPeriod;
+  }
+
+  public int priority() {
+    return priority;
+  }
+
+  public void priority(int priority) {
+    this.priority = priority;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void size(int size) {
+    this.size = size;
+  }
+
+  public void addToInfected(int slot) {
+    infected = set(infected, slot);
+  }
+
+  /** Marks member as infected and known to have received this gossip. */
+  public void addToConfirmed(int slot) {
+    infected = set(infected, slot);
+    confirmed = set(confirmed, slot);
+  }
+
+  public void removeFromInfected(int slot) {
+    clear(infected, slot);
+    clear(confirmed, slot);
+  }
+
+  public int infectedCount() {
+    return count(infected);
+  }
+
+  public int confirmedCount() {
+    return count(confirmed);
+  }
+
+  public boolean isInfected(int slot) {
+    int index = slot >>> 6;
+    return index < infected.length && (infected[index] & (1L << slot)) != 0;
+  }
+
+  private static long[] set(long[] bits, int slot) {
+    int index = slot >>> 6;
+    if (index >= bits.length) {
+      bits = Arrays.copyOf(bits, index + 1);
+    }
+    bits[index] |= 1L << slot;
+    return bits;
+  }
+
+  private static void clear(long[] bits, int slot) {
+    int index = slot >>> 6;
+    if (index < bits.length) {
+      bits[index] &= ~(1L << slot);
+    }
   }
 
-  public boolean isInfected(String memberId) {
-    return infected.contains(memberId);
+  private static int count(long[] bits) {
+    int count = 0;
+    for (long word : bits) {
+      count += Long.bitCount(word);
+    }
+    return count;
   }
 
   @Override
@@ -43,8 +126,14 @@ public String toString() {
         + gossip
         + ", infectionPeriod="
         + infectionPeriod
+        + ", spreadPeriod="
+        + spreadPeriod
+        + ", priority="
+        + priority
         + ", infected="
-        + infected
+        + BitSet.valueOf(infected)
+        + ", confirmed="
+        + BitSet.valueOf(confirmed)
         + '}';
   }
 }
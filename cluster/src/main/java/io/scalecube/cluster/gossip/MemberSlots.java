@@ -0,0 +1,65 @@
+package io.scalecube.cluster.gossip;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps member ids to dense integer slots, so that per gossip state can be kept in bitsets indexed
+ * by slot. Slots of removed members are reused, lowest first.
+ *
+ * <p><b>NOTE:</b> not thread safe, accessed only on gossip protocol scheduler.
+ */
+final class MemberSlots {
+
+  private final Map<String, Integer> slots = new HashMap<>();
+  private final BitSet freeSlots = new BitSet();
+  private int nextSlot;
+
+  /**
+   * Returns slot of the member, allocates slot if member doesn't have one.
+   *
+   * @param memberId member id
+   * @return slot
+   */
+  int add(String memberId) {
+    Integer slot = slots.get(memberId);
+    if (slot != null) {
+      return slot;
+    }
+    int freeSlot = freeSlots.nextSetBit(0);
+    if (freeSlot >= 0) {
+      freeSlots.clear(freeSlot);
+    } else {
+      freeSlot = nextSlot++;
+    }
+    slots.put(memberId, freeSlot);
+    return freeSlot;
+  }
+
+  /**
+   * Releases slot of the member.
+   *
+   * @param memberId member id
+   * @return released slot or -1 if member had no slot
+   */
+  int remove(String memberId) {
+    Integer slot = slots.remove(memberId);
+    if (slot == null) {
+      return -1;
+    }
+    freeSlots.set(slot);
+    return slot;
+  }
+
+  /**
+   * Returns slot of the member.
+   *
+   * @param memberId member id
+   * @return slot or -1 if member has no slot
+   */
+  int slotOf(String memberId) {
+    Integer slot = slots.get(memberId);
+    return slot != null ? slot : -1;
+  }
+}
@@ -0,0 +1,555 @@
+package io.scalecube.cluster.gossip;
+
+import io.scalecube.cluster.ClusterMath;
+import io.scalecube.cluster.Member;
+import io.scalecube.cluster.membership.MembershipEvent;
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.MessageCodec;
+import io.scalecube.cluster.transport.api.Transport;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxProcessor;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Gossip protocol based on epidemic broadcast trees (Plumtree). Gossips are eagerly pushed to
+ * eager peers, which form spanning tree, while lazy peers get only announcements of gossip ids
+ * (IHAVE), batched per gossip period. Gossip received twice prunes the link it came by second time
+ * (PRUNE moves peers to lazy), gossip which was announced, but didn't come within graft timeout is
+ * requested from announcer (GRAFT moves peers to eager), so the tree heals when members fail.
+ *
+ * <p>Peers are random subset of members of about log2(N) size, but not less than gossip fanout.
+ * Peer relation is symmetric: member which gets message from non-peer adds it to peers. New peer
+ * gets announcements of all live gossips, so members which join the tree late catch up.
+ */
+public final class PlumtreeGossipProtocol implements GossipProtocol {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PlumtreeGossipProtocol.class);
+
+  // Qualifiers
+
+  public static final String GOSSIP_IHAVE = "sc/gossip/ihave";
+  public static final String GOSSIP_GRAFT = "sc/gossip/graft";
+  public static final String GOSSIP_PRUNE = "sc/gossip/prune";
+
+  // Periods announced gossip is awaited for before graft
+  private static final int GRAFT_TIMEOUT_PERIODS = 2;
+
+  // Injected
+
+  private final Member localMember;
+  private final GossipConfig config;
+  private final GossipSender gossipSender;
+
+  // Local State
+
+  private long currentPeriod = 0;
+  private long gossipCounter = 0;
+  private final GossipBuffer gossips = new GossipBuffer();
+  private final GossipOrigins origins = new GossipOrigins();
+  // removed on cancellation of spread subscriber, which may happen on any thread
+  private final Map<Long, MonoSink<String>> futures = new ConcurrentHashMap<>();
+
+  private final RemoteMembers remoteMembers = new RemoteMembers();
+  private final Set<Member> eagerPeers = new LinkedHashSet<>();
+  private final Set<Member> lazyPeers = new LinkedHashSet<>();
+  private final Map<Member, List<Gossip>> announcements = new HashMap<>();
+  // origin member id -> sequence number -> missing gossip
+  private final Map<String, Map<Long, Missing>> missing = new HashMap<>();
+
+  // Disposables
+
+  private final Disposable.Composite actionsDisposables = Disposables.composite();
+
+  // Subject
+
+  private final FluxProcessor<Message, Message> subject =
+      DirectProcessor.<Message>create().serialize();
+
+  private final FluxSink<Message> sink = subject.sink();
+
+  // Scheduled
+
+  private final Scheduler scheduler;
+
+  /**
+   * Creates new instance of plumtree gossip protocol with given memberId, transport and settings.
+   *
+   * @param localMember local cluster member
+   * @param transport cluster transport
+   * @param membershipProcessor membership event processor
+   * @param config gossip protocol settings
+   * @param messageCodec transport message codec, used to estimate size of gossips; if null then
+   *     gossip requests are not limited by size
+   * @param scheduler scheduler
+   */
+  public PlumtreeGossipProtocol(
+      Member localMember,
+      Transport transport,
+      Flux<MembershipEvent> membershipProcessor,
+      GossipConfig config,
+      MessageCodec messageCodec,
+      Scheduler scheduler) {
+
+    this.config = Objects.requireNonNull(config);
+    this.localMember = Objects.requireNonNull(localMember);
+    this.gossipSender =
+        new GossipSender(
+            localMember.id(),
+            transport,
+            new GossipBatcher(messageCodec, config.gossipBatchMaxBytes()));
+    this.scheduler = Objects.requireNonNull(scheduler);
+
+    // Subscribe
+    actionsDisposables.addAll(
+        Arrays.asList(
+            membershipProcessor //
+                .publishOn(scheduler)
+                .subscribe(this::onMemberEvent, this::onError),
+            transport
+                .listen()
+                .publishOn(scheduler)
+                .subscribe(this::onMessage, this::onError)));
+  }
+
+  @Override
+  public void start() {
+    actionsDisposables.add(
+        scheduler.schedulePeriodically(
+            this::doPeriod,
+            config.gossipInterval(),
+            config.gossipInterval(),
+            TimeUnit.MILLISECONDS));
+  }
+
+  @Override
+  public void stop() {
+    // Stop accepting gossip requests and spreading gossips
+    actionsDisposables.dispose();
+
+    // Stop publishing events
+    sink.complete();
+  }
+
+  @Override
+  public Mono<String> spread(Message message) {
+    return Mono.fromCallable(() -> message)
+        .subscribeOn(scheduler)
+        .flatMap(
+            msg ->
+                Mono.create(
+                    sink -> {
+                      long sequenceId = createAndSpreadGossip(msg);
+                      futures.put(sequenceId, sink);
+                      sink.onDispose(() -> futures.remove(sequenceId));
+                    }));
+  }
+
+  @Override
+  public Flux<Message> listen() {
+    return subject.onBackpressureBuffer();
+  }
+
+  // ================================================
+  // ============== Action Methods ==================
+  // ================================================
+
+  private void doPeriod() {
+    // Increment period
+    long period = currentPeriod++;
+
+    try {
+      fillPeers();
+      sendAnnouncements();
+      graftMissing(period);
+      sweepGossips(period);
+    } catch (Exception ex) {
+      LOGGER.warn("Exception at doPeriod[{}]: {}", period, ex.getMessage(), ex);
+    }
+  }
+
+  private long createAndSpreadGossip(Message message) {
+    long period = this.currentPeriod;
+    Gossip gossip = new Gossip(localMember.id(), gossipCounter++, message);
+    GossipOrigins.Origin origin = origins.getOrCreate(localMember.id(), period);
+    origin.markSeen(gossip.sequenceId()); // so that own gossip coming back isn't emitted
+    GossipState gossipState = new GossipState(gossip, period);
+    putGossip(origin, gossipState);
+    forward(Collections.singletonList(gossipState), null);
+    return gossip.sequenceId();
+  }
+
+  private void putGossip(GossipOrigins.Origin origin, GossipState gossipState) {
+    gossips.add(gossipState);
+    origin.addLive(gossipState);
+  }
+
+  /** Pushes gossips to eager peers and queues announcements to lazy peers, except sender. */
+  private void forward(List<GossipState> gossipStates, Member sender) {
+    fillPeers(); // in case gossip comes before the first period
+    for (Member peer : eagerPeers) {
+      if (!peer.equals(sender)) {
+        gossipSender.sendGossips(peer.address(), gossipStates);
+      }
+    }
+    for (Member peer : lazyPeers) {
+      if (!peer.equals(sender)) {
+        List<Gossip> queue = announcements.computeIfAbsent(peer, p -> new ArrayList<>());
+        gossipStates.forEach(gossipState -> queue.add(gossipState.gossip()));
+      }
+    }
+  }
+
+  private void sendAnnouncements() {
+    announcements.forEach(
+        (peer, queue) -> {
+          GossipDigest digest =
+              new GossipDigest(
+                  digestOf(queue, Gossip::gossiperId, Gossip::sequenceId), localMember.id());
+          gossipSender.send(
+              peer.address(), Message.withData(digest).qualifier(GOSSIP_IHAVE).build());
+        });
+    announcements.clear();
+  }
+
+  private void graftMissing(long period) {
+    Map<Member, List<Missing>> grafts = new HashMap<>();
+    for (Iterator<Map<Long, Missing>> byOrigin = missing.values().iterator();
+        byOrigin.hasNext(); ) {
+      Map<Long, Missing> originMissing = byOrigin.next();
+      for (Iterator<Missing> it = originMissing.values().iterator(); it.hasNext(); ) {
+        Missing gossip = it.next();
+        if (gossip.deadline > period) {
+          continue;
+        }
+        if (gossip.expiry < period || gossip.announcers.isEmpty()) {
+          it.remove(); // gossip is swept by announcers already
+          continue;
+        }
+        // announcers are tried in turn until one of them answers
+        Member announcer = gossip.announcers.poll();
+        gossip.announcers.add(announcer);
+        gossip.deadline = period + GRAFT_TIMEOUT_PERIODS;
+        grafts.computeIfAbsent(announcer, a -> new ArrayList<>()).add(gossip);
+      }
+      if (originMissing.isEmpty()) {
+        byOrigin.remove();
+      }
+    }
+    grafts.forEach(
+        (announcer, requested) -> {
+          LOGGER.debug("Graft {} missing gossips from {}", requested.size(), announcer);
+          addEagerPeer(announcer);
+          GossipDigest digest =
+              new GossipDigest(
+                  digestOf(requested, m -> m.gossiperId, m -> m.sequenceId), localMember.id());
+          gossipSender.send(
+              announcer.address(), Message.withData(digest).qualifier(GOSSIP_GRAFT).build());
+        });
+  }
+
+  // ================================================
+  // ============== Event Listeners =================
+  // ================================================
+
+  private void onMessage(Message message) {
+    String qualifier = message.qualifier();
+    if (GossipProtocolImpl.GOSSIP_REQ.equals(qualifier)) {
+      onGossipReq(message);
+    } else if (GOSSIP_IHAVE.equals(qualifier)) {
+      onIHave(message);
+    } else if (GOSSIP_GRAFT.equals(qualifier)) {
+      onGraft(message);
+    } else if (GOSSIP_PRUNE.equals(qualifier)) {
+      onPrune(message);
+    }
+  }
+
+  private void onGossipReq(Message message) {
+    long period = this.currentPeriod;
+    GossipRequest gossipRequest = message.data();
+    Member sender = remoteMembers.get(gossipRequest.from()); // null if not a known member yet
+    List<GossipState> received = new ArrayList<>();
+    for (Gossip gossip : gossipRequest.gossips()) {
+      if (localMember.id().equals(gossip.gossiperId())) {
+        continue; // own gossip which came back is never new
+      }
+      GossipOrigins.Origin origin = origins.getOrCreate(gossip.gossiperId(), period);
+      if (origin.markSeen(gossip.sequenceId())) { // new gossip
+        GossipState gossipState = new GossipState(gossip, period);
+        putGossip(origin, gossipState);
+        removeMissing(gossip);
+        received.add(gossipState);
+        sink.next(gossip.message());
+      }
+    }
+
+    if (sender != null) {
+      if (!received.isEmpty()) {
+        addEagerPeer(sender); // link which delivers gossips belongs to the tree
+      } else {
+        // all gossips were delivered by another link already
+        LOGGER.debug("Prune redundant link with {}", sender);
+        addLazyPeer(sender);
+        GossipDigest prune = new GossipDigest(Collections.emptyList(), localMember.id());
+        gossipSender.send(
+            sender.address(), Message.withData(prune).qualifier(GOSSIP_PRUNE).build());
+      }
+    }
+    if (!received.isEmpty()) {
+      forward(received, sender);
+    }
+  }
+
+  private void onIHave(Message message) {
+    GossipDigest digest = message.data();
+    Member sender = remoteMembers.get(digest.from());
+    if (sender == null) {
+      return; // not a known member yet
+    }
+    if (!eagerPeers.contains(sender)) {
+      addLazyPeer(sender);
+    }
+    long deadline = currentPeriod + GRAFT_TIMEOUT_PERIODS;
+    long expiry =
+        currentPeriod
+            + ClusterMath.gossipPeriodsToSpread(
+                config.gossipRepeatMult(), remoteMembers.size() + 1);
+    for (GossipDigest.Entry entry : digest.entries()) {
+      String gossiperId = entry.gossiperId();
+      if (localMember.id().equals(gossiperId)) {
+        continue; // own gossips are never missed
+      }
+      Map<Long, Missing> originMissing =
+          missing.computeIfAbsent(gossiperId, id -> new LinkedHashMap<>());
+      GossipOrigins.forEachUnseen(
+          entry,
+          origins.get(gossiperId),
+          sequenceId -> {
+            Missing gossip =
+                originMissing.computeIfAbsent(
+                    sequenceId, s -> new Missing(gossiperId, sequenceId, deadline, expiry));
+            if (!gossip.announcers.contains(sender)) {
+              gossip.announcers.add(sender);
+            }
+          });
+      if (originMissing.isEmpty()) {
+        missing.remove(gossiperId);
+      }
+    }
+  }
+
+  private void onGraft(Message message) {
+    GossipDigest digest = message.data();
+    Member sender = remoteMembers.get(digest.from());
+    if (sender == null) {
+      return; // not a known member yet
+    }
+    addEagerPeer(sender);
+    List<GossipState> requested = new ArrayList<>();
+    for (GossipDigest.Entry entry : digest.entries()) {
+      GossipOrigins.Origin origin = origins.get(entry.gossiperId());
+      if (origin != null) {
+        for (GossipState gossipState : origin.live()) {
+          if (entry.contains(gossipState.gossip().sequenceId())) {
+            requested.add(gossipState);
+          }
+        }
+      }
+    }
+    gossipSender.sendGossips(sender.address(), requested);
+  }
+
+  private void onPrune(Message message) {
+    GossipDigest digest = message.data();
+    Member sender = remoteMembers.get(digest.from());
+    if (sender != null && eagerPeers.contains(sender)) {
+      addLazyPeer(sender);
+    }
+  }
+
+  private void onMemberEvent(MembershipEvent event) {
+    Member member = event.member();
+    if (event.isRemoved()) {
+      remoteMembers.remove(member);
+      eagerPeers.remove(member);
+      lazyPeers.remove(member);
+      announcements.remove(member);
+      for (Map<Long, Missing> originMissing : missing.values()) {
+        originMissing.values().forEach(gossip -> gossip.announcers.remove(member));
+      }
+      LOGGER.debug("Removed {} from remoteMembers list (size={})", member, remoteMembers.size());
+    }
+    if (event.isAdded()) {
+      remoteMembers.add(member);
+      LOGGER.debug("Added {} to remoteMembers list (size={})", member, remoteMembers.size());
+    }
+  }
+
+  private void onError(Throwable throwable) {
+    LOGGER.error("Received unexpected error: ", throwable);
+  }
+
+  // ================================================
+  // ============== Helper Methods ==================
+  // ================================================
+
+  /**
+   * Adds random members to eager peers until there are enough peers. It's done once per period,
+   * not per membership event, so that peers are picked among all members and not among the first
+   * ones known. New peer gets empty graft, so that it adds local member to its eager peers too.
+   */
+  private void fillPeers() {
+    int peersNum =
+        Math.max(
+            config.gossipFanout(),
+            ClusterMath.gossipPeriodsToSpread(1, remoteMembers.size() + 1)); // log2(N)
+    if (eagerPeers.size() + lazyPeers.size() >= peersNum) {
+      return;
+    }
+    List<Member> candidates = new ArrayList<>(remoteMembers.list());
+    candidates.removeAll(eagerPeers);
+    candidates.removeAll(lazyPeers);
+    Collections.shuffle(candidates);
+    for (Member candidate : candidates) {
+      if (eagerPeers.size() + lazyPeers.size() >= peersNum) {
+        break;
+      }
+      addEagerPeer(candidate);
+      GossipDigest graft = new GossipDigest(Collections.emptyList(), localMember.id());
+      gossipSender.send(
+          candidate.address(), Message.withData(graft).qualifier(GOSSIP_GRAFT).build());
+    }
+  }
+
+  private void addEagerPeer(Member member) {
+    boolean isNew = !lazyPeers.remove(member) && !eagerPeers.contains(member);
+    eagerPeers.add(member);
+    if (isNew) {
+      announceLiveGossips(member);
+    }
+  }
+
+  private void addLazyPeer(Member member) {
+    boolean isNew = !eagerPeers.remove(member) && !lazyPeers.contains(member);
+    lazyPeers.add(member);
+    if (isNew) {
+      announceLiveGossips(member);
+    }
+  }
+
+  /** New peer could miss gossips spread before it became peer, so it gets their ids. */
+  private void announceLiveGossips(Member peer) {
+    if (!gossips.isEmpty()) {
+      List<Gossip> queue = announcements.computeIfAbsent(peer, p -> new ArrayList<>());
+      gossips.forEach(gossipState -> queue.add(gossipState.gossip()));
+    }
+  }
+
+  private void removeMissing(Gossip gossip) {
+    Map<Long, Missing> originMissing = missing.get(gossip.gossiperId());
+    if (originMissing != null) {
+      originMissing.remove(gossip.sequenceId());
+      if (originMissing.isEmpty()) {
+        missing.remove(gossip.gossiperId());
+      }
+    }
+  }
+
+  /**
+   * Returns digest entries of the given gossip ids. Ids of one origin which don't fit into one
+   * window go to several entries.
+   */
+  private static <T> List<GossipDigest.Entry> digestOf(
+      List<T> ids, Function<T, String> gossiperIdOf, ToLongFunction<T> sequenceIdOf) {
+    List<T> sorted = new ArrayList<>(ids);
+    sorted.sort(
+        Comparator.comparing(gossiperIdOf)
+            .thenComparing(Comparator.comparingLong(sequenceIdOf).reversed()));
+    List<GossipDigest.Entry> entries = new ArrayList<>();
+    GossipDigest.Entry entry = null;
+    for (T id : sorted) {
+      String gossiperId = gossiperIdOf.apply(id);
+      long sequenceId = sequenceIdOf.applyAsLong(id);
+      if (entry == null
+          || !entry.gossiperId().equals(gossiperId)
+          || entry.highWater() - sequenceId >= GossipOrigins.WINDOW_SIZE) {
+        entry =
+            new GossipDigest.Entry(
+                gossiperId, sequenceId, new long[GossipOrigins.WINDOW_SIZE / Long.SIZE]);
+        entries.add(entry);
+      }
+      GossipDigest.Entry.set(entry.window(), sequenceId);
+    }
+    return entries;
+  }
+
+  private void sweepGossips(long period) {
+    // Sweep buckets of gossips which were spread long enough
+    int periodsToSweep =
+        ClusterMath.gossipPeriodsToSweep(config.gossipRepeatMult(), remoteMembers.size() + 1);
+    origins.sweep(gossips, period, periodsToSweep, this::onGossipSwept);
+  }
+
+  private void onGossipSwept(GossipState gossipState) {
+    Gossip gossip = gossipState.gossip();
+    LOGGER.debug("Sweep gossip: {}", gossipState);
+    if (localMember.id().equals(gossip.gossiperId())) {
+      MonoSink<String> sink = futures.remove(gossip.sequenceId());
+      if (sink != null) {
+        sink.success(gossip.gossipId());
+      }
+    }
+  }
+
+  /**
+   * <b>NOTE:</b> this method is for testing purpose only.
+   *
+   * @return eager peers
+   */
+  Set<Member> getEagerPeers() {
+    return eagerPeers;
+  }
+
+  /** Gossip which was announced, but hasn't been received yet. */
+  private static final class Missing {
+
+    private final String gossiperId;
+    private final long sequenceId;
+    private final long expiry;
+    private final Deque<Member> announcers = new ArrayDeque<>();
+    private long deadline;
+
+    private Missing(String gossiperId, long sequenceId, long deadline, long expiry) {
+      this.gossiperId = gossiperId;
+      this.sequenceId = sequenceId;
+      this.deadline = deadline;
+      this.expiry = expiry;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package io.scalecube.cluster.gossip;
+
+import io.scalecube.cluster.Member;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remote members known to gossip protocol, in a list for random selection and indexed by id for
+ * resolving senders of incoming messages.
+ *
+ * <p><b>NOTE:</b> not thread safe, accessed only on gossip protocol scheduler.
+ */
+final class RemoteMembers {
+
+  private final List<Member> members = new ArrayList<>();
+  private final Map<String, Member> membersById = new HashMap<>();
+
+  /**
+   * Adds member.
+   *
+   * @param member member
+   * @return true if member wasn't known
+   */
+  boolean add(Member member) {
+    if (membersById.putIfAbsent(member.id(), member) != null) {
+      return false;
+    }
+    members.add(member);
+    return true;
+  }
+
+  /**
+   * Removes member.
+   *
+   * @param member member
+   * @return true if member was known
+   */
+  boolean remove(Member member) {
+    Member known = membersById.remove(member.id());
+    if (known == null) {
+      return false;
+    }
+    members.remove(known);
+    return true;
+  }
+
+  /**
+   * Returns member by id.
+   *
+   * @param id member id
+   * @return member or null if member isn't known
+   */
+  Member get(String id) {
+    return membersById.get(id);
+  }
+
+  /**
+   * Returns members. Caller may reorder returned list, but not add or remove members.
+   *
+   * @return members
+   */
+  List<Member> list() {
+    return members;
+  }
+
+  int size() {
+    return members.size();
+  }
+
+  boolean isEmpty() {
+    return members.isEmpty();
+  }
+}
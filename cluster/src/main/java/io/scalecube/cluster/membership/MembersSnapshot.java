@@ -0,0 +1,72 @@
+package io.scalecube.cluster.membership;
+
+import io.scalecube.cluster.Member;
+import io.scalecube.net.Address;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of cluster members indexed by id and address. Membership protocol builds new
+ * snapshot on the first read after change of members and publishes it, so that lookups are
+ * allocation free and may be done from any thread.
+ */
+final class MembersSnapshot {
+
+  private final long version;
+  private final Map<String, Member> membersById;
+  private final Map<Address, Member> membersByAddress;
+  private final List<Member> members;
+  private final List<Member> otherMembers;
+
+  /**
+   * Creates snapshot of the given members.
+   *
+   * @param version version of snapshot, grows with every change of members
+   * @param members members by id, including local member
+   * @param localMember local member
+   */
+  MembersSnapshot(long version, Map<String, Member> members, Member localMember) {
+    this.version = version;
+    Map<Address, Member> membersByAddress = new HashMap<>();
+    List<Member> otherMembers = new ArrayList<>(members.size());
+    for (Member member : members.values()) {
+      membersByAddress.putIfAbsent(member.address(), member);
+      if (!member.equals(localMember)) {
+        otherMembers.add(member);
+      }
+    }
+    this.membersById = Collections.unmodifiableMap(new HashMap<>(members));
+    this.membersByAddress = Collections.unmodifiableMap(membersByAddress);
+    this.members = Collections.unmodifiableList(new ArrayList<>(members.values()));
+    this.otherMembers = Collections.unmodifiableList(otherMembers);
+  }
+
+  long version() {
+    return version;
+  }
+
+  Collection<Member> members() {
+    return members;
+  }
+
+  Collection<Member> otherMembers() {
+    return otherMembers;
+  }
+
+  Member member(String id) {
+    return membersById.get(id);
+  }
+
+  Member member(Address address) {
+    return membersByAddress.get(address);
+  }
+
+  @Override
+  public String toString() {
+    return "MembersSnapshot{version=" + version + ", size=" + members.size() + '}';
+  }
+}
@@ -0,0 +1,113 @@
+package io.scalecube.cluster.membership;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Digest of membership table used by delta sync. Member ids are hashed into power of two number
+ * of buckets, digest holds a hash of (id, status, incarnation) of bucket records per bucket. Two
+ * members compare digests and exchange only records of buckets which differ, so sync costs are
+ * proportional to divergence of membership tables rather than to cluster size.
+ */
+final class MembershipDigest {
+
+  // Target number of records per bucket
+  private static final int RECORDS_PER_BUCKET = 4;
+
+  private static final int MAX_BUCKETS = 4096;
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private MembershipDigest() {
+    // Do not instantiate
+  }
+
+  /**
+   * Returns number of digest buckets for membership table of the given size.
+   *
+   * @param tableSize number of membership records
+   * @return power of two number of buckets
+   */
+  static int bucketsFor(int tableSize) {
+    int buckets = Integer.highestOneBit(Math.max(1, tableSize / RECORDS_PER_BUCKET));
+    return Math.min(buckets, MAX_BUCKETS);
+  }
+
+  /**
+   * Checks that the given digest could be produced by {@link #digest(Collection, int)}.
+   *
+   * @param digest digest
+   * @return true if digest is valid
+   */
+  static boolean isValid(long[] digest) {
+    return digest.length > 0
+        && digest.length <= MAX_BUCKETS
+        && Integer.bitCount(digest.length) == 1;
+  }
+
+  /**
+   * Returns digest of membership records.
+   *
+   * @param records membership records
+   * @param buckets power of two number of buckets
+   * @return hash of records per bucket
+   */
+  static long[] digest(Collection<MembershipRecord> records, int buckets) {
+    long[] digest = new long[buckets];
+    for (MembershipRecord record : records) {
+      // sum doesn't depend on order of records
+      digest[bucketOf(record.id(), buckets)] += hashOf(record);
+    }
+    return digest;
+  }
+
+  /**
+   * Returns records of buckets which differ in the given digests.
+   *
+   * @param records membership records {@code digest} was computed of
+   * @param digest digest of records
+   * @param otherDigest digest to compare with, of the same number of buckets
+   * @return records of differing buckets
+   */
+  static List<MembershipRecord> differing(
+      Collection<MembershipRecord> records, long[] digest, long[] otherDigest) {
+    List<MembershipRecord> result = new ArrayList<>();
+    for (MembershipRecord record : records) {
+      int bucket = bucketOf(record.id(), digest.length);
+      if (digest[bucket] != otherDigest[bucket]) {
+        result.add(record);
+      }
+    }
+    return result;
+  }
+
+  private static int bucketOf(String id, int buckets) {
+    return (int) (mix(fnv(FNV_OFFSET_BASIS, id)) & (buckets - 1));
+  }
+
+  private static long hashOf(MembershipRecord record) {
+    long hash = fnv(FNV_OFFSET_BASIS, record.id());
+    hash = (hash ^ record.status().ordinal()) * FNV_PRIME;
+    hash = (hash ^ record.incarnation()) * FNV_PRIME;
+    return mix(hash);
+  }
+
+  private static long fnv(long hash, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  // Finalizer of MurmurHash3, spreads bits of FNV hash
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb93fe1a85ec3L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
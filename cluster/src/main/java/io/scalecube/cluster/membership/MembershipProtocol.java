@@ -27,14 +27,16 @@ public interface MembershipProtocol {
 
   /**
    * Returns list of all members of the joined cluster. This will include all cluster members
-   * including local member.
+   * including local member. Returned collection is unmodifiable snapshot which doesn't change
+   * along with membership.
    *
    * @return all members in the cluster (including local one)
    */
   Collection<Member> members();
 
   /**
-   * Returns list of all cluster members of the joined cluster excluding local member.
+   * Returns list of all cluster members of the joined cluster excluding local member. Returned
+   * collection is unmodifiable snapshot which doesn't change along with membership.
    *
    * @return all members in the cluster (excluding local one)
    */
@@ -6,6 +6,7 @@
 import io.scalecube.cluster.ClusterConfig;
 import io.scalecube.cluster.ClusterMath;
 import io.scalecube.cluster.CorrelationIdGenerator;
+import io.scalecube.cluster.HashedWheelTimer;
 import io.scalecube.cluster.Member;
 import io.scalecube.cluster.fdetector.FailureDetector;
 import io.scalecube.cluster.fdetector.FailureDetectorConfig;
@@ -28,6 +29,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
@@ -69,6 +71,9 @@ private enum MembershipUpdateReason {
   public static final String SYNC_ACK = "sc/membership/syncAck";
   public static final String MEMBERSHIP_GOSSIP = "sc/membership/gossip";
 
+  // Header of membership gossip which carries id of member whose failure detector suspected
+  static final String HEADER_SUSPECTED_BY = "suspectedBy";
+
   private final Member localMember;
 
   // Injected
@@ -85,7 +90,11 @@ private enum MembershipUpdateReason {
   // State
 
   private final Map<String, MembershipRecord> membershipTable = new HashMap<>();
-  private final Map<String, Member> members = new HashMap<>();
+  private final Map<String, Member> members = new ConcurrentHashMap<>();
+  // incremented on every change of members, written only from scheduler
+  private volatile long membersVersion;
+  // rebuilt lazily on read of changed members, read from any thread
+  private volatile MembersSnapshot membersSnapshot;
 
   // Subject
 
@@ -98,7 +107,8 @@ private enum MembershipUpdateReason {
 
   // Scheduled
   private final Scheduler scheduler;
-  private final Map<String, Disposable> suspicionTimeoutTasks = new HashMap<>();
+  private final HashedWheelTimer timer;
+  private final Map<String, Suspicion> suspicions = new HashMap<>();
 
   /**
    * Creates new instantiates of cluster membership protocol with given transport and config.
@@ -121,6 +131,43 @@ public MembershipProtocolImpl(
       ClusterConfig config,
       Scheduler scheduler,
       CorrelationIdGenerator cidGenerator) {
+    this(
+        localMember,
+        transport,
+        failureDetector,
+        gossipProtocol,
+        metadataStore,
+        config,
+        scheduler,
+        new HashedWheelTimer(
+            scheduler,
+            ClusterMath.timerTickDuration(config.failureDetectorConfig().pingInterval())),
+        cidGenerator);
+  }
+
+  /**
+   * Creates new instantiates of cluster membership protocol with given transport and config.
+   *
+   * @param localMember local cluster member
+   * @param transport cluster transport
+   * @param failureDetector failure detector
+   * @param gossipProtocol gossip protocol
+   * @param metadataStore metadata store
+   * @param config cluster config parameters
+   * @param scheduler scheduler
+   * @param timer cluster timer for suspicion timeouts, running on the given scheduler
+   * @param cidGenerator correlation id generator
+   */
+  public MembershipProtocolImpl(
+      Member localMember,
+      Transport transport,
+      FailureDetector failureDetector,
+      GossipProtocol gossipProtocol,
+      MetadataStore metadataStore,
+      ClusterConfig config,
+      Scheduler scheduler,
+      HashedWheelTimer timer,
+      CorrelationIdGenerator cidGenerator) {
 
     this.transport = Objects.requireNonNull(transport);
     this.failureDetector = Objects.requireNonNull(failureDetector);
@@ -128,6 +175,7 @@ public MembershipProtocolImpl(
     this.metadataStore = Objects.requireNonNull(metadataStore);
     this.localMember = Objects.requireNonNull(localMember);
     this.scheduler = Objects.requireNonNull(scheduler);
+    this.timer = Objects.requireNonNull(timer);
     this.cidGenerator = Objects.requireNonNull(cidGenerator);
     this.membershipConfig = Objects.requireNonNull(config).membershipConfig();
     this.failureDetectorConfig = Objects.requireNonNull(config).failureDetectorConfig();
@@ -140,6 +188,7 @@ public MembershipProtocolImpl(
 
     // fill in the table of members with local member
     members.put(localMember.id(), localMember);
+    membersSnapshot = new MembersSnapshot(0, members, localMember);
 
     actionsDisposables.addAll(
         Arrays.asList(
@@ -262,13 +311,13 @@ public void stop() {
     actionsDisposables.dispose();
 
     // Cancel remove members tasks
-    for (String memberId : suspicionTimeoutTasks.keySet()) {
-      Disposable future = suspicionTimeoutTasks.get(memberId);
+    for (Suspicion suspicion : suspicions.values()) {
+      Disposable future = suspicion.timeoutTask();
       if (future != null && !future.isDisposed()) {
         future.dispose();
       }
     }
-    suspicionTimeoutTasks.clear();
+    suspicions.clear();
 
     // Stop publishing events
     sink.complete();
@@ -276,13 +325,12 @@ public void stop() {
 
   @Override
   public Collection<Member> members() {
-    return new ArrayList<>(members.values());
+    return membersSnapshot().members();
   }
 
   @Override
   public Collection<Member> otherMembers() {
-    return new ArrayList<>(members.values())
-        .stream().filter(member -> !member.equals(localMember)).collect(Collectors.toList());
+    return membersSnapshot().otherMembers();
   }
 
   @Override
@@ -292,13 +340,12 @@ public Member member() {
 
   @Override
   public Optional<Member> member(String id) {
-    return Optional.ofNullable(members.get(id));
+    return Optional.ofNullable(membersSnapshot().member(id));
   }
 
   @Override
   public Optional<Member> member(Address address) {
-    return new ArrayList<>(members.values())
-        .stream().filter(member -> member.address().equals(address)).findFirst();
+    return Optional.ofNullable(membersSnapshot().member(address));
   }
 
   private void doSync() {
@@ -308,7 +355,7 @@ private void doSync() {
     }
 
     Address address = addressOptional.get();
-    Message message = prepareSyncDataMsg(SYNC, null);
+    Message message = prepareSyncMsg();
     LOGGER.debug("Send Sync: {} to {}", message, address);
     transport
         .send(address, message)
@@ -340,11 +387,28 @@ private void onMessage(Message message) {
   // ============== Event Listeners =================
   // ================================================
 
+  /**
+   * Merges incoming SYNC_ACK data. If it's an answer to delta sync then sends back records which
+   * still differ from the SYNC_ACK sender's digest.
+   */
   private Mono<Void> onSyncAck(Message syncAckMsg, boolean onStart) {
     return Mono.defer(
         () -> {
           LOGGER.debug("Received SyncAck: {}", syncAckMsg);
-          return syncMembership(syncAckMsg.data(), onStart);
+          SyncData syncData = syncAckMsg.data();
+          Mono<Void> result = syncMembership(syncData, onStart, syncAckMsg.sender());
+          long[] digest = syncData.getDigest();
+          if (onStart || digest == null || !MembershipDigest.isValid(digest)) {
+            return result;
+          }
+          return result.doOnSuccess(
+              avoid -> {
+                List<MembershipRecord> records = differingRecords(digest);
+                if (!records.isEmpty()) {
+                  SyncData delta = new SyncData(records, membershipConfig.syncGroup());
+                  send(syncAckMsg.sender(), Message.withData(delta).qualifier(SYNC_ACK).build());
+                }
+              });
         });
   }
 
@@ -353,25 +417,44 @@ private Mono<Void> onSync(Message syncMsg) {
     return Mono.defer(
         () -> {
           LOGGER.debug("Received Sync: {}", syncMsg);
-          return syncMembership(syncMsg.data(), false)
+          SyncData syncData = syncMsg.data();
+          long[] digest = syncData.getDigest();
+          if (digest != null && MembershipDigest.isValid(digest)) {
+            // Delta sync: send back records which differ and own digest, so that sync sender
+            // sends back records which differ after merge
+            long[] ownDigest = MembershipDigest.digest(membershipTable.values(), digest.length);
+            List<MembershipRecord> records =
+                MembershipDigest.differing(membershipTable.values(), ownDigest, digest);
+            SyncData delta = new SyncData(records, membershipConfig.syncGroup(), ownDigest);
+            return syncMembership(syncData, false, syncMsg.sender())
+                .doOnSuccess(
+                    avoid ->
+                        send(
+                            syncMsg.sender(),
+                            Message.withData(delta)
+                                .qualifier(SYNC_ACK)
+                                .correlationId(syncMsg.correlationId())
+                                .build()));
+          }
+          return syncMembership(syncData, false, syncMsg.sender())
               .doOnSuccess(
-                  avoid -> {
-                    Message message = prepareSyncDataMsg(SYNC_ACK, syncMsg.correlationId());
-                    Address address = syncMsg.sender();
-                    transport
-                        .send(address, message)
-                        .subscribe(
-                            null,
-                            ex ->
-                                LOGGER.debug(
-                                    "Failed to send SyncAck: {} to {}, cause: {}",
-                                    message,
-                                    address,
-                                    ex.toString()));
-                  });
+                  avoid ->
+                      send(
+                          syncMsg.sender(),
+                          prepareSyncDataMsg(SYNC_ACK, syncMsg.correlationId())));
         });
   }
 
+  private void send(Address address, Message message) {
+    transport
+        .send(address, message)
+        .subscribe(
+            null,
+            ex ->
+                LOGGER.debug(
+                    "Failed to send {} to {}, cause: {}", message, address, ex.toString()));
+  }
+
   /** Merges FD updates and processes them. */
   private void onFailureDetectorEvent(FailureDetectorEvent fdEvent) {
     MembershipRecord r0 = membershipTable.get(fdEvent.member().id());
@@ -379,6 +462,10 @@ private void onFailureDetectorEvent(FailureDetectorEvent fdEvent) {
       return;
     }
     if (r0.status() == fdEvent.status()) { // status not changed
+      if (r0.isSuspect() && confirmSuspicion(r0, localMember.id())) {
+        // Independent suspicion of already suspected member, let others know about it
+        spreadMembershipGossip(r0, localMember.id()).doOnError(this::onErrorIgnore).subscribe();
+      }
       return;
     }
     LOGGER.debug("Received status change on failure detector event: {}", fdEvent);
@@ -386,7 +473,7 @@ private void onFailureDetectorEvent(FailureDetectorEvent fdEvent) {
       // TODO: Consider to make more elegant solution
       // Alive won't override SUSPECT so issue instead extra sync with member to force it spread
       // alive with inc + 1
-      Message syncMsg = prepareSyncDataMsg(SYNC, null);
+      Message syncMsg = prepareSyncMsg();
       Address address = fdEvent.member().address();
       transport
           .send(address, syncMsg)
@@ -400,6 +487,9 @@ private void onFailureDetectorEvent(FailureDetectorEvent fdEvent) {
           new MembershipRecord(r0.member(), fdEvent.status(), r0.incarnation());
       updateMembership(record, MembershipUpdateReason.FAILURE_DETECTOR_EVENT)
           .subscribe(null, this::onError);
+      if (record.isSuspect()) {
+        confirmSuspicion(record, localMember.id());
+      }
     }
   }
 
@@ -410,6 +500,10 @@ private void onMembershipGossip(Message message) {
       LOGGER.debug("Received membership gossip: {}", record);
       updateMembership(record, MembershipUpdateReason.MEMBERSHIP_GOSSIP)
           .subscribe(null, this::onError);
+      String suspectedBy = message.header(HEADER_SUSPECTED_BY);
+      if (record.isSuspect() && suspectedBy != null) {
+        confirmSuspicion(record, suspectedBy);
+      }
     }
   }
 
@@ -460,25 +554,78 @@ private Message prepareSyncDataMsg(String qualifier, String cid) {
     return Message.withData(syncData).qualifier(qualifier).correlationId(cid).build();
   }
 
-  private Mono<Void> syncMembership(SyncData syncData, boolean onStart) {
+  /** Returns SYNC message of delta sync if it's enabled, otherwise of full sync. */
+  private Message prepareSyncMsg() {
+    if (!membershipConfig.deltaSync()) {
+      return prepareSyncDataMsg(SYNC, null);
+    }
+    int buckets = MembershipDigest.bucketsFor(membershipTable.size());
+    long[] digest = MembershipDigest.digest(membershipTable.values(), buckets);
+    SyncData syncData =
+        new SyncData(Collections.emptyList(), membershipConfig.syncGroup(), digest);
+    return Message.withData(syncData).qualifier(SYNC).build();
+  }
+
+  private List<MembershipRecord> differingRecords(long[] otherDigest) {
+    long[] digest = MembershipDigest.digest(membershipTable.values(), otherDigest.length);
+    return MembershipDigest.differing(membershipTable.values(), digest, otherDigest);
+  }
+
+  /**
+   * Merges membership records of SYNC or SYNC_ACK. Metadata of new and updated alive members is
+   * fetched in bulk from the sender of sync data, which has metadata of all of them; metadata the
+   * sender failed to provide is fetched from members themselves.
+   */
+  private Mono<Void> syncMembership(SyncData syncData, boolean onStart, Address sender) {
     return Mono.defer(
         () -> {
           MembershipUpdateReason reason =
               onStart ? MembershipUpdateReason.INITIAL_SYNC : MembershipUpdateReason.SYNC;
-          return Mono.whenDelayError(
+          List<Member> fetchMembers =
               syncData.getMembership().stream()
-                  .map(r1 -> updateMembership(r1, reason))
-                  .toArray(Mono[]::new));
+                  .filter(this::requiresMetadataFetch)
+                  .map(MembershipRecord::member)
+                  .collect(Collectors.toList());
+          Mono<Map<Member, ByteBuffer>> prefetch =
+              sender != null && fetchMembers.size() > 1
+                  ? metadataStore.fetchMetadata(sender, fetchMembers)
+                  : Mono.just(Collections.emptyMap());
+          return prefetch.flatMap(
+              prefetched ->
+                  Mono.whenDelayError(
+                      syncData.getMembership().stream()
+                          .map(r1 -> updateMembership(r1, reason, prefetched))
+                          .toArray(Mono[]::new)));
         });
   }
 
+  /**
+   * Checks whether {@link #updateMembership(MembershipRecord, MembershipUpdateReason)} would fetch
+   * metadata of the record's member.
+   */
+  private boolean requiresMetadataFetch(MembershipRecord r1) {
+    if (!r1.isAlive() || r1.member().address().equals(localMember.address())) {
+      return false;
+    }
+    MembershipRecord r0 = membershipTable.get(r1.id());
+    return !r1.equals(r0)
+        && r1.isOverrides(r0)
+        && (r0 == null || r0.incarnation() < r1.incarnation());
+  }
+
+  private Mono<Void> updateMembership(MembershipRecord r1, MembershipUpdateReason reason) {
+    return updateMembership(r1, reason, Collections.emptyMap());
+  }
+
   /**
    * Try to update membership table with the given record.
    *
    * @param r1 new membership record which compares with existing r0 record
    * @param reason indicating the reason for updating membership table
+   * @param prefetched metadata fetched in advance, by member
    */
-  private Mono<Void> updateMembership(MembershipRecord r1, MembershipUpdateReason reason) {
+  private Mono<Void> updateMembership(
+      MembershipRecord r1, MembershipUpdateReason reason, Map<Member, ByteBuffer> prefetched) {
     return Mono.defer(
         () -> {
           Objects.requireNonNull(r1, "Membership record can't be null");
@@ -518,8 +665,12 @@ private Mono<Void> updateMembership(MembershipRecord r1, MembershipUpdateReason
           if (r1.isAlive()) {
             // New alive or updated alive
             if (r0 == null || r0.incarnation() < r1.incarnation()) {
-              return metadataStore
-                  .fetchMetadata(r1.member())
+              ByteBuffer prefetchedMetadata = prefetched.get(r1.member());
+              Mono<ByteBuffer> metadata =
+                  prefetchedMetadata != null
+                      ? Mono.just(prefetchedMetadata)
+                      : metadataStore.fetchMetadata(r1.member());
+              return metadata
                   .doOnError(
                       ex ->
                           LOGGER_MEMBERSHIP.debug(
@@ -577,6 +728,7 @@ private Mono<Void> onDeadMemberDetected(MembershipRecord r1) {
           }
           // Update membership
           members.remove(r1.id());
+          updateMembersSnapshot();
           membershipTable.remove(r1.id());
           // removed
           ByteBuffer metadata0 = metadataStore.removeMetadata(r1.member());
@@ -600,7 +752,9 @@ private void onAliveMemberDetected(
       event = MembershipEvent.createUpdated(member, metadata0, metadata1);
     }
 
-    members.put(member.id(), member);
+    if (!member.equals(members.put(member.id(), member))) {
+      updateMembersSnapshot();
+    }
     membershipTable.put(member.id(), r1);
 
     if (event != null) {
@@ -609,33 +763,106 @@ private void onAliveMemberDetected(
     }
   }
 
+  private void updateMembersSnapshot() {
+    long version = membersVersion + 1; // single writer
+    membersVersion = version;
+    LOGGER.debug("Updated members, version: {}, size: {}", version, members.size());
+  }
+
+  /**
+   * Returns snapshot of current members. Snapshot is rebuilt only on the first read after change
+   * of members, so that a batch of changes, like merge of sync data, costs one rebuild.
+   */
+  private MembersSnapshot membersSnapshot() {
+    MembersSnapshot snapshot = membersSnapshot;
+    long version = membersVersion;
+    if (snapshot.version() != version) {
+      // members may be newer than version, then it's rebuilt again on the next read
+      snapshot = new MembersSnapshot(version, members, localMember);
+      membersSnapshot = snapshot;
+    }
+    return snapshot;
+  }
+
   private void cancelSuspicionTimeoutTask(String memberId) {
-    Disposable future = suspicionTimeoutTasks.remove(memberId);
-    if (future != null && !future.isDisposed()) {
+    Suspicion suspicion = suspicions.remove(memberId);
+    if (suspicion != null && !suspicion.timeoutTask().isDisposed()) {
       LOGGER.debug("Cancelled SuspicionTimeoutTask for {}", memberId);
-      future.dispose();
+      suspicion.timeoutTask().dispose();
     }
   }
 
   private void scheduleSuspicionTimeoutTask(MembershipRecord record) {
-    long suspicionTimeout =
+    int clusterSize = membershipTable.size();
+    long pingInterval = failureDetectorConfig.pingInterval();
+    long maxTimeout =
+        ClusterMath.suspicionTimeout(membershipConfig.suspicionMult(), clusterSize, pingInterval);
+    long minTimeout =
         ClusterMath.suspicionTimeout(
-            membershipConfig.suspicionMult(),
-            membershipTable.size(),
-            failureDetectorConfig.pingInterval());
+            membershipConfig.suspicionMinMult(), clusterSize, pingInterval);
+
+    String id = record.id();
+    Suspicion current = suspicions.get(id);
+    if (current != null) {
+      if (current.incarnation() == record.incarnation()) {
+        return;
+      }
+      // Suspicion of another incarnation starts over, its confirmations don't count
+      LOGGER.debug(
+          "Replacing SuspicionTimeoutTask for {}, incarnation {} -> {}",
+          id,
+          current.incarnation(),
+          record.incarnation());
+      current.timeoutTask().dispose();
+    }
+
+    Suspicion suspicion =
+        new Suspicion(
+            record.incarnation(),
+            scheduler.now(TimeUnit.MILLISECONDS),
+            minTimeout,
+            maxTimeout,
+            membershipConfig.suspicionConfirmations());
+    LOGGER.debug("Scheduled SuspicionTimeoutTask for {}, suspicionTimeout {}", id, maxTimeout);
+    suspicion.timeoutTask(
+        timer.schedule(() -> onSuspicionTimeout(id), maxTimeout, TimeUnit.MILLISECONDS));
+    suspicions.put(id, suspicion);
+  }
 
-    suspicionTimeoutTasks.computeIfAbsent(
+  /**
+   * Registers suspicion of the given member by suspector and reschedules suspicion timeout task
+   * according to decreased timeout.
+   *
+   * @param record suspect membership record
+   * @param suspectorId id of member which suspects
+   * @return true if confirmation decreased suspicion timeout
+   */
+  private boolean confirmSuspicion(MembershipRecord record, String suspectorId) {
+    Suspicion suspicion = suspicions.get(record.id());
+    if (suspicion == null
+        || suspicion.incarnation() != record.incarnation()
+        || suspectorId.equals(record.id())) {
+      return false;
+    }
+    if (!suspicion.confirm(suspectorId)) {
+      return false;
+    }
+    long remainingTimeout = suspicion.remainingTimeout(scheduler.now(TimeUnit.MILLISECONDS));
+    LOGGER.debug(
+        "Suspicion of {} confirmed by {}: {}, remaining timeout {}",
         record.id(),
-        id -> {
-          LOGGER.debug(
-              "Scheduled SuspicionTimeoutTask for {}, suspicionTimeout {}", id, suspicionTimeout);
-          return scheduler.schedule(
-              () -> onSuspicionTimeout(id), suspicionTimeout, TimeUnit.MILLISECONDS);
-        });
+        suspectorId,
+        suspicion,
+        remainingTimeout);
+    suspicion.timeoutTask().dispose();
+    suspicion.timeoutTask(
+        timer.schedule(
+            () -> onSuspicionTimeout(record.id()), remainingTimeout, TimeUnit.MILLISECONDS));
+    return true;
   }
 
   private void onSuspicionTimeout(String memberId) {
-    suspicionTimeoutTasks.remove(memberId);
+    suspicions.remove(memberId);
     MembershipRecord record = membershipTable.get(memberId);
     if (record != null) {
       LOGGER.debug("Declare SUSPECTED member {} as DEAD by timeout", record);
@@ -651,14 +878,27 @@ private void spreadMembershipGossipUnlessGossiped(
     // Spread gossip (unless already gossiped)
     if (reason != MembershipUpdateReason.MEMBERSHIP_GOSSIP
         && reason != MembershipUpdateReason.INITIAL_SYNC) {
-      spreadMembershipGossip(r1).doOnError(this::onErrorIgnore).subscribe();
+      // Suspicion by own failure detector is independent, others count it as confirmation
+      String suspectedBy =
+          reason == MembershipUpdateReason.FAILURE_DETECTOR_EVENT && r1.isSuspect()
+              ? localMember.id()
+              : null;
+      spreadMembershipGossip(r1, suspectedBy).doOnError(this::onErrorIgnore).subscribe();
     }
   }
 
   private Mono<Void> spreadMembershipGossip(MembershipRecord record) {
+    return spreadMembershipGossip(record, null);
+  }
+
+  private Mono<Void> spreadMembershipGossip(MembershipRecord record, String suspectedBy) {
     return Mono.defer(
         () -> {
-          Message msg = Message.withData(record).qualifier(MEMBERSHIP_GOSSIP).build();
+          Message.Builder builder = Message.withData(record).qualifier(MEMBERSHIP_GOSSIP);
+          if (suspectedBy != null) {
+            builder.header(HEADER_SUSPECTED_BY, suspectedBy);
+          }
+          Message msg = builder.build();
           LOGGER.debug("Spead membreship: {} with gossip", msg);
           return gossipProtocol
               .spread(msg)
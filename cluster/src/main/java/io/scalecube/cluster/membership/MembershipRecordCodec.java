@@ -0,0 +1,46 @@
+package io.scalecube.cluster.membership;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.cluster.MemberCodec;
+import io.scalecube.transport.binary.BinaryCodecs;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+
+/** Binary schema of {@link MembershipRecord}. */
+public final class MembershipRecordCodec implements DataCodec<MembershipRecord> {
+
+  public static final int TYPE_ID = 19;
+
+  private static final MemberStatus[] STATUSES = MemberStatus.values();
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<MembershipRecord> dataType() {
+    return MembershipRecord.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, MembershipRecord data) {
+    writeRecord(byteBuf, data);
+  }
+
+  @Override
+  public MembershipRecord decode(BinaryMessageCodec codec, ByteBuf byteBuf) {
+    return readRecord(byteBuf);
+  }
+
+  static void writeRecord(ByteBuf byteBuf, MembershipRecord record) {
+    MemberCodec.writeMember(byteBuf, record.member());
+    byteBuf.writeByte(record.status().ordinal());
+    byteBuf.writeInt(record.incarnation());
+  }
+
+  static MembershipRecord readRecord(ByteBuf byteBuf) {
+    return new MembershipRecord(
+        MemberCodec.readMember(byteBuf), STATUSES[byteBuf.readByte()], byteBuf.readInt());
+  }
+}
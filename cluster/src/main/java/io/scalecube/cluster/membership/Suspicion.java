@@ -0,0 +1,113 @@
+package io.scalecube.cluster.membership;
+
+import io.scalecube.cluster.ClusterMath;
+import java.util.HashSet;
+import java.util.Set;
+import reactor.core.Disposable;
+
+/**
+ * Suspicion of a member (Lifeguard dynamic suspicion). Suspicion timeout starts at max timeout and
+ * decreases down to min timeout as members other than the first suspector independently confirm
+ * suspicion. This class isn't thread safe, it's accessed only from membership scheduler.
+ */
+final class Suspicion {
+
+  private final int incarnation;
+  private final long startTime;
+  private final long minTimeout;
+  private final long maxTimeout;
+  private final int expectedConfirmations;
+  private final Set<String> suspectors = new HashSet<>();
+
+  private Disposable timeoutTask;
+
+  /**
+   * Creates suspicion.
+   *
+   * @param incarnation incarnation of suspected member
+   * @param startTime time suspicion started at, in millis
+   * @param minTimeout timeout after expected number of confirmations, in millis
+   * @param maxTimeout timeout without confirmations, in millis
+   * @param expectedConfirmations number of confirmations to reach min timeout
+   */
+  Suspicion(
+      int incarnation,
+      long startTime,
+      long minTimeout,
+      long maxTimeout,
+      int expectedConfirmations) {
+    this.incarnation = incarnation;
+    this.startTime = startTime;
+    this.minTimeout = Math.min(minTimeout, maxTimeout);
+    this.maxTimeout = maxTimeout;
+    this.expectedConfirmations = expectedConfirmations;
+  }
+
+  int incarnation() {
+    return incarnation;
+  }
+
+  /**
+   * Registers suspicion of the given member.
+   *
+   * @param suspectorId id of member which suspects
+   * @return true if suspector is new and its confirmation shortened timeout
+   */
+  boolean confirm(String suspectorId) {
+    return suspectors.add(suspectorId)
+        && suspectors.size() > 1
+        && confirmations() <= expectedConfirmations;
+  }
+
+  /**
+   * Returns number of independent confirmations, first suspector doesn't confirm.
+   *
+   * @return number of confirmations
+   */
+  int confirmations() {
+    return Math.max(0, suspectors.size() - 1);
+  }
+
+  /**
+   * Returns whether any more confirmations would shorten timeout.
+   *
+   * @return true if timeout is already min one
+   */
+  boolean isSaturated() {
+    return confirmations() >= expectedConfirmations;
+  }
+
+  long timeout() {
+    return ClusterMath.suspicionTimeout(
+        minTimeout, maxTimeout, confirmations(), expectedConfirmations);
+  }
+
+  /**
+   * Returns time left till suspicion timeout.
+   *
+   * @param now current time, in millis
+   * @return remaining timeout, not negative
+   */
+  long remainingTimeout(long now) {
+    return Math.max(0, startTime + timeout() - now);
+  }
+
+  Disposable timeoutTask() {
+    return timeoutTask;
+  }
+
+  void timeoutTask(Disposable timeoutTask) {
+    this.timeoutTask = timeoutTask;
+  }
+
+  @Override
+  public String toString() {
+    return "Suspicion{incarnation="
+        + incarnation
+        + ", confirmations="
+        + confirmations()
+        + ", timeout="
+        + timeout()
+        + '}';
+  }
+}
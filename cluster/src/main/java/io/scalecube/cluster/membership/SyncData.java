@@ -6,7 +6,8 @@
 
 /**
  * A class containing full membership table from specific member and used full synchronization
- * between cluster members.
+ * between cluster members. In delta sync it contains digest of membership table (see {@link
+ * MembershipDigest}) and only records which differ from the other member's digest.
  */
 final class SyncData {
 
@@ -18,12 +19,27 @@ final class SyncData {
    */
   private String syncGroup;
 
+  /** Digest of sender's membership table, null if membership is full table. */
+  private long[] digest;
+
   /** Instantiates empty sync data for deserialization purpose. */
   SyncData() {}
 
   public SyncData(Collection<MembershipRecord> membership, String syncGroup) {
+    this(membership, syncGroup, null);
+  }
+
+  /**
+   * Instantiates sync data of delta sync.
+   *
+   * @param membership membership records
+   * @param syncGroup sync group
+   * @param digest digest of sender's membership table or null
+   */
+  public SyncData(Collection<MembershipRecord> membership, String syncGroup, long[] digest) {
     this.membership = new ArrayList<>(membership);
     this.syncGroup = syncGroup;
+    this.digest = digest;
   }
 
   public Collection<MembershipRecord> getMembership() {
@@ -34,8 +50,18 @@ public String getSyncGroup() {
     return syncGroup;
   }
 
+  public long[] getDigest() {
+    return digest;
+  }
+
   @Override
   public String toString() {
-    return "SyncData{membership=" + membership + ", syncGroup=" + syncGroup + '}';
+    return "SyncData{membership="
+        + membership
+        + ", syncGroup="
+        + syncGroup
+        + ", digestBuckets="
+        + (digest != null ? digest.length : 0)
+        + '}';
   }
 }
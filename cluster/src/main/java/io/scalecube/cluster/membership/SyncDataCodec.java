@@ -0,0 +1,65 @@
+package io.scalecube.cluster.membership;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.transport.binary.BinaryCodecs;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/** Binary schema of {@link SyncData}. */
+public final class SyncDataCodec implements DataCodec<SyncData> {
+
+  public static final int TYPE_ID = 18;
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<SyncData> dataType() {
+    return SyncData.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, SyncData data) {
+    BinaryCodecs.writeString(byteBuf, data.getSyncGroup());
+    Collection<MembershipRecord> membership = data.getMembership();
+    BinaryCodecs.writeVarInt(byteBuf, membership.size());
+    for (MembershipRecord record : membership) {
+      MembershipRecordCodec.writeRecord(byteBuf, record);
+    }
+    long[] digest = data.getDigest();
+    BinaryCodecs.writeVarInt(byteBuf, digest != null ? digest.length : 0);
+    if (digest != null) {
+      for (long hash : digest) {
+        byteBuf.writeLong(hash);
+      }
+    }
+  }
+
+  @Override
+  public SyncData decode(BinaryMessageCodec codec, ByteBuf byteBuf) {
+    String syncGroup = BinaryCodecs.readString(byteBuf);
+    int count = BinaryCodecs.readVarInt(byteBuf);
+    List<MembershipRecord> membership = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      membership.add(MembershipRecordCodec.readRecord(byteBuf));
+    }
+    long[] digest = null;
+    // sync data of older members has no digest
+    int buckets = byteBuf.isReadable() ? BinaryCodecs.readVarInt(byteBuf) : 0;
+    if (buckets > 0) {
+      if (buckets > byteBuf.readableBytes() / Long.BYTES) {
+        throw new IllegalArgumentException("Invalid digest length: " + buckets);
+      }
+      digest = new long[buckets];
+      for (int i = 0; i < buckets; i++) {
+        digest[i] = byteBuf.readLong();
+      }
+    }
+    return new SyncData(membership, syncGroup, digest);
+  }
+}
@@ -0,0 +1,32 @@
+package io.scalecube.cluster.metadata;
+
+import io.scalecube.cluster.Member;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * DTO class. Stands for remote request on getting metadata of many members from remote
+ * MetadataStore which holds them.
+ */
+final class GetMetadataBatchRequest {
+
+  /** Members whose metadata is requested. */
+  private List<Member> members;
+
+  /** Instantiates empty GetMetadataBatchRequest for deserialization purpose. */
+  GetMetadataBatchRequest() {}
+
+  GetMetadataBatchRequest(Collection<Member> members) {
+    this.members = new ArrayList<>(members);
+  }
+
+  public List<Member> getMembers() {
+    return members;
+  }
+
+  @Override
+  public String toString() {
+    return "GetMetadataBatchRequest{" + "members=" + members.size() + '}';
+  }
+}
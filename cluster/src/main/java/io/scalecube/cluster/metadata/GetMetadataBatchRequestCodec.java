@@ -0,0 +1,45 @@
+package io.scalecube.cluster.metadata;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.cluster.Member;
+import io.scalecube.cluster.MemberCodec;
+import io.scalecube.transport.binary.BinaryCodecs;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Binary schema of {@link GetMetadataBatchRequest}. */
+public final class GetMetadataBatchRequestCodec implements DataCodec<GetMetadataBatchRequest> {
+
+  public static final int TYPE_ID = 24;
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<GetMetadataBatchRequest> dataType() {
+    return GetMetadataBatchRequest.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, GetMetadataBatchRequest data) {
+    List<Member> members = data.getMembers();
+    BinaryCodecs.writeVarInt(byteBuf, members.size());
+    for (Member member : members) {
+      MemberCodec.writeMember(byteBuf, member);
+    }
+  }
+
+  @Override
+  public GetMetadataBatchRequest decode(BinaryMessageCodec codec, ByteBuf byteBuf) {
+    int count = BinaryCodecs.readVarInt(byteBuf);
+    List<Member> members = new ArrayList<>(Math.min(count, byteBuf.readableBytes()));
+    for (int i = 0; i < count; i++) {
+      members.add(MemberCodec.readMember(byteBuf));
+    }
+    return new GetMetadataBatchRequest(members);
+  }
+}
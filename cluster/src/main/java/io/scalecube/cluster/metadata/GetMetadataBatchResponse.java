@@ -0,0 +1,31 @@
+package io.scalecube.cluster.metadata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * DTO class. Stands for response for preceding remote request on getting metadata of many members,
+ * contains metadata only of members which remote MetadataStore holds.
+ */
+final class GetMetadataBatchResponse {
+
+  /** Members with metadata. */
+  private List<GetMetadataResponse> metadata;
+
+  /** Instantiates empty GetMetadataBatchResponse for deserialization purpose. */
+  GetMetadataBatchResponse() {}
+
+  GetMetadataBatchResponse(Collection<GetMetadataResponse> metadata) {
+    this.metadata = new ArrayList<>(metadata);
+  }
+
+  List<GetMetadataResponse> getMetadata() {
+    return metadata;
+  }
+
+  @Override
+  public String toString() {
+    return "GetMetadataBatchResponse{" + "metadata=" + metadata.size() + '}';
+  }
+}
@@ -0,0 +1,47 @@
+package io.scalecube.cluster.metadata;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.cluster.MemberCodec;
+import io.scalecube.transport.binary.BinaryCodecs;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Binary schema of {@link GetMetadataBatchResponse}. */
+public final class GetMetadataBatchResponseCodec implements DataCodec<GetMetadataBatchResponse> {
+
+  public static final int TYPE_ID = 25;
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<GetMetadataBatchResponse> dataType() {
+    return GetMetadataBatchResponse.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, GetMetadataBatchResponse data) {
+    List<GetMetadataResponse> metadata = data.getMetadata();
+    BinaryCodecs.writeVarInt(byteBuf, metadata.size());
+    for (GetMetadataResponse response : metadata) {
+      MemberCodec.writeMember(byteBuf, response.getMember());
+      BinaryCodecs.writeByteBuffer(byteBuf, response.getMetadata());
+    }
+  }
+
+  @Override
+  public GetMetadataBatchResponse decode(BinaryMessageCodec codec, ByteBuf byteBuf) {
+    int count = BinaryCodecs.readVarInt(byteBuf);
+    List<GetMetadataResponse> metadata = new ArrayList<>(Math.min(count, byteBuf.readableBytes()));
+    for (int i = 0; i < count; i++) {
+      metadata.add(
+          new GetMetadataResponse(
+              MemberCodec.readMember(byteBuf), BinaryCodecs.readByteBuffer(byteBuf)));
+    }
+    return new GetMetadataBatchResponse(metadata);
+  }
+}
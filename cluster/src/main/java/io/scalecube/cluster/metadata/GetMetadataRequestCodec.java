@@ -0,0 +1,32 @@
+package io.scalecube.cluster.metadata;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.cluster.MemberCodec;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+
+/** Binary schema of {@link GetMetadataRequest}. */
+public final class GetMetadataRequestCodec implements DataCodec<GetMetadataRequest> {
+
+  public static final int TYPE_ID = 20;
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<GetMetadataRequest> dataType() {
+    return GetMetadataRequest.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, GetMetadataRequest data) {
+    MemberCodec.writeMember(byteBuf, data.getMember());
+  }
+
+  @Override
+  public GetMetadataRequest decode(BinaryMessageCodec codec, ByteBuf byteBuf) {
+    return new GetMetadataRequest(MemberCodec.readMember(byteBuf));
+  }
+}
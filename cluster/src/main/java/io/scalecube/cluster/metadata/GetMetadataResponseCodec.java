@@ -0,0 +1,35 @@
+package io.scalecube.cluster.metadata;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.cluster.MemberCodec;
+import io.scalecube.transport.binary.BinaryCodecs;
+import io.scalecube.transport.binary.BinaryMessageCodec;
+import io.scalecube.transport.binary.DataCodec;
+
+/** Binary schema of {@link GetMetadataResponse}. */
+public final class GetMetadataResponseCodec implements DataCodec<GetMetadataResponse> {
+
+  public static final int TYPE_ID = 21;
+
+  @Override
+  public int typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<GetMetadataResponse> dataType() {
+    return GetMetadataResponse.class;
+  }
+
+  @Override
+  public void encode(BinaryMessageCodec codec, ByteBuf byteBuf, GetMetadataResponse data) {
+    MemberCodec.writeMember(byteBuf, data.getMember());
+    BinaryCodecs.writeByteBuffer(byteBuf, data.getMetadata());
+  }
+
+  @Override
+  public GetMetadataResponse decode(BinaryMessageCodec codec, ByteBuf byteBuf) {
+    return new GetMetadataResponse(
+        MemberCodec.readMember(byteBuf), BinaryCodecs.readByteBuffer(byteBuf));
+  }
+}
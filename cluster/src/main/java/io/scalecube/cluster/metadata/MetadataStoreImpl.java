@@ -8,6 +8,11 @@
 import io.scalecube.net.Address;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,6 +21,7 @@
 import org.slf4j.LoggerFactory;
 import reactor.core.Disposable;
 import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
@@ -27,6 +33,11 @@ public class MetadataStoreImpl implements MetadataStore {
 
   public static final String GET_METADATA_REQ = "sc/metadata/req";
   public static final String GET_METADATA_RESP = "sc/metadata/resp";
+  public static final String GET_METADATA_BATCH_REQ = "sc/metadata/batchReq";
+  public static final String GET_METADATA_BATCH_RESP = "sc/metadata/batchResp";
+
+  // Max number of members in one batch request
+  private static final int METADATA_BATCH_SIZE = 128;
 
   // Injected
 
@@ -164,8 +175,8 @@ public Mono<ByteBuffer> fetchMetadata(Member member) {
                   .build();
 
           transport
-              .requestResponse(targetAddress, request)
-              .timeout(Duration.ofMillis(config.metadataTimeout()), scheduler)
+              .requestResponse(
+                  targetAddress, request, Duration.ofMillis(config.metadataTimeout()))
               .publishOn(scheduler)
               .subscribe(
                   response -> {
@@ -192,6 +203,82 @@ public Mono<ByteBuffer> fetchMetadata(Member member) {
         });
   }
 
+  @Override
+  public Mono<Map<Member, ByteBuffer>> fetchMetadata(
+      Address address, Collection<Member> members) {
+    return Mono.defer(
+        () -> {
+          List<Member> requested = new ArrayList<>(new HashSet<>(members));
+          List<List<Member>> batches = new ArrayList<>();
+          for (int i = 0; i < requested.size(); i += METADATA_BATCH_SIZE) {
+            batches.add(
+                requested.subList(i, Math.min(i + METADATA_BATCH_SIZE, requested.size())));
+          }
+          return Flux.fromIterable(batches)
+              .flatMap(batch -> fetchMetadataBatch(address, batch))
+              .collectList()
+              .map(
+                  responses -> {
+                    Map<Member, ByteBuffer> result = new HashMap<>();
+                    responses.forEach(result::putAll);
+                    return result;
+                  });
+        });
+  }
+
+  private Mono<Map<Member, ByteBuffer>> fetchMetadataBatch(Address address, List<Member> batch) {
+    return Mono.defer(
+        () -> {
+          final String cid = cidGenerator.nextCid();
+          LOGGER.debug(
+              "Getting metadata for {} members from {} [at {}]",
+              batch.size(),
+              address,
+              localMember);
+
+          Message request =
+              Message.builder()
+                  .qualifier(GET_METADATA_BATCH_REQ)
+                  .correlationId(cid)
+                  .data(new GetMetadataBatchRequest(batch))
+                  .build();
+
+          return transport
+              .requestResponse(address, request, Duration.ofMillis(config.metadataTimeout()))
+              .publishOn(scheduler)
+              .map(
+                  response -> {
+                    GetMetadataBatchResponse respData = response.data();
+                    LOGGER.debug(
+                        "Received GetMetadataBatchResp[{}] of {} members from {} [at {}]",
+                        cid,
+                        respData.getMetadata().size(),
+                        address,
+                        localMember);
+                    Map<Member, ByteBuffer> result = new HashMap<>();
+                    for (GetMetadataResponse item : respData.getMetadata()) {
+                      // Accept only metadata which was asked for
+                      if (batch.contains(item.getMember())) {
+                        result.put(item.getMember(), item.getMetadata());
+                      }
+                    }
+                    return result;
+                  })
+              .onErrorResume(
+                  th -> {
+                    LOGGER.warn(
+                        "Failed getting GetMetadataBatchResp[{}] "
+                            + "from {} within {} ms [at {}], cause : {}",
+                        cid,
+                        address,
+                        config.metadataTimeout(),
+                        localMember,
+                        th.toString());
+                    return Mono.just(new HashMap<>());
+                  });
+        });
+  }
+
   // ================================================
   // ============== Event Listeners =================
   // ================================================
@@ -200,6 +287,9 @@ private void onMessage(Message message) {
     if (GET_METADATA_REQ.equals(message.qualifier())) {
       onMetadataRequest(message);
     }
+    if (GET_METADATA_BATCH_REQ.equals(message.qualifier())) {
+      onMetadataBatchRequest(message);
+    }
   }
 
   private void onError(Throwable throwable) {
@@ -247,4 +337,46 @@ private void onMetadataRequest(Message message) {
                     localMember,
                     ex.toString()));
   }
+
+  private void onMetadataBatchRequest(Message message) {
+    LOGGER.debug("Received GetMetadataBatchReq: {} [at {}]", message, localMember);
+
+    GetMetadataBatchRequest reqData = message.data();
+
+    // Serve local member metadata and metadata of members known to this store
+    List<GetMetadataResponse> metadata = new ArrayList<>();
+    for (Member member : reqData.getMembers()) {
+      if (localMember.equals(member)) {
+        ByteBuffer byteBuffer = config.metadataEncoder().encode(localMetadata);
+        metadata.add(new GetMetadataResponse(localMember, byteBuffer));
+      } else {
+        ByteBuffer byteBuffer = membersMetadata.get(member);
+        if (byteBuffer != null) {
+          metadata.add(new GetMetadataResponse(member, byteBuffer.slice()));
+        }
+      }
+    }
+
+    Message response =
+        Message.builder()
+            .qualifier(GET_METADATA_BATCH_RESP)
+            .correlationId(message.correlationId())
+            .data(new GetMetadataBatchResponse(metadata))
+            .build();
+
+    Address responseAddress = message.sender();
+    LOGGER.debug(
+        "Send GetMetadataBatchResp: {} to {} [at {}]", response, responseAddress, localMember);
+    transport
+        .send(responseAddress, response)
+        .subscribe(
+            null,
+            ex ->
+                LOGGER.debug(
+                    "Failed to send GetMetadataBatchResp: {} to {} [at {}], cause: {}",
+                    response,
+                    responseAddress,
+                    localMember,
+                    ex.toString()));
+  }
 }
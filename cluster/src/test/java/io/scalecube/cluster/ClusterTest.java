@@ -10,6 +10,7 @@
 import io.scalecube.net.Address;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -51,6 +52,28 @@ public void testMembersAccessFromScheduler() {
     assertEquals(seedNode.member(), seedNodeOnOtherNode.orElse(null));
   }
 
+  @Test
+  public void testPingOverUdp() throws Exception {
+    ClusterConfig config =
+        ClusterConfig.defaultLocalConfig().failureDetector(opts -> opts.pingOverUdp(true));
+
+    // Start seed node
+    Cluster seedNode = new ClusterImpl(config).startAwait();
+    Cluster otherNode =
+        new ClusterImpl(config)
+            .config(opts -> opts.membership(m -> m.seedMembers(seedNode.address())))
+            .startAwait();
+    try {
+      // Let failure detector do several rounds over udp
+      TimeUnit.MILLISECONDS.sleep(3 * config.failureDetectorConfig().pingInterval());
+
+      assertEquals(2, seedNode.members().size());
+      assertEquals(2, otherNode.members().size());
+    } finally {
+      shutdown(Arrays.asList(seedNode, otherNode));
+    }
+  }
+
   @Test
   public void testJoinLocalhostIgnored() {
     // Start seed node
@@ -469,6 +492,53 @@ public void onMembershipEvent(MembershipEvent event) {
     assertEquals(removedMetadata.get(), node1Metadata);
   }
 
+  @Test
+  public void testJoiningMemberReceivesMetadataOfAllMembers() {
+    // Start seed member
+    Cluster seedNode = new ClusterImpl().startAwait();
+
+    int testMembersNum = 10;
+    List<Cluster> otherNodes = new ArrayList<>(testMembersNum);
+    Cluster joiningNode = null;
+    try {
+      // Start test members with metadata
+      Flux.range(0, testMembersNum)
+          .flatMap(
+              i ->
+                  new ClusterImpl()
+                      .config(
+                          config ->
+                              config
+                                  .membership(opts -> opts.seedMembers(seedNode.address()))
+                                  .metadata(Collections.singletonMap("key", "value" + i)))
+                      .start())
+          .doOnNext(otherNodes::add)
+          .blockLast(TIMEOUT);
+
+      // Joining member gets metadata of members learned from seed on initial sync
+      joiningNode =
+          new ClusterImpl()
+              .config(config -> config.membership(opts -> opts.seedMembers(seedNode.address())))
+              .startAwait();
+
+      assertEquals(testMembersNum + 1, joiningNode.otherMembers().size());
+      for (Cluster node : otherNodes) {
+        Optional<Member> memberOptional = joiningNode.member(node.member().id());
+        assertTrue(memberOptional.isPresent());
+        Member member = memberOptional.get();
+        Map<String, String> metadata = node.<Map<String, String>>metadata().orElse(null);
+        assertEquals(metadata, joiningNode.metadata(member).orElse(null));
+      }
+    } finally {
+      // Shutdown all nodes
+      shutdown(
+          Stream.concat(
+                  Stream.of(seedNode, joiningNode), //
+                  otherNodes.stream())
+              .collect(Collectors.toList()));
+    }
+  }
+
   @Test
   public void testJoinSeedClusterWithNoExistingSeedMember() {
     // Start seed node
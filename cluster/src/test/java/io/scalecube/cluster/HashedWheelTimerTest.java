@@ -0,0 +1,99 @@
+package io.scalecube.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+public class HashedWheelTimerTest extends BaseTest {
+
+  private static final long TICK_DURATION = 10;
+
+  private final Scheduler scheduler = Schedulers.newSingle("timer-test", true);
+  private final HashedWheelTimer timer = new HashedWheelTimer(scheduler, TICK_DURATION);
+
+  @AfterEach
+  public void disposeScheduler() {
+    scheduler.dispose();
+  }
+
+  @Test
+  public void testTimeoutsExpireNotEarlierThanDelay() throws Exception {
+    int count = 100;
+    CountDownLatch latch = new CountDownLatch(count);
+    AtomicInteger early = new AtomicInteger();
+    long start = scheduler.now(TimeUnit.MILLISECONDS);
+    for (int i = 0; i < count; i++) {
+      long delay = 10 + i * 3;
+      timer.schedule(
+          () -> {
+            if (scheduler.now(TimeUnit.MILLISECONDS) - start < delay) {
+              early.incrementAndGet();
+            }
+            latch.countDown();
+          },
+          delay,
+          TimeUnit.MILLISECONDS);
+    }
+    assertEquals(count, timer.outstandingTimeouts());
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(0, early.get());
+    assertEquals(0, timer.outstandingTimeouts());
+    assertEquals(count, timer.expiredTimeouts());
+  }
+
+  @Test
+  public void testCancelledTimeoutsDontExpire() throws Exception {
+    AtomicInteger expired = new AtomicInteger();
+    List<Disposable> timeouts = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      timeouts.add(timer.schedule(expired::incrementAndGet, 100, TimeUnit.MILLISECONDS));
+    }
+    CountDownLatch latch = new CountDownLatch(1);
+    timer.schedule(latch::countDown, 200, TimeUnit.MILLISECONDS);
+
+    timeouts.forEach(Disposable::dispose);
+    assertTrue(timeouts.get(0).isDisposed());
+    assertEquals(1, timer.outstandingTimeouts());
+    assertEquals(1000, timer.cancelledTimeouts());
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(0, expired.get());
+    assertEquals(0, timer.outstandingTimeouts());
+  }
+
+  @Test
+  public void testTimeoutLongerThanWheelRotation() throws Exception {
+    // wheel rotation takes 512 ticks
+    HashedWheelTimer timer = new HashedWheelTimer(scheduler, 1);
+    CountDownLatch latch = new CountDownLatch(1);
+    long start = scheduler.now(TimeUnit.MILLISECONDS);
+    timer.schedule(latch::countDown, 1200, TimeUnit.MILLISECONDS);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(scheduler.now(TimeUnit.MILLISECONDS) - start >= 1200);
+  }
+
+  @Test
+  public void testRestartsTickingAfterIdle() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    timer.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+    awaitSeconds(1);
+
+    CountDownLatch latch1 = new CountDownLatch(1);
+    timer.schedule(latch1::countDown, 10, TimeUnit.MILLISECONDS);
+    assertTrue(latch1.await(5, TimeUnit.SECONDS));
+  }
+}
@@ -0,0 +1,192 @@
+package io.scalecube.cluster.gossip;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.cluster.BaseTest;
+import io.scalecube.cluster.transport.api.Message;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+public class GossipBufferTest extends BaseTest {
+
+  private final GossipBuffer buffer = new GossipBuffer();
+  private long sequenceId;
+
+  private GossipState gossip(long period) {
+    long id = sequenceId++;
+    return new GossipState(new Gossip("origin", id, Message.fromData("data" + id)), period);
+  }
+
+  private static List<GossipState> toList(Iterator<GossipState> iterator) {
+    List<GossipState> result = new ArrayList<>();
+    iterator.forEachRemaining(result::add);
+    return result;
+  }
+
+  private List<GossipState> forEach() {
+    List<GossipState> result = new ArrayList<>();
+    buffer.forEach(result::add);
+    return result;
+  }
+
+  @Test
+  public void testAdd() {
+    assertTrue(buffer.isEmpty());
+
+    GossipState g0 = gossip(0);
+    GossipState g1 = gossip(0);
+    GossipState g2 = gossip(1);
+    buffer.add(g0);
+    buffer.add(g1);
+    buffer.add(g2);
+
+    assertFalse(buffer.isEmpty());
+    assertEquals(3, buffer.size());
+    assertEquals(Arrays.asList(g0, g1, g2), forEach());
+  }
+
+  @Test
+  public void testGossipOfOlderPeriodGoesToLatestBucket() {
+    GossipState g0 = gossip(1);
+    GossipState g1 = gossip(0);
+    buffer.add(g0);
+    buffer.add(g1);
+
+    assertEquals(1, g1.spreadPeriod());
+    assertEquals(Arrays.asList(g0, g1), toList(buffer.since(1)));
+
+    List<GossipState> removed = new ArrayList<>();
+    buffer.sweep(0, removed::add);
+    assertEquals(Collections.emptyList(), removed);
+    assertEquals(2, buffer.size());
+
+    buffer.sweep(1, removed::add);
+    assertEquals(Arrays.asList(g0, g1), removed);
+    assertTrue(buffer.isEmpty());
+  }
+
+  @Test
+  public void testSince() {
+    GossipState g0 = gossip(0);
+    GossipState g1 = gossip(1);
+    GossipState g2 = gossip(1);
+    GossipState g3 = gossip(3);
+    Arrays.asList(g0, g1, g2, g3).forEach(buffer::add);
+
+    assertEquals(Arrays.asList(g0, g1, g2, g3), toList(buffer.since(0)));
+    assertEquals(Arrays.asList(g1, g2, g3), toList(buffer.since(1)));
+    assertEquals(Collections.singletonList(g3), toList(buffer.since(2)));
+    assertEquals(Collections.emptyList(), toList(buffer.since(4)));
+  }
+
+  @Test
+  public void testNewestSince() {
+    GossipState g0 = gossip(0);
+    GossipState g1 = gossip(1);
+    GossipState g2 = gossip(1);
+    GossipState g3 = gossip(3);
+    Arrays.asList(g0, g1, g2, g3).forEach(buffer::add);
+
+    assertEquals(Arrays.asList(g3, g2, g1, g0), toList(buffer.newestSince(0)));
+    assertEquals(Arrays.asList(g3, g2, g1), toList(buffer.newestSince(1)));
+    assertEquals(Collections.singletonList(g3), toList(buffer.newestSince(2)));
+    assertEquals(Collections.emptyList(), toList(buffer.newestSince(4)));
+  }
+
+  @Test
+  public void testExhaustedIteratorThrows() {
+    buffer.add(gossip(0));
+
+    Iterator<GossipState> since = buffer.since(0);
+    since.next();
+    assertFalse(since.hasNext());
+    assertThrows(NoSuchElementException.class, since::next);
+
+    Iterator<GossipState> newestSince = buffer.newestSince(0);
+    newestSince.next();
+    assertFalse(newestSince.hasNext());
+    assertThrows(NoSuchElementException.class, newestSince::next);
+  }
+
+  @Test
+  public void testDeferredGossipIsVisitedOnce() {
+    GossipState g0 = gossip(0);
+    GossipState g1 = gossip(0);
+    buffer.add(g0);
+    buffer.add(g1);
+
+    buffer.defer(g0, 2);
+
+    assertEquals(2, g0.spreadPeriod());
+    assertEquals(0, g0.infectionPeriod());
+    assertEquals(2, buffer.size());
+    assertEquals(Arrays.asList(g1, g0), forEach());
+    assertEquals(Arrays.asList(g1, g0), toList(buffer.since(0)));
+    assertEquals(Collections.singletonList(g0), toList(buffer.since(1)));
+    assertEquals(Arrays.asList(g0, g1), toList(buffer.newestSince(0)));
+  }
+
+  @Test
+  public void testDeferToSamePeriodIsNoop() {
+    GossipState g0 = gossip(0);
+    buffer.add(g0);
+
+    buffer.defer(g0, 0);
+
+    assertEquals(1, buffer.size());
+    assertEquals(Collections.singletonList(g0), forEach());
+  }
+
+  @Test
+  public void testSweep() {
+    GossipState g0 = gossip(0);
+    GossipState g1 = gossip(1);
+    GossipState g2 = gossip(2);
+    Arrays.asList(g0, g1, g2).forEach(buffer::add);
+
+    List<GossipState> removed = new ArrayList<>();
+    buffer.sweep(1, removed::add);
+
+    assertEquals(Arrays.asList(g0, g1), removed);
+    assertEquals(1, buffer.size());
+    assertEquals(Collections.singletonList(g2), forEach());
+
+    buffer.sweep(2, removed::add);
+
+    assertEquals(Arrays.asList(g0, g1, g2), removed);
+    assertTrue(buffer.isEmpty());
+    assertEquals(Collections.emptyList(), toList(buffer.since(0)));
+  }
+
+  @Test
+  public void testSweepOfOldBucketKeepsDeferredGossip() {
+    GossipState g0 = gossip(0);
+    GossipState g1 = gossip(0);
+    buffer.add(g0);
+    buffer.add(g1);
+    buffer.defer(g0, 2);
+
+    // old bucket still has stale entry of deferred gossip
+    List<GossipState> removed = new ArrayList<>();
+    buffer.sweep(1, removed::add);
+
+    assertEquals(Collections.singletonList(g1), removed);
+    assertEquals(1, buffer.size());
+    assertEquals(Collections.singletonList(g0), forEach());
+    assertEquals(Collections.singletonList(g0), toList(buffer.since(0)));
+
+    buffer.sweep(2, removed::add);
+
+    assertEquals(Arrays.asList(g1, g0), removed);
+    assertEquals(0, buffer.size());
+    assertTrue(buffer.isEmpty());
+  }
+}
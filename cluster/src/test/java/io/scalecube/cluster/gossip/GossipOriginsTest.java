@@ -0,0 +1,62 @@
+package io.scalecube.cluster.gossip;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.cluster.BaseTest;
+import io.scalecube.cluster.transport.api.Message;
+import org.junit.jupiter.api.Test;
+
+public class GossipOriginsTest extends BaseTest {
+
+  private static final String GOSSIPER_ID = "origin";
+
+  private final GossipOrigins origins = new GossipOrigins();
+
+  /** Does what gossip protocol does on receiving gossip, returns true if gossip is emitted. */
+  private boolean receive(GossipOrigins.Origin origin, long sequenceId) {
+    if (!origin.markSeen(sequenceId)) {
+      return false;
+    }
+    Gossip gossip = new Gossip(GOSSIPER_ID, sequenceId, Message.fromData("data" + sequenceId));
+    origin.addLive(new GossipState(gossip, 0));
+    return true;
+  }
+
+  @Test
+  public void testGossipsOlderThanWindowAreNotLost() {
+    GossipOrigins.Origin origin = origins.getOrCreate(GOSSIPER_ID, 0);
+
+    assertTrue(receive(origin, 300));
+    for (long s = 0; s <= 43; s++) {
+      assertTrue(receive(origin, s), "Expected gossip " + s + " to be emitted");
+    }
+    for (long s = 44; s < 300; s++) {
+      assertTrue(receive(origin, s), "Expected gossip " + s + " to be emitted");
+    }
+
+    // every gossip is emitted only once
+    for (long s = 0; s <= 300; s++) {
+      assertFalse(receive(origin, s), "Expected gossip " + s + " to be seen");
+      assertTrue(origin.isSeen(s));
+    }
+  }
+
+  @Test
+  public void testSweptGossipsOlderThanWindowStaySeen() {
+    GossipOrigins.Origin origin = origins.getOrCreate(GOSSIPER_ID, 0);
+
+    assertTrue(receive(origin, 0));
+    origin.removeLive(0, 10);
+    assertTrue(receive(origin, 300));
+
+    // swept gossip older than window is still known
+    assertFalse(receive(origin, 0));
+    assertTrue(origin.isSeen(0));
+    assertFalse(origin.isSeen(1));
+
+    // swept gossip is forgotten after sweep of origins
+    origins.sweep(11);
+    assertFalse(origin.isSeen(0));
+  }
+}
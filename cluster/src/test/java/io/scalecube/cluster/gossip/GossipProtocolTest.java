@@ -6,6 +6,9 @@
 import static io.scalecube.cluster.ClusterMath.maxMessagesPerGossipTotal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.scalecube.cluster.BaseTest;
@@ -13,29 +16,38 @@
 import io.scalecube.cluster.Member;
 import io.scalecube.cluster.membership.MembershipEvent;
 import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.MessageCodec;
 import io.scalecube.cluster.transport.api.Transport;
 import io.scalecube.cluster.utils.NetworkEmulatorTransport;
 import io.scalecube.net.Address;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
@@ -225,7 +237,506 @@ private LongSummaryStatistics computeMessageLostStats(List<GossipProtocolImpl> g
     return messageLostPerNode.stream().mapToLong(v -> v).summaryStatistics();
   }
 
+  @Test
+  void testGossipsToMemberArePackedIntoOneRequest() throws Exception {
+    int gossipsNum = 50;
+    List<GossipProtocolImpl> gossipProtocols = initGossipProtocols(2, 0, 0);
+    GossipProtocolImpl sender = gossipProtocols.get(0);
+    GossipProtocolImpl receiver = gossipProtocols.get(1);
+
+    AtomicInteger requestsCount = new AtomicInteger();
+    receiver
+        .getTransport()
+        .listen()
+        .filter(message -> GossipProtocolImpl.GOSSIP_REQ.equals(message.qualifier()))
+        .subscribe(message -> requestsCount.incrementAndGet());
+
+    CountDownLatch latch = new CountDownLatch(gossipsNum);
+    receiver.listen().subscribe(message -> latch.countDown());
+
+    try {
+      Flux.range(0, gossipsNum)
+          .flatMap(i -> sender.spread(Message.fromData("gossip-" + i)).subscribeOn(scheduler))
+          .subscribe();
+
+      assertTrue(latch.await(10, TimeUnit.SECONDS), "Not all gossips received");
+      assertTrue(
+          requestsCount.get() < gossipsNum,
+          "Expected gossips to be batched, but got " + requestsCount.get() + " requests");
+    } finally {
+      destroyGossipProtocols(gossipProtocols);
+    }
+  }
+
+  @Test
+  void testPiggybackCarriesFreshestGossipsPriorityFirst() throws Exception {
+    Duration timeout = Duration.ofSeconds(3);
+    List<Transport> transports = initTransports(2, 0, 0);
+    GossipConfig gossipConfig =
+        new GossipConfig()
+            .gossipPiggybackMaxBytes(64 * 1024)
+            .gossipPriorityQualifiers(Collections.singleton("priority"));
+    Member senderMember = new Member("sender", transports.get(0).address());
+    Member receiverMember = new Member("receiver", transports.get(1).address());
+
+    // not started, so gossips are spread only by piggyback
+    GossipProtocolImpl sender =
+        new GossipProtocolImpl(
+            senderMember,
+            transports.get(0),
+            Flux.just(MembershipEvent.createAdded(receiverMember, null)),
+            gossipConfig,
+            scheduler);
+    GossipProtocolImpl receiver =
+        new GossipProtocolImpl(
+            receiverMember,
+            transports.get(1),
+            Flux.just(MembershipEvent.createAdded(senderMember, null)),
+            gossipConfig,
+            scheduler);
+
+    List<String> received = new CopyOnWriteArrayList<>();
+    receiver.listen().subscribe(message -> received.add(message.data()));
+
+    try {
+      sender.spread(Message.withData("gossip-1").qualifier("regular").build()).subscribe();
+      sender.spread(Message.withData("gossip-2").qualifier("priority").build()).subscribe();
+      sender.spread(Message.withData("gossip-3").qualifier("regular").build()).subscribe();
+
+      Message piggyback =
+          Mono.fromCallable(() -> sender.outgoing(receiverMember))
+              .subscribeOn(scheduler)
+              .block(timeout);
+      assertNotNull(piggyback, "Expected gossips to be piggybacked");
+
+      Mono.fromRunnable(() -> receiver.incoming(senderMember, piggyback))
+          .subscribeOn(scheduler)
+          .block(timeout);
+      assertEquals(Arrays.asList("gossip-2", "gossip-3", "gossip-1"), received);
+
+      // receiver is infected already
+      assertNull(
+          Mono.fromCallable(() -> Optional.ofNullable(sender.outgoing(receiverMember)))
+              .subscribeOn(scheduler)
+              .block(timeout)
+              .orElse(null));
+    } finally {
+      destroyGossipProtocols(Arrays.asList(sender, receiver));
+    }
+  }
+
+  @Test
+  void testMissedGossipsArePulledByAntiEntropy() throws Exception {
+    int gossipsNum = 10;
+    List<Transport> transports = initTransports(2, 0, 0);
+    // gossip rounds never come, so gossips are spread only by anti-entropy
+    GossipConfig gossipConfig =
+        new GossipConfig()
+            .gossipInterval(TimeUnit.HOURS.toMillis(1))
+            .gossipAntiEntropyInterval(100);
+    Member senderMember = new Member("sender", transports.get(0).address());
+    Member receiverMember = new Member("receiver", transports.get(1).address());
+
+    GossipProtocolImpl sender =
+        new GossipProtocolImpl(
+            senderMember,
+            transports.get(0),
+            Flux.just(MembershipEvent.createAdded(receiverMember, null)),
+            gossipConfig,
+            scheduler);
+    GossipProtocolImpl receiver =
+        new GossipProtocolImpl(
+            receiverMember,
+            transports.get(1),
+            Flux.just(MembershipEvent.createAdded(senderMember, null)),
+            gossipConfig,
+            scheduler);
+
+    CountDownLatch latch = new CountDownLatch(gossipsNum);
+    receiver.listen().subscribe(message -> latch.countDown());
+
+    try {
+      for (int i = 0; i < gossipsNum; i++) {
+        sender.spread(Message.fromData("gossip-" + i)).subscribe();
+      }
+      sender.start();
+      receiver.start();
+
+      assertTrue(latch.await(10, TimeUnit.SECONDS), "Not all gossips received");
+    } finally {
+      destroyGossipProtocols(Arrays.asList(sender, receiver));
+    }
+  }
+
+  @Test
+  void testRoundBudgetSpreadsGossipsByPriorityThenAge() throws Exception {
+    List<Transport> transports = initTransports(2, 0, 0);
+    // one gossip per round, the rest roll over
+    GossipConfig gossipConfig =
+        new GossipConfig()
+            .gossipInterval(gossipInterval)
+            .gossipRoundMaxMessages(1)
+            .gossipPriorityQualifiers(Collections.singleton("membership"));
+    Member senderMember = new Member("sender", transports.get(0).address());
+    Member receiverMember = new Member("receiver", transports.get(1).address());
+
+    GossipProtocolImpl sender =
+        new GossipProtocolImpl(
+            senderMember,
+            transports.get(0),
+            Flux.just(MembershipEvent.createAdded(receiverMember, null)),
+            gossipConfig,
+            scheduler);
+    GossipProtocolImpl receiver =
+        new GossipProtocolImpl(
+            receiverMember,
+            transports.get(1),
+            Flux.just(MembershipEvent.createAdded(senderMember, null)),
+            gossipConfig,
+            scheduler);
+
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(5);
+    receiver
+        .listen()
+        .subscribe(
+            message -> {
+              received.add(message.data());
+              latch.countDown();
+            });
+
+    try {
+      sender.spread(Message.withData("user-1").build()).subscribe();
+      sender.spread(Message.withData("user-2").build()).subscribe();
+      sender
+          .spread(
+              Message.withData("user-urgent")
+                  .header(GossipConfig.HEADER_GOSSIP_PRIORITY, "5")
+                  .build())
+          .subscribe();
+      sender.spread(Message.withData("user-3").build()).subscribe();
+      sender.spread(Message.withData("membership").qualifier("membership").build()).subscribe();
+      // start after gossips are queued on scheduler
+      Mono.fromRunnable(sender::start).subscribeOn(scheduler).block(Duration.ofSeconds(3));
+      receiver.start();
+
+      assertTrue(latch.await(10, TimeUnit.SECONDS), "Not all gossips received");
+      assertEquals(
+          Arrays.asList("membership", "user-urgent", "user-1", "user-2", "user-3"), received);
+    } finally {
+      destroyGossipProtocols(Arrays.asList(sender, receiver));
+    }
+  }
+
+  @Test
+  void testGossipsOverBatchMaxBytesRollOverToNextRound() throws Exception {
+    int gossipsNum = 20;
+    List<Transport> transports = initTransports(2, 0, 0);
+    // one gossip per request and no anti-entropy, gossips must not be swept before they're sent
+    GossipConfig gossipConfig =
+        new GossipConfig()
+            .gossipInterval(gossipInterval)
+            .gossipRepeatMult(1)
+            .gossipBatchMaxBytes(1)
+            .gossipAntiEntropyInterval(0);
+    Member senderMember = new Member("sender", transports.get(0).address());
+    Member receiverMember = new Member("receiver", transports.get(1).address());
+
+    GossipProtocolImpl sender =
+        new GossipProtocolImpl(
+            senderMember,
+            transports.get(0),
+            Flux.just(MembershipEvent.createAdded(receiverMember, null)),
+            gossipConfig,
+            scheduler);
+    GossipProtocolImpl receiver =
+        new GossipProtocolImpl(
+            receiverMember,
+            transports.get(1),
+            Flux.just(MembershipEvent.createAdded(senderMember, null)),
+            gossipConfig,
+            scheduler);
+
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(gossipsNum);
+    receiver
+        .listen()
+        .subscribe(
+            message -> {
+              received.add(message.data());
+              latch.countDown();
+            });
+
+    try {
+      for (int i = 0; i < gossipsNum; i++) {
+        sender.spread(Message.withData("gossip-" + i).build()).subscribe();
+      }
+      // start after gossips are queued on scheduler
+      Mono.fromRunnable(sender::start).subscribeOn(scheduler).block(Duration.ofSeconds(3));
+      receiver.start();
+
+      assertTrue(latch.await(30, TimeUnit.SECONDS), "Not all gossips received: " + received);
+      assertEquals(gossipsNum, new HashSet<>(received).size());
+    } finally {
+      destroyGossipProtocols(Arrays.asList(sender, receiver));
+    }
+  }
+
+  @Test
+  void testPriorityGossipDoesNotOvertakeGossipsBelowDedupWindow() throws Exception {
+    int userGossipsNum = GossipOrigins.WINDOW_SIZE + 44;
+    List<Transport> transports = initTransports(2, 0, 0);
+    GossipConfig gossipConfig =
+        new GossipConfig()
+            .gossipInterval(gossipInterval)
+            .gossipRoundMaxMessages(16)
+            .gossipPriorityQualifiers(Collections.singleton("membership"));
+    Member senderMember = new Member("sender", transports.get(0).address());
+    Member receiverMember = new Member("receiver", transports.get(1).address());
+
+    GossipProtocolImpl sender =
+        new GossipProtocolImpl(
+            senderMember,
+            transports.get(0),
+            Flux.just(MembershipEvent.createAdded(receiverMember, null)),
+            gossipConfig,
+            scheduler);
+    GossipProtocolImpl receiver =
+        new GossipProtocolImpl(
+            receiverMember,
+            transports.get(1),
+            Flux.just(MembershipEvent.createAdded(senderMember, null)),
+            gossipConfig,
+            scheduler);
+
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(userGossipsNum + 1);
+    receiver
+        .listen()
+        .subscribe(
+            message -> {
+              received.add(message.data());
+              latch.countDown();
+            });
+
+    try {
+      for (int i = 0; i < userGossipsNum; i++) {
+        sender.spread(Message.withData("user-" + i).build()).subscribe();
+      }
+      sender.spread(Message.withData("membership").qualifier("membership").build()).subscribe();
+      // start after gossips are queued on scheduler
+      Mono.fromRunnable(sender::start).subscribeOn(scheduler).block(Duration.ofSeconds(3));
+      receiver.start();
+
+      assertTrue(latch.await(30, TimeUnit.SECONDS), "Not all gossips received");
+      assertEquals(userGossipsNum + 1, received.size());
+      assertEquals(userGossipsNum + 1, new HashSet<>(received).size());
+      // membership gossip overtakes user gossips only within dedup window
+      int membershipIndex = received.indexOf("membership");
+      for (int i = 0; i < userGossipsNum - GossipOrigins.WINDOW_SIZE + 1; i++) {
+        assertTrue(
+            received.indexOf("user-" + i) < membershipIndex,
+            "Membership gossip overtook user-" + i);
+      }
+    } finally {
+      destroyGossipProtocols(Arrays.asList(sender, receiver));
+    }
+  }
+
+  @Test
+  void testMemberReusingSlotOfRemovedMemberReceivesGossip() throws Exception {
+    List<Transport> transports = initTransports(3, 0, 0);
+    // gossip is still spread after members change
+    GossipConfig gossipConfig =
+        new GossipConfig().gossipInterval(gossipInterval).gossipRepeatMult(50);
+    Member senderMember = new Member("sender", transports.get(0).address());
+    Member removedMember = new Member("removed", transports.get(1).address());
+    Member addedMember = new Member("added", transports.get(2).address());
+
+    DirectProcessor<MembershipEvent> membershipEvents = DirectProcessor.create();
+    GossipProtocolImpl sender =
+        new GossipProtocolImpl(
+            senderMember, transports.get(0), membershipEvents, gossipConfig, scheduler);
+    GossipProtocolImpl removed =
+        new GossipProtocolImpl(
+            removedMember,
+            transports.get(1),
+            Flux.just(MembershipEvent.createAdded(senderMember, null)),
+            gossipConfig,
+            scheduler);
+    GossipProtocolImpl added =
+        new GossipProtocolImpl(
+            addedMember,
+            transports.get(2),
+            Flux.just(MembershipEvent.createAdded(senderMember, null)),
+            gossipConfig,
+            scheduler);
+
+    try {
+      membershipEvents.onNext(MembershipEvent.createAdded(removedMember, null));
+      sender.start();
+      removed.start();
+      added.start();
+
+      Mono<Message> receivedByRemoved = removed.listen().next().cache();
+      receivedByRemoved.subscribe();
+      sender.spread(Message.fromData("gossip")).subscribe();
+      assertNotNull(receivedByRemoved.block(Duration.ofSeconds(10)));
+
+      // added member takes slot of removed one, which was infected
+      Mono<Message> receivedByAdded = added.listen().next().cache();
+      receivedByAdded.subscribe();
+      membershipEvents.onNext(MembershipEvent.createRemoved(removedMember, null));
+      membershipEvents.onNext(MembershipEvent.createAdded(addedMember, null));
+
+      Message message = receivedByAdded.block(Duration.ofSeconds(10));
+      assertNotNull(message, "Added member was considered infected");
+      assertEquals("gossip", message.data());
+    } finally {
+      destroyGossipProtocols(Arrays.asList(sender, removed, added));
+    }
+  }
+
+  @Test
+  void testLargeGossipIsChunkedAndReassembled() throws Exception {
+    int chunkSize = 1024;
+    List<Transport> transports = initTransports(2, 0, 0);
+    // few chunks per round, so prioritized small gossip overtakes chunks of large one
+    GossipConfig gossipConfig =
+        new GossipConfig()
+            .gossipInterval(gossipInterval)
+            .gossipChunkSize(chunkSize)
+            .gossipRoundMaxMessages(2);
+    Member senderMember = new Member("sender", transports.get(0).address());
+    Member receiverMember = new Member("receiver", transports.get(1).address());
+
+    // delegates are started by chunking gossip protocols
+    GossipProtocolImpl senderDelegate =
+        new GossipProtocolImpl(
+            senderMember,
+            transports.get(0),
+            Flux.just(MembershipEvent.createAdded(receiverMember, null)),
+            gossipConfig,
+            scheduler);
+    GossipProtocolImpl receiverDelegate =
+        new GossipProtocolImpl(
+            receiverMember,
+            transports.get(1),
+            Flux.just(MembershipEvent.createAdded(senderMember, null)),
+            gossipConfig,
+            scheduler);
+    GossipProtocol sender =
+        new ChunkingGossipProtocol(
+            senderDelegate, senderMember, gossipConfig, MessageCodec.INSTANCE);
+    GossipProtocol receiver =
+        new ChunkingGossipProtocol(
+            receiverDelegate, receiverMember, gossipConfig, MessageCodec.INSTANCE);
+
+    AtomicInteger chunksCount = new AtomicInteger();
+    receiverDelegate
+        .listen()
+        .filter(message -> ChunkingGossipProtocol.GOSSIP_CHUNK.equals(message.qualifier()))
+        .subscribe(message -> chunksCount.incrementAndGet());
+
+    List<Message> received = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(2);
+    receiver
+        .listen()
+        .subscribe(
+            message -> {
+              received.add(message);
+              latch.countDown();
+            });
+
+    StringBuilder data = new StringBuilder();
+    while (data.length() < 10 * chunkSize) {
+      data.append(ThreadLocalRandom.current().nextLong());
+    }
+
+    try {
+      sender.spread(Message.withData(data.toString()).qualifier("large").build()).subscribe();
+      sender
+          .spread(
+              Message.withData("small")
+                  .qualifier("small")
+                  .header(GossipConfig.HEADER_GOSSIP_PRIORITY, "1")
+                  .build())
+          .subscribe();
+      // start after gossips are queued on scheduler
+      Mono.fromRunnable(sender::start).subscribeOn(scheduler).block(Duration.ofSeconds(3));
+      receiver.start();
+
+      assertTrue(latch.await(10, TimeUnit.SECONDS), "Not all gossips received");
+      assertTrue(chunksCount.get() > 10, "Expected large gossip to be chunked");
+      assertEquals(2, received.size());
+      assertEquals("small", received.get(0).qualifier(), "Small gossip waited for large one");
+      assertEquals("large", received.get(1).qualifier());
+      assertEquals(data.toString(), received.get(1).data());
+    } finally {
+      destroyGossipProtocols(Arrays.asList(senderDelegate, receiverDelegate));
+    }
+  }
+
+  @Test
+  void testGossipOfTooManyChunksIsRejected() {
+    int chunkSize = 16;
+    List<GossipProtocolImpl> gossipProtocols = initGossipProtocols(1, 0, 0);
+    GossipProtocolImpl delegate = gossipProtocols.get(0);
+    GossipProtocol gossipProtocol =
+        new ChunkingGossipProtocol(
+            delegate,
+            delegate.getMember(),
+            new GossipConfig().gossipChunkSize(chunkSize),
+            MessageCodec.INSTANCE);
+
+    StringBuilder data = new StringBuilder();
+    while (data.length() < (ChunkingGossipProtocol.MAX_CHUNKS + 1) * chunkSize) {
+      data.append(ThreadLocalRandom.current().nextLong());
+    }
+
+    try {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> gossipProtocol.spread(Message.fromData(data.toString())).block());
+    } finally {
+      destroyGossipProtocols(gossipProtocols);
+    }
+  }
+
+  @Test
+  void testSpreadProgressCompletesEarlyWithDeliveryTracking() throws Exception {
+    int membersNum = 5;
+    List<GossipProtocolImpl> gossipProtocols =
+        initGossipProtocols(membersNum, 0, 0, config -> config.gossipDeliveryTracking(true));
+    long timeoutToSweep =
+        ClusterMath.gossipTimeoutToSweep(gossipRepeatMultiplier, membersNum, gossipInterval);
+
+    try {
+      long start = System.currentTimeMillis();
+      GossipProgress progress =
+          gossipProtocols
+              .get(0)
+              .spreadWithProgress(Message.fromData("gossip"))
+              .filter(p -> p.infected() == membersNum - 1)
+              .blockFirst(Duration.ofMillis(timeoutToSweep));
+      long elapsed = System.currentTimeMillis() - start;
+
+      assertNotNull(progress);
+      assertFalse(progress.isCompleted(), "Expected all members to report before sweep");
+      assertEquals(membersNum - 1, progress.membersCount());
+      assertEquals(1.0, progress.infectedFraction());
+      assertTrue(elapsed < timeoutToSweep, "Expected progress before sweep: " + elapsed);
+    } finally {
+      destroyGossipProtocols(gossipProtocols);
+    }
+  }
+
   private List<GossipProtocolImpl> initGossipProtocols(int count, int lostPercent, int meanDelay) {
+    return initGossipProtocols(count, lostPercent, meanDelay, UnaryOperator.identity());
+  }
+
+  private List<GossipProtocolImpl> initGossipProtocols(
+      int count, int lostPercent, int meanDelay, UnaryOperator<GossipConfig> options) {
     final List<Transport> transports = initTransports(count, lostPercent, meanDelay);
     List<Address> members = new ArrayList<>();
     for (Transport transport : transports) {
@@ -233,7 +744,7 @@ private List<GossipProtocolImpl> initGossipProtocols(int count, int lostPercent,
     }
     List<GossipProtocolImpl> gossipProtocols = new ArrayList<>();
     for (Transport transport : transports) {
-      gossipProtocols.add(initGossipProtocol(transport, members));
+      gossipProtocols.add(initGossipProtocol(transport, members, options));
     }
     return gossipProtocols;
   }
@@ -248,12 +759,14 @@ private List<Transport> initTransports(int count, int lostPercent, int meanDelay
     return transports;
   }
 
-  private GossipProtocolImpl initGossipProtocol(Transport transport, List<Address> members) {
+  private GossipProtocolImpl initGossipProtocol(
+      Transport transport, List<Address> members, UnaryOperator<GossipConfig> options) {
     GossipConfig gossipConfig =
-        new GossipConfig()
-            .gossipFanout(gossipFanout)
-            .gossipInterval(gossipInterval)
-            .gossipRepeatMult(gossipRepeatMultiplier);
+        options.apply(
+            new GossipConfig()
+                .gossipFanout(gossipFanout)
+                .gossipInterval(gossipInterval)
+                .gossipRepeatMult(gossipRepeatMultiplier));
 
     Member localMember = new Member("member-" + transport.address().port(), transport.address());
 
@@ -4,12 +4,15 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.scalecube.cluster.BaseTest;
 import io.scalecube.cluster.Member;
 import io.scalecube.cluster.transport.JacksonMessageCodec;
 import io.scalecube.cluster.transport.api.Message;
 import io.scalecube.cluster.transport.api.MessageCodec;
 import io.scalecube.net.Address;
+import io.scalecube.transport.binary.BinaryMessageCodec;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
@@ -66,11 +69,46 @@ public void testSerializationAndDeserialization() throws Exception {
     assertEquals(testData.getProperties(), ((TestData) msgData).getProperties());
   }
 
+  @Test
+  public void testBinarySerializationAndDeserialization() throws Exception {
+    BinaryMessageCodec binaryCodec = new BinaryMessageCodec(messageCodec);
+
+    Member from = new Member("0", Address.from("localhost:1234"));
+    List<Gossip> gossips = getGossips();
+    Message message =
+        Message.withData(new GossipRequest(gossips, from.id())).correlationId("CORR_ID").build();
+
+    ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+    try {
+      binaryCodec.serialize(message, byteBuf);
+      assertTrue(byteBuf.readableBytes() > 0);
+
+      Message deserializedMessage = binaryCodec.deserialize(byteBuf);
+      assertEquals(0, byteBuf.readableBytes());
+      assertEquals("CORR_ID", deserializedMessage.correlationId());
+
+      GossipRequest gossipRequest = deserializedMessage.data();
+      assertEquals(from.id(), gossipRequest.from());
+      assertEquals(2, gossipRequest.gossips().size());
+
+      Gossip gossip = gossipRequest.gossips().get(0);
+      assertEquals("gossiper", gossip.gossiperId());
+      assertEquals(1, gossip.sequenceId());
+      assertEquals(testDataQualifier, gossip.message().qualifier());
+
+      Object msgData = gossip.message().data();
+      assertTrue(msgData instanceof TestData, String.valueOf(msgData));
+      assertEquals(testData.getProperties(), ((TestData) msgData).getProperties());
+    } finally {
+      byteBuf.release();
+    }
+  }
+
   private List<Gossip> getGossips() {
     Gossip request =
-        new Gossip("idGossip", Message.withData(testData).qualifier(testDataQualifier).build());
+        new Gossip("gossiper", 1, Message.withData(testData).qualifier(testDataQualifier).build());
     Gossip request2 =
-        new Gossip("idGossip2", Message.withData(testData).qualifier(testDataQualifier).build());
+        new Gossip("gossiper", 2, Message.withData(testData).qualifier(testDataQualifier).build());
     List<Gossip> gossips = new ArrayList<>(2);
     gossips.add(request);
     gossips.add(request2);
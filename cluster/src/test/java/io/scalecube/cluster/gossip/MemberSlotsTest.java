@@ -0,0 +1,65 @@
+package io.scalecube.cluster.gossip;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.cluster.BaseTest;
+import io.scalecube.cluster.transport.api.Message;
+import org.junit.jupiter.api.Test;
+
+public class MemberSlotsTest extends BaseTest {
+
+  private final MemberSlots memberSlots = new MemberSlots();
+
+  @Test
+  public void testSlotsAreDense() {
+    assertEquals(0, memberSlots.add("a"));
+    assertEquals(1, memberSlots.add("b"));
+    assertEquals(2, memberSlots.add("c"));
+
+    // adding known member returns its slot
+    assertEquals(1, memberSlots.add("b"));
+    assertEquals(1, memberSlots.slotOf("b"));
+    assertEquals(-1, memberSlots.slotOf("unknown"));
+  }
+
+  @Test
+  public void testSlotsOfRemovedMembersAreReusedLowestFirst() {
+    memberSlots.add("a");
+    memberSlots.add("b");
+    memberSlots.add("c");
+
+    assertEquals(2, memberSlots.remove("c"));
+    assertEquals(0, memberSlots.remove("a"));
+    assertEquals(-1, memberSlots.remove("a"));
+    assertEquals(-1, memberSlots.slotOf("a"));
+
+    assertEquals(0, memberSlots.add("d"));
+    assertEquals(2, memberSlots.add("e"));
+    assertEquals(3, memberSlots.add("f"));
+  }
+
+  @Test
+  public void testMemberTakingFreedSlotIsNotInfected() {
+    GossipState gossipState =
+        new GossipState(new Gossip("origin", 0, Message.fromData("data")), 0);
+    int slot = memberSlots.add("a");
+    memberSlots.add("b");
+    gossipState.addToConfirmed(slot);
+    gossipState.addToInfected(memberSlots.slotOf("b"));
+    assertEquals(2, gossipState.infectedCount());
+    assertEquals(1, gossipState.confirmedCount());
+
+    // what gossip protocol does on member removal
+    int removedSlot = memberSlots.remove("a");
+    gossipState.removeFromInfected(removedSlot);
+
+    int newSlot = memberSlots.add("c");
+    assertEquals(slot, newSlot);
+    assertFalse(gossipState.isInfected(newSlot));
+    assertTrue(gossipState.isInfected(memberSlots.slotOf("b")));
+    assertEquals(1, gossipState.infectedCount());
+    assertEquals(0, gossipState.confirmedCount());
+  }
+}
@@ -0,0 +1,162 @@
+package io.scalecube.cluster.gossip;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.cluster.BaseTest;
+import io.scalecube.cluster.Member;
+import io.scalecube.cluster.membership.MembershipEvent;
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.utils.NetworkEmulatorTransport;
+import io.scalecube.net.Address;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+class PlumtreeGossipProtocolTest extends BaseTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PlumtreeGossipProtocolTest.class);
+
+  private static final long gossipInterval /* ms */ = 100;
+
+  private Scheduler scheduler;
+  private final Map<PlumtreeGossipProtocol, NetworkEmulatorTransport> transports =
+      new ConcurrentHashMap<>();
+  private final Map<PlumtreeGossipProtocol, Member> members = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp(TestInfo testInfo) {
+    scheduler = Schedulers.newSingle(testInfo.getDisplayName().replaceAll(" ", "_"), true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (scheduler != null) {
+      scheduler.dispose();
+    }
+  }
+
+  @ParameterizedTest(name = "N={0}, Ploss={1}%")
+  @CsvSource({"10, 0", "10, 10", "30, 0"})
+  void testGossipsReachAllMembers(int membersNum, int lossPercent) throws Exception {
+    int gossipsNum = 20;
+    List<PlumtreeGossipProtocol> gossipProtocols = initGossipProtocols(membersNum, lossPercent);
+
+    CountDownLatch latch = new CountDownLatch((membersNum - 1) * gossipsNum);
+    Map<Member, Set<Object>> received = new ConcurrentHashMap<>();
+    for (PlumtreeGossipProtocol protocol : gossipProtocols) {
+      protocol
+          .listen()
+          .subscribe(
+              message -> {
+                Set<Object> gossips =
+                    received.computeIfAbsent(
+                        members.get(protocol), m -> ConcurrentHashMap.newKeySet());
+                if (gossips.add(message.data())) {
+                  latch.countDown();
+                }
+              });
+    }
+
+    try {
+      // Spread gossips one by one, so that tree gets pruned by the first ones
+      for (int i = 0; i < gossipsNum; i++) {
+        gossipProtocols.get(0).spread(Message.fromData("gossip-" + i)).subscribe();
+        Thread.sleep(gossipInterval);
+      }
+
+      assertTrue(latch.await(30, TimeUnit.SECONDS), "Not all members received all gossips");
+      assertEquals(membersNum - 1, received.size());
+
+      long eagerPeers =
+          gossipProtocols.stream().mapToLong(protocol -> protocol.getEagerPeers().size()).sum();
+      LOGGER.info(
+          "N={}, Ploss={}%: eager links {}, messages sent {}",
+          membersNum,
+          lossPercent,
+          eagerPeers / 2,
+          computeMessageSentCount(gossipProtocols));
+    } finally {
+      destroyGossipProtocols(gossipProtocols);
+    }
+  }
+
+  private long computeMessageSentCount(List<PlumtreeGossipProtocol> gossipProtocols) {
+    long count = 0;
+    for (PlumtreeGossipProtocol gossipProtocol : gossipProtocols) {
+      count += transports.get(gossipProtocol).networkEmulator().totalMessageSentCount();
+    }
+    return count;
+  }
+
+  private List<PlumtreeGossipProtocol> initGossipProtocols(int count, int lostPercent) {
+    List<NetworkEmulatorTransport> transports = new ArrayList<>(count);
+    List<Address> members = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      NetworkEmulatorTransport transport = createTransport();
+      transport.networkEmulator().setDefaultOutboundSettings(lostPercent, 2);
+      transports.add(transport);
+      members.add(transport.address());
+    }
+    List<PlumtreeGossipProtocol> gossipProtocols = new ArrayList<>(count);
+    for (NetworkEmulatorTransport transport : transports) {
+      gossipProtocols.add(initGossipProtocol(transport, members));
+    }
+    return gossipProtocols;
+  }
+
+  private PlumtreeGossipProtocol initGossipProtocol(
+      NetworkEmulatorTransport transport, List<Address> members) {
+    GossipConfig gossipConfig =
+        new GossipConfig().gossipMode(GossipMode.PLUMTREE).gossipInterval(gossipInterval);
+
+    Member localMember = new Member("member-" + transport.address().port(), transport.address());
+
+    Flux<MembershipEvent> membershipFlux =
+        Flux.fromIterable(members)
+            .filter(address -> !transport.address().equals(address))
+            .map(address -> new Member("member-" + address.port(), address))
+            .map(member -> MembershipEvent.createAdded(member, null));
+
+    PlumtreeGossipProtocol gossipProtocol =
+        new PlumtreeGossipProtocol(
+            localMember, transport, membershipFlux, gossipConfig, null, scheduler);
+    transports.put(gossipProtocol, transport);
+    this.members.put(gossipProtocol, localMember);
+    gossipProtocol.start();
+    return gossipProtocol;
+  }
+
+  private void destroyGossipProtocols(List<PlumtreeGossipProtocol> gossipProtocols) {
+    for (PlumtreeGossipProtocol gossipProtocol : gossipProtocols) {
+      gossipProtocol.stop();
+    }
+
+    List<Mono<Void>> futures = new ArrayList<>();
+    for (PlumtreeGossipProtocol gossipProtocol : gossipProtocols) {
+      futures.add(transports.get(gossipProtocol).stop());
+    }
+
+    try {
+      Mono.when(futures).block(Duration.ofSeconds(30));
+    } catch (Exception ex) {
+      LOGGER.warn("Failed to await transport termination: " + ex);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package io.scalecube.cluster.membership;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.cluster.BaseTest;
+import io.scalecube.cluster.Member;
+import io.scalecube.net.Address;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class MembersSnapshotTest extends BaseTest {
+
+  private final Member localMember = new Member("0", Address.from("localhost:1234"));
+  private final Member anotherMember = new Member("1", Address.from("localhost:4567"));
+
+  @Test
+  public void testLookupsByIdAndAddress() {
+    Map<String, Member> members = new HashMap<>();
+    members.put(localMember.id(), localMember);
+    members.put(anotherMember.id(), anotherMember);
+
+    MembersSnapshot snapshot = new MembersSnapshot(1, members, localMember);
+
+    assertEquals(1, snapshot.version());
+    assertSame(anotherMember, snapshot.member("1"));
+    assertSame(anotherMember, snapshot.member(Address.from("localhost:4567")));
+    assertNull(snapshot.member(Address.from("localhost:9999")));
+    assertEquals(2, snapshot.members().size());
+    assertEquals(1, snapshot.otherMembers().size());
+    assertTrue(snapshot.otherMembers().contains(anotherMember));
+  }
+
+  @Test
+  public void testSnapshotIsImmutable() {
+    Map<String, Member> members = new HashMap<>();
+    members.put(localMember.id(), localMember);
+    MembersSnapshot snapshot = new MembersSnapshot(0, members, localMember);
+
+    // changes of members don't affect snapshot
+    members.put(anotherMember.id(), anotherMember);
+    assertEquals(1, snapshot.members().size());
+    assertNull(snapshot.member("1"));
+
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.members().clear());
+    assertThrows(
+        UnsupportedOperationException.class, () -> snapshot.otherMembers().add(anotherMember));
+  }
+}
@@ -0,0 +1,70 @@
+package io.scalecube.cluster.membership;
+
+import static io.scalecube.cluster.membership.MemberStatus.ALIVE;
+import static io.scalecube.cluster.membership.MemberStatus.SUSPECT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.cluster.BaseTest;
+import io.scalecube.cluster.Member;
+import io.scalecube.net.Address;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MembershipDigestTest extends BaseTest {
+
+  private static List<MembershipRecord> records(int count) {
+    List<MembershipRecord> records = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Member member = new Member("member-" + i, Address.from("localhost:" + (4000 + i)));
+      records.add(new MembershipRecord(member, ALIVE, 0));
+    }
+    return records;
+  }
+
+  @Test
+  public void testBucketsArePowerOfTwoAndBounded() {
+    assertEquals(1, MembershipDigest.bucketsFor(0));
+    assertEquals(1, MembershipDigest.bucketsFor(7));
+    assertEquals(256, MembershipDigest.bucketsFor(2000));
+    assertEquals(4096, MembershipDigest.bucketsFor(1_000_000));
+    assertTrue(MembershipDigest.isValid(new long[512]));
+    assertFalse(MembershipDigest.isValid(new long[0]));
+    assertFalse(MembershipDigest.isValid(new long[3]));
+  }
+
+  @Test
+  public void testDigestDoesNotDependOnOrder() {
+    List<MembershipRecord> records = records(100);
+    List<MembershipRecord> shuffled = new ArrayList<>(records);
+    Collections.shuffle(shuffled);
+
+    long[] digest = MembershipDigest.digest(records, 16);
+    long[] otherDigest = MembershipDigest.digest(shuffled, 16);
+
+    assertArrayEquals(digest, otherDigest);
+    assertTrue(MembershipDigest.differing(records, digest, otherDigest).isEmpty());
+  }
+
+  @Test
+  public void testOnlyDifferingBucketsAreExchanged() {
+    int buckets = 16;
+    List<MembershipRecord> records = records(100);
+    List<MembershipRecord> otherRecords = new ArrayList<>(records);
+    MembershipRecord r0 = otherRecords.get(42);
+    MembershipRecord r1 = new MembershipRecord(r0.member(), SUSPECT, r0.incarnation());
+    otherRecords.set(42, r1);
+
+    long[] digest = MembershipDigest.digest(records, buckets);
+    long[] otherDigest = MembershipDigest.digest(otherRecords, buckets);
+    List<MembershipRecord> differing =
+        MembershipDigest.differing(otherRecords, otherDigest, digest);
+
+    assertTrue(differing.contains(r1));
+    assertTrue(differing.size() < records.size() / 2, "Expected one bucket: " + differing.size());
+  }
+}
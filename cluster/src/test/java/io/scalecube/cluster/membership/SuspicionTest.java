@@ -0,0 +1,63 @@
+package io.scalecube.cluster.membership;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.cluster.BaseTest;
+import org.junit.jupiter.api.Test;
+
+public class SuspicionTest extends BaseTest {
+
+  private static final long MIN_TIMEOUT = 1000;
+  private static final long MAX_TIMEOUT = 6000;
+
+  @Test
+  public void testTimeoutDecreasesWithIndependentConfirmations() {
+    Suspicion suspicion = new Suspicion(0, 0, MIN_TIMEOUT, MAX_TIMEOUT, 3);
+
+    // first suspector doesn't confirm
+    assertFalse(suspicion.confirm("a"));
+    assertEquals(MAX_TIMEOUT, suspicion.timeout());
+
+    assertTrue(suspicion.confirm("b"));
+    long timeout1 = suspicion.timeout();
+    assertTrue(suspicion.confirm("c"));
+    long timeout2 = suspicion.timeout();
+    assertTrue(suspicion.confirm("d"));
+    long timeout3 = suspicion.timeout();
+
+    assertTrue(MAX_TIMEOUT > timeout1, "timeout1: " + timeout1);
+    assertTrue(timeout1 > timeout2, "timeout2: " + timeout2);
+    assertEquals(MIN_TIMEOUT, timeout3);
+    // first confirmations count the most
+    assertTrue(MAX_TIMEOUT - timeout1 > timeout1 - timeout2);
+    assertTrue(suspicion.isSaturated());
+
+    // extra and repeated confirmations don't change timeout
+    assertFalse(suspicion.confirm("e"));
+    assertFalse(suspicion.confirm("b"));
+    assertEquals(MIN_TIMEOUT, suspicion.timeout());
+  }
+
+  @Test
+  public void testRemainingTimeout() {
+    Suspicion suspicion = new Suspicion(0, 500, MIN_TIMEOUT, MAX_TIMEOUT, 1);
+    suspicion.confirm("a");
+
+    assertEquals(MAX_TIMEOUT - 500, suspicion.remainingTimeout(1000));
+
+    suspicion.confirm("b");
+    assertEquals(MIN_TIMEOUT - 500, suspicion.remainingTimeout(1000));
+    assertEquals(0, suspicion.remainingTimeout(MAX_TIMEOUT));
+  }
+
+  @Test
+  public void testNoConfirmationsExpected() {
+    Suspicion suspicion = new Suspicion(0, 0, MIN_TIMEOUT, MAX_TIMEOUT, 0);
+    suspicion.confirm("a");
+
+    assertFalse(suspicion.confirm("b"));
+    assertEquals(MAX_TIMEOUT, suspicion.timeout());
+  }
+}
@@ -0,0 +1,56 @@
+package io.scalecube.cluster.transport.api;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Message codec which reads and writes messages directly from/to netty {@link ByteBuf}. Transport
+ * prefers these methods over the stream based ones and so skips stream adapters on both encoding
+ * and decoding paths.
+ */
+public interface ByteBufMessageCodec extends MessageCodec {
+
+  /**
+   * Deserializes message from given byte buffer. Returned message must not keep references to the
+   * given buffer since it's released by the caller right after this method returns.
+   *
+   * @param byteBuf byte buffer
+   * @return message from the byte buffer
+   */
+  Message deserialize(ByteBuf byteBuf) throws Exception;
+
+  /**
+   * Serializes given message into given byte buffer.
+   *
+   * @param message message
+   * @param byteBuf byte buffer
+   */
+  void serialize(Message message, ByteBuf byteBuf) throws Exception;
+
+  @Override
+  default Message deserialize(InputStream stream) throws Exception {
+    ByteBuf byteBuf = ByteBufAllocator.DEFAULT.heapBuffer();
+    try {
+      //noinspection StatementWithEmptyBody
+      while (byteBuf.writeBytes(stream, 4096) > 0) {
+        // read stream fully
+      }
+      return deserialize(byteBuf);
+    } finally {
+      byteBuf.release();
+    }
+  }
+
+  @Override
+  default void serialize(Message message, OutputStream stream) throws Exception {
+    ByteBuf byteBuf = ByteBufAllocator.DEFAULT.heapBuffer();
+    try {
+      serialize(message, byteBuf);
+      byteBuf.readBytes(stream, byteBuf.readableBytes());
+    } finally {
+      byteBuf.release();
+    }
+  }
+}
@@ -2,9 +2,7 @@
 
 import io.scalecube.net.Address;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * The Class Message introduces generic protocol used for point to point communication by transport.
@@ -32,7 +30,7 @@ public final class Message {
 
   private Message(Builder builder) {
     this.data = builder.data;
-    this.headers = Collections.unmodifiableMap(Objects.requireNonNull(builder.headers));
+    this.headers = builder.headers.build();
     this.sender = builder.sender;
   }
 
@@ -189,7 +187,7 @@ public String toString() {
 
   public static class Builder {
 
-    private Map<String, String> headers = new HashMap<>();
+    private final MessageHeaders.Builder headers = new MessageHeaders.Builder();
     private Object data;
     private Address sender;
 
@@ -208,10 +206,6 @@ public Builder data(Object data) {
       return this;
     }
 
-    private Map<String, String> headers() {
-      return this.headers;
-    }
-
     public Builder headers(Map<String, String> headers) {
       this.headers.putAll(headers);
       return this;
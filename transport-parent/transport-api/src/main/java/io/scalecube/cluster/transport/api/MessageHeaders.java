@@ -0,0 +1,136 @@
+package io.scalecube.cluster.transport.api;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable array-backed map of message headers. Messages carry just a few headers, so linear scan
+ * over keys is cheaper than hashing, and well-known keys are interned, so lookup by {@link
+ * Message#HEADER_QUALIFIER} or {@link Message#HEADER_CORRELATION_ID} usually matches by identity.
+ */
+final class MessageHeaders extends AbstractMap<String, String> {
+
+  static final MessageHeaders EMPTY = new MessageHeaders(new String[0], new String[0], 0);
+
+  private final String[] keys;
+  private final String[] values;
+
+  private MessageHeaders(String[] keys, String[] values, int size) {
+    this.keys = Arrays.copyOf(keys, size);
+    this.values = Arrays.copyOf(values, size);
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(keys, keys.length, key) >= 0;
+  }
+
+  @Override
+  public String get(Object key) {
+    int index = indexOf(keys, keys.length, key);
+    return index >= 0 ? values[index] : null;
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return new AbstractSet<Entry<String, String>>() {
+      @Override
+      public Iterator<Entry<String, String>> iterator() {
+        return new Iterator<Entry<String, String>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return index < keys.length;
+          }
+
+          @Override
+          public Entry<String, String> next() {
+            if (index >= keys.length) {
+              throw new NoSuchElementException();
+            }
+            Entry<String, String> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+            index++;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+    };
+  }
+
+  private static int indexOf(String[] keys, int size, Object key) {
+    for (int i = 0; i < size; i++) {
+      if (keys[i] == key) {
+        return i;
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      if (keys[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** Well-known keys are replaced with constants, so that they're compared by identity. */
+  private static String intern(String key) {
+    switch (key) {
+      case Message.HEADER_QUALIFIER:
+        return Message.HEADER_QUALIFIER;
+      case Message.HEADER_CORRELATION_ID:
+        return Message.HEADER_CORRELATION_ID;
+      default:
+        return key;
+    }
+  }
+
+  /** Mutable counterpart of {@link MessageHeaders}, used by {@link Message.Builder}. */
+  static final class Builder {
+
+    private String[] keys = new String[4];
+    private String[] values = new String[4];
+    private int size;
+
+    void put(String key, String value) {
+      Objects.requireNonNull(key, "header name must be not null");
+      int index = indexOf(keys, size, key);
+      if (index >= 0) {
+        values[index] = value;
+        return;
+      }
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      keys[size] = intern(key);
+      values[size] = value;
+      size++;
+    }
+
+    void putAll(Map<String, String> headers) {
+      for (Entry<String, String> header : headers.entrySet()) {
+        put(header.getKey(), header.getValue());
+      }
+    }
+
+    MessageHeaders build() {
+      return size == 0 ? EMPTY : new MessageHeaders(keys, values, size);
+    }
+  }
+}
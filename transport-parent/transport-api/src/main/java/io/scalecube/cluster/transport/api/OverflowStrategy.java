@@ -0,0 +1,20 @@
+package io.scalecube.cluster.transport.api;
+
+/** Strategy applied to outbound message when outbound queue of destination is full. */
+public enum OverflowStrategy {
+
+  /** Fails sending of the new message with overflow exception. */
+  FAIL_FAST,
+
+  /** Drops the oldest queued message and queues the new one. */
+  DROP_OLDEST,
+
+  /** Drops the new message. */
+  DROP_NEWEST,
+
+  /**
+   * Blocks calling thread until there is free space in the queue, but no longer than connect
+   * timeout. Calls on the transport event loop thread never block and fail fast instead.
+   */
+  BLOCK
+}
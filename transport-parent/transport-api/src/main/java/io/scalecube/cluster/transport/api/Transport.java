@@ -1,6 +1,7 @@
 package io.scalecube.cluster.transport.api;
 
 import io.scalecube.net.Address;
+import java.time.Duration;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -55,6 +56,22 @@ public interface Transport {
    */
   Mono<Message> requestResponse(Address address, Message request);
 
+  /**
+   * Same as {@link #requestResponse(Address, Message)}, but fails with {@link
+   * java.util.concurrent.TimeoutException} if there's no response within the given timeout instead
+   * of transport's request timeout. Transport expires pending request itself, so callers don't need
+   * a timer of their own.
+   *
+   * @param address address where message will be sent
+   * @param request to send message must contain correlctionId and sender to handle reply.
+   * @param timeout response timeout
+   * @return promise which will be completed with result of sending (message or exception)
+   * @throws IllegalArgumentException if {@code message} or {@code address} is null
+   */
+  default Mono<Message> requestResponse(Address address, Message request, Duration timeout) {
+    return requestResponse(address, request).timeout(timeout);
+  }
+
   /**
    * Returns stream of received messages. For each observers subscribed to the returned observable:
    *
@@ -1,5 +1,11 @@
 package io.scalecube.cluster.transport.api;
 
+import io.scalecube.net.Address;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import reactor.core.Exceptions;
 
 public final class TransportConfig implements Cloneable {
@@ -13,11 +19,47 @@ public final class TransportConfig implements Cloneable {
   // Local cluster working via loopback interface (overrides default/LAN settings)
   public static final int DEFAULT_LOCAL_CONNECT_TIMEOUT = 1_000;
 
+  // Safety net for requests which are not completed by caller's own timeout
+  public static final int DEFAULT_REQUEST_TIMEOUT = 30_000;
+
+  // Write batching, frames queued within one event loop tick are flushed together
+  public static final int DEFAULT_WRITE_BATCH_MAX_MESSAGES = 64;
+  public static final int DEFAULT_WRITE_BATCH_MAX_BYTES = 64 * 1024;
+
+  // Outbound queues, per destination
+  public static final int DEFAULT_OUTBOUND_QUEUE_CAPACITY = 8192;
+  public static final int DEFAULT_OUTBOUND_QUEUE_RESERVED_CAPACITY = 1024;
+
+  // Connections, unreachable address is not reconnected until backoff elapses
+  public static final int DEFAULT_RECONNECT_BACKOFF_MIN = 100;
+  public static final int DEFAULT_RECONNECT_BACKOFF_MAX = 1_000;
+  public static final int DEFAULT_CONNECTION_IDLE_TIMEOUT = 300_000;
+
+  // Event loops
+  public static final int DEFAULT_WORKER_COUNT = 1;
+
   private String host = null;
   private int port = 0;
   private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
   private MessageCodec messageCodec = MessageCodec.INSTANCE;
   private int maxFrameLength = 2 * 1024 * 1024; // 2 MB
+  private int requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+  private int writeBatchMaxMessages = DEFAULT_WRITE_BATCH_MAX_MESSAGES;
+  private int writeBatchMaxBytes = DEFAULT_WRITE_BATCH_MAX_BYTES;
+  private Set<String> priorityQualifiers = Collections.emptySet();
+  private boolean priorityLane = true;
+  private Set<String> systemQualifiers = Collections.emptySet();
+  private int outboundQueueCapacity = DEFAULT_OUTBOUND_QUEUE_CAPACITY;
+  private int outboundQueueReservedCapacity = DEFAULT_OUTBOUND_QUEUE_RESERVED_CAPACITY;
+  private OverflowStrategy overflowStrategy = OverflowStrategy.FAIL_FAST;
+  private int compressionThreshold = 0;
+  private int reconnectBackoffMin = DEFAULT_RECONNECT_BACKOFF_MIN;
+  private int reconnectBackoffMax = DEFAULT_RECONNECT_BACKOFF_MAX;
+  private int connectionIdleTimeout = DEFAULT_CONNECTION_IDLE_TIMEOUT;
+  private List<Address> warmUpAddresses = Collections.emptyList();
+  private int workerCount = DEFAULT_WORKER_COUNT;
+  private int selectCount = 0;
+  private boolean preferNative = true;
 
   public TransportConfig() {}
 
@@ -132,6 +174,301 @@ public TransportConfig maxFrameLength(int maxFrameLength) {
     return t;
   }
 
+  public int requestTimeout() {
+    return requestTimeout;
+  }
+
+  /**
+   * Sets a requestTimeout. Pending request-response which didn't get response within this timeout
+   * is failed with {@link java.util.concurrent.TimeoutException}. Zero or negative value disables
+   * the timeout.
+   *
+   * @param requestTimeout request timeout in millis
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig requestTimeout(int requestTimeout) {
+    TransportConfig t = clone();
+    t.requestTimeout = requestTimeout;
+    return t;
+  }
+
+  public int writeBatchMaxMessages() {
+    return writeBatchMaxMessages;
+  }
+
+  /**
+   * Sets a writeBatchMaxMessages. Outbound frames written to the same connection within one event
+   * loop tick are flushed together, but no more than this number of frames per flush. Value {@code
+   * 1} or less disables write batching, so every frame is flushed on its own.
+   *
+   * @param writeBatchMaxMessages max number of frames per flush
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig writeBatchMaxMessages(int writeBatchMaxMessages) {
+    TransportConfig t = clone();
+    t.writeBatchMaxMessages = writeBatchMaxMessages;
+    return t;
+  }
+
+  public int writeBatchMaxBytes() {
+    return writeBatchMaxBytes;
+  }
+
+  /**
+   * Sets a writeBatchMaxBytes. Pending frames are flushed right away once their total size reaches
+   * this threshold.
+   *
+   * @param writeBatchMaxBytes max number of bytes per flush
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig writeBatchMaxBytes(int writeBatchMaxBytes) {
+    TransportConfig t = clone();
+    t.writeBatchMaxBytes = writeBatchMaxBytes;
+    return t;
+  }
+
+  public Set<String> priorityQualifiers() {
+    return priorityQualifiers;
+  }
+
+  /**
+   * Sets a priorityQualifiers. Messages with these qualifiers are latency sensitive (e.g. failure
+   * detector pings), so they bypass write batching and are flushed right away, and on receipt they
+   * don't queue up behind other incoming messages. See also {@link #priorityLane(boolean)}.
+   *
+   * @param priorityQualifiers priority qualifiers
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig priorityQualifiers(Set<String> priorityQualifiers) {
+    TransportConfig t = clone();
+    t.priorityQualifiers = Collections.unmodifiableSet(new HashSet<>(priorityQualifiers));
+    return t;
+  }
+
+  public boolean priorityLane() {
+    return priorityLane;
+  }
+
+  /**
+   * Sets a priorityLane. When enabled, messages with {@link #priorityQualifiers()} are sent over a
+   * separate connection per destination, so they don't queue up behind large frames of bulk
+   * traffic. Has no effect while priority qualifiers are not set.
+   *
+   * @param priorityLane whether to use separate connections for priority messages
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig priorityLane(boolean priorityLane) {
+    TransportConfig t = clone();
+    t.priorityLane = priorityLane;
+    return t;
+  }
+
+  public Set<String> systemQualifiers() {
+    return systemQualifiers;
+  }
+
+  /**
+   * Sets a systemQualifiers. Messages with these qualifiers (protocol messages) are queued within
+   * {@link #outboundQueueReservedCapacity()} rather than within capacity shared with application
+   * messages, so flood of application messages can't starve them. Priority qualifiers are treated
+   * as system ones too.
+   *
+   * @param systemQualifiers system qualifiers
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig systemQualifiers(Set<String> systemQualifiers) {
+    TransportConfig t = clone();
+    t.systemQualifiers = Collections.unmodifiableSet(new HashSet<>(systemQualifiers));
+    return t;
+  }
+
+  public int outboundQueueCapacity() {
+    return outboundQueueCapacity;
+  }
+
+  /**
+   * Sets a outboundQueueCapacity. Max number of application messages queued for one destination
+   * connection while its channel is not writable, see {@link #overflowStrategy()}.
+   *
+   * @param outboundQueueCapacity outbound queue capacity
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig outboundQueueCapacity(int outboundQueueCapacity) {
+    TransportConfig t = clone();
+    t.outboundQueueCapacity = outboundQueueCapacity;
+    return t;
+  }
+
+  public int outboundQueueReservedCapacity() {
+    return outboundQueueReservedCapacity;
+  }
+
+  /**
+   * Sets a outboundQueueReservedCapacity. Max number of system messages queued for one destination
+   * connection, in addition to {@link #outboundQueueCapacity()}.
+   *
+   * @param outboundQueueReservedCapacity outbound queue capacity reserved for system messages
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig outboundQueueReservedCapacity(int outboundQueueReservedCapacity) {
+    TransportConfig t = clone();
+    t.outboundQueueReservedCapacity = outboundQueueReservedCapacity;
+    return t;
+  }
+
+  public OverflowStrategy overflowStrategy() {
+    return overflowStrategy;
+  }
+
+  /**
+   * Sets a overflowStrategy. Strategy applied to the new message when outbound queue is full.
+   * System messages are never blocked, with {@link OverflowStrategy#BLOCK} they fail fast once
+   * reserved capacity is exhausted.
+   *
+   * @param overflowStrategy overflow strategy
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig overflowStrategy(OverflowStrategy overflowStrategy) {
+    TransportConfig t = clone();
+    t.overflowStrategy = overflowStrategy;
+    return t;
+  }
+
+  public int compressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Sets a compressionThreshold. When positive, frames of this size or larger are compressed
+   * (Snappy) and every frame gets one byte flag telling whether it's compressed. Zero (by default)
+   * disables compression. All cluster members must either enable or disable compression.
+   *
+   * @param compressionThreshold min frame size in bytes to compress, zero to disable compression
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig compressionThreshold(int compressionThreshold) {
+    TransportConfig t = clone();
+    t.compressionThreshold = compressionThreshold;
+    return t;
+  }
+
+  public int reconnectBackoffMin() {
+    return reconnectBackoffMin;
+  }
+
+  /**
+   * Sets a reconnectBackoffMin. After failed connect attempt sends to the same address fail fast
+   * until backoff elapses, backoff doubles with every subsequent failure. Zero disables backoff.
+   *
+   * @param reconnectBackoffMin initial reconnect backoff in millis
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig reconnectBackoffMin(int reconnectBackoffMin) {
+    TransportConfig t = clone();
+    t.reconnectBackoffMin = reconnectBackoffMin;
+    return t;
+  }
+
+  public int reconnectBackoffMax() {
+    return reconnectBackoffMax;
+  }
+
+  /**
+   * Sets a reconnectBackoffMax.
+   *
+   * @param reconnectBackoffMax max reconnect backoff in millis
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig reconnectBackoffMax(int reconnectBackoffMax) {
+    TransportConfig t = clone();
+    t.reconnectBackoffMax = reconnectBackoffMax;
+    return t;
+  }
+
+  public int connectionIdleTimeout() {
+    return connectionIdleTimeout;
+  }
+
+  /**
+   * Sets a connectionIdleTimeout. Outbound connection which neither sent nor received anything
+   * within this time is closed. Zero disables idle connections eviction.
+   *
+   * @param connectionIdleTimeout connection idle timeout in millis
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig connectionIdleTimeout(int connectionIdleTimeout) {
+    TransportConfig t = clone();
+    t.connectionIdleTimeout = connectionIdleTimeout;
+    return t;
+  }
+
+  public List<Address> warmUpAddresses() {
+    return warmUpAddresses;
+  }
+
+  /**
+   * Sets a warmUpAddresses. Transport connects to these addresses right after bind, so first
+   * messages don't wait for connection establishment. Failures are ignored.
+   *
+   * @param warmUpAddresses addresses to connect to on bind
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig warmUpAddresses(List<Address> warmUpAddresses) {
+    TransportConfig t = clone();
+    t.warmUpAddresses = Collections.unmodifiableList(new ArrayList<>(warmUpAddresses));
+    return t;
+  }
+
+  public int workerCount() {
+    return workerCount;
+  }
+
+  /**
+   * Sets a workerCount. Number of event loop threads which serve I/O of transport connections.
+   *
+   * @param workerCount number of worker threads
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig workerCount(int workerCount) {
+    TransportConfig t = clone();
+    t.workerCount = workerCount;
+    return t;
+  }
+
+  public int selectCount() {
+    return selectCount;
+  }
+
+  /**
+   * Sets a selectCount. Number of event loop threads which accept inbound connections. Zero (by
+   * default) means that worker threads accept connections too.
+   *
+   * @param selectCount number of selector threads
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig selectCount(int selectCount) {
+    TransportConfig t = clone();
+    t.selectCount = selectCount;
+    return t;
+  }
+
+  public boolean preferNative() {
+    return preferNative;
+  }
+
+  /**
+   * Sets a preferNative. Whether to use native transport (epoll) when it's available on the
+   * classpath, NIO is used otherwise.
+   *
+   * @param preferNative prefer native transport
+   * @return new {@code TransportConfig} instance
+   */
+  public TransportConfig preferNative(boolean preferNative) {
+    TransportConfig t = clone();
+    t.preferNative = preferNative;
+    return t;
+  }
+
   @Override
   public TransportConfig clone() {
     try {
@@ -154,6 +491,40 @@ public String toString() {
         + messageCodec
         + ", maxFrameLength="
         + maxFrameLength
+        + ", requestTimeout="
+        + requestTimeout
+        + ", writeBatchMaxMessages="
+        + writeBatchMaxMessages
+        + ", writeBatchMaxBytes="
+        + writeBatchMaxBytes
+        + ", priorityQualifiers="
+        + priorityQualifiers
+        + ", priorityLane="
+        + priorityLane
+        + ", systemQualifiers="
+        + systemQualifiers
+        + ", outboundQueueCapacity="
+        + outboundQueueCapacity
+        + ", outboundQueueReservedCapacity="
+        + outboundQueueReservedCapacity
+        + ", overflowStrategy="
+        + overflowStrategy
+        + ", compressionThreshold="
+        + compressionThreshold
+        + ", reconnectBackoffMin="
+        + reconnectBackoffMin
+        + ", reconnectBackoffMax="
+        + reconnectBackoffMax
+        + ", connectionIdleTimeout="
+        + connectionIdleTimeout
+        + ", warmUpAddresses="
+        + warmUpAddresses
+        + ", workerCount="
+        + workerCount
+        + ", selectCount="
+        + selectCount
+        + ", preferNative="
+        + preferNative
         + '}';
   }
 }
@@ -0,0 +1,206 @@
+package io.scalecube.transport.binary;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.scalecube.net.Address;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/** Helper methods for writing and reading primitives of binary schema. */
+public final class BinaryCodecs {
+
+  private BinaryCodecs() {
+    // Do not instantiate
+  }
+
+  /**
+   * Writes non-negative int as varint (7 bits per byte, little-endian groups).
+   *
+   * @param byteBuf byte buffer
+   * @param value non-negative value
+   */
+  public static void writeVarInt(ByteBuf byteBuf, int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("varint must be non-negative: " + value);
+    }
+    while ((value & ~0x7F) != 0) {
+      byteBuf.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    byteBuf.writeByte(value);
+  }
+
+  /**
+   * Reads varint written by {@link #writeVarInt(ByteBuf, int)}.
+   *
+   * @param byteBuf byte buffer
+   * @return value
+   */
+  public static int readVarInt(ByteBuf byteBuf) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = byteBuf.readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed varint");
+  }
+
+  /**
+   * Writes non-negative long as varint.
+   *
+   * @param byteBuf byte buffer
+   * @param value non-negative value
+   */
+  public static void writeVarLong(ByteBuf byteBuf, long value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("varlong must be non-negative: " + value);
+    }
+    while ((value & ~0x7FL) != 0) {
+      byteBuf.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    byteBuf.writeByte((int) value);
+  }
+
+  /**
+   * Reads varint written by {@link #writeVarLong(ByteBuf, long)}.
+   *
+   * @param byteBuf byte buffer
+   * @return value
+   */
+  public static long readVarLong(ByteBuf byteBuf) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = byteBuf.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed varlong");
+  }
+
+  /**
+   * Writes nullable string as varint length (plus one, zero stands for null) followed by UTF-8
+   * bytes.
+   *
+   * @param byteBuf byte buffer
+   * @param value string or null
+   */
+  public static void writeString(ByteBuf byteBuf, String value) {
+    if (value == null) {
+      writeVarInt(byteBuf, 0);
+      return;
+    }
+    writeVarInt(byteBuf, ByteBufUtil.utf8Bytes(value) + 1);
+    ByteBufUtil.writeUtf8(byteBuf, value);
+  }
+
+  /**
+   * Reads string written by {@link #writeString(ByteBuf, String)}.
+   *
+   * @param byteBuf byte buffer
+   * @return string or null
+   */
+  public static String readString(ByteBuf byteBuf) {
+    int length = readVarInt(byteBuf) - 1;
+    if (length < 0) {
+      return null;
+    }
+    String value = byteBuf.toString(byteBuf.readerIndex(), length, StandardCharsets.UTF_8);
+    byteBuf.skipBytes(length);
+    return value;
+  }
+
+  /**
+   * Writes nullable byte array as varint length (plus one, zero stands for null) followed by
+   * bytes.
+   *
+   * @param byteBuf byte buffer
+   * @param value bytes or null
+   */
+  public static void writeBytes(ByteBuf byteBuf, byte[] value) {
+    if (value == null) {
+      writeVarInt(byteBuf, 0);
+      return;
+    }
+    writeVarInt(byteBuf, value.length + 1);
+    byteBuf.writeBytes(value);
+  }
+
+  /**
+   * Reads byte array written by {@link #writeBytes(ByteBuf, byte[])}.
+   *
+   * @param byteBuf byte buffer
+   * @return bytes or null
+   */
+  public static byte[] readBytes(ByteBuf byteBuf) {
+    int length = readVarInt(byteBuf) - 1;
+    if (length < 0) {
+      return null;
+    }
+    byte[] value = new byte[length];
+    byteBuf.readBytes(value);
+    return value;
+  }
+
+  /**
+   * Writes remaining bytes of nullable nio byte buffer, position of the given buffer is not
+   * changed.
+   *
+   * @param byteBuf byte buffer
+   * @param value nio byte buffer or null
+   */
+  public static void writeByteBuffer(ByteBuf byteBuf, ByteBuffer value) {
+    if (value == null) {
+      writeVarInt(byteBuf, 0);
+      return;
+    }
+    writeVarInt(byteBuf, value.remaining() + 1);
+    byteBuf.writeBytes(value.duplicate());
+  }
+
+  /**
+   * Reads nio byte buffer written by {@link #writeByteBuffer(ByteBuf, ByteBuffer)}. Result is a
+   * heap copy, so it doesn't retain given buffer.
+   *
+   * @param byteBuf byte buffer
+   * @return nio byte buffer or null
+   */
+  public static ByteBuffer readByteBuffer(ByteBuf byteBuf) {
+    byte[] bytes = readBytes(byteBuf);
+    return bytes != null ? ByteBuffer.wrap(bytes) : null;
+  }
+
+  /**
+   * Writes nullable address.
+   *
+   * @param byteBuf byte buffer
+   * @param address address or null
+   */
+  public static void writeAddress(ByteBuf byteBuf, Address address) {
+    if (address == null) {
+      writeString(byteBuf, null);
+      return;
+    }
+    writeString(byteBuf, address.host());
+    writeVarInt(byteBuf, address.port());
+  }
+
+  /**
+   * Reads address written by {@link #writeAddress(ByteBuf, Address)}.
+   *
+   * @param byteBuf byte buffer
+   * @return address or null
+   */
+  public static Address readAddress(ByteBuf byteBuf) {
+    String host = readString(byteBuf);
+    if (host == null) {
+      return null;
+    }
+    return Address.create(host, readVarInt(byteBuf));
+  }
+}
@@ -0,0 +1,242 @@
+package io.scalecube.transport.binary;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.scalecube.cluster.transport.api.ByteBufMessageCodec;
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.MessageCodec;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Binary message codec which writes messages straight into netty {@link ByteBuf} without any
+ * intermediate streams or object mapping.
+ *
+ * <p>Wire format: version byte, headers (varint count followed by tagged key/value pairs), sender
+ * address, data type id and data payload. Well-known headers (qualifier, correlation id) are
+ * written as one byte tag instead of header name; header names and qualifiers are interned on
+ * read. Strings, byte arrays and byte buffers are supported out of the box, other data types are
+ * written by {@link DataCodec}-s found with {@link ServiceLoader}. Data of a type without
+ * registered {@link DataCodec} is written by the fallback codec (if any) as a nested
+ * length-prefixed message.
+ *
+ * <p>All cluster members must use the same codec.
+ */
+public final class BinaryMessageCodec implements ByteBufMessageCodec {
+
+  public static final byte VERSION = 2;
+
+  public static final int NULL_TYPE_ID = 0;
+  public static final int STRING_TYPE_ID = 1;
+  public static final int BYTES_TYPE_ID = 2;
+  public static final int BYTE_BUFFER_TYPE_ID = 3;
+  public static final int FALLBACK_TYPE_ID = 4;
+
+  private static final byte CUSTOM_HEADER_TAG = 0;
+  private static final byte QUALIFIER_HEADER_TAG = 1;
+  private static final byte CORRELATION_ID_HEADER_TAG = 2;
+
+  private static final int STRING_CACHE_SIZE = 1024;
+
+  /** Type ids of {@link DataCodec}-s must be greater or equal to this value. */
+  public static final int MIN_CUSTOM_TYPE_ID = 16;
+
+  private final MessageCodec fallbackCodec;
+  private final Map<Class<?>, DataCodec<?>> codecsByType = new HashMap<>();
+  private final Map<Integer, DataCodec<?>> codecsById = new HashMap<>();
+  private final StringCache stringCache = new StringCache(STRING_CACHE_SIZE);
+
+  /** Creates binary codec with {@link MessageCodec#INSTANCE} as a fallback codec. */
+  public BinaryMessageCodec() {
+    this(MessageCodec.INSTANCE);
+  }
+
+  /**
+   * Creates binary codec.
+   *
+   * @param fallbackCodec codec for data types without registered {@link DataCodec}, may be null
+   */
+  public BinaryMessageCodec(MessageCodec fallbackCodec) {
+    this.fallbackCodec = fallbackCodec instanceof BinaryMessageCodec ? null : fallbackCodec;
+    for (DataCodec<?> dataCodec : ServiceLoader.load(DataCodec.class)) {
+      register(dataCodec);
+    }
+  }
+
+  private void register(DataCodec<?> dataCodec) {
+    int typeId = dataCodec.typeId();
+    if (typeId < MIN_CUSTOM_TYPE_ID) {
+      throw new IllegalArgumentException(
+          "Type id of " + dataCodec + " must be >= " + MIN_CUSTOM_TYPE_ID + ", but was " + typeId);
+    }
+    DataCodec<?> existing = codecsById.putIfAbsent(typeId, dataCodec);
+    if (existing != null) {
+      throw new IllegalArgumentException(
+          "Type id " + typeId + " is used by both " + existing + " and " + dataCodec);
+    }
+    codecsByType.put(dataCodec.dataType(), dataCodec);
+  }
+
+  @Override
+  public Message deserialize(ByteBuf byteBuf) throws Exception {
+    byte version = byteBuf.readByte();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported binary message version: " + version);
+    }
+    return readMessage(byteBuf);
+  }
+
+  @Override
+  public void serialize(Message message, ByteBuf byteBuf) throws Exception {
+    byteBuf.writeByte(VERSION);
+    writeMessage(message, byteBuf);
+  }
+
+  /**
+   * Writes message without version byte, for messages nested into data of another message.
+   *
+   * @param message message
+   * @param byteBuf byte buffer
+   */
+  public void writeMessage(Message message, ByteBuf byteBuf) throws Exception {
+    Map<String, String> headers = message.headers();
+    BinaryCodecs.writeVarInt(byteBuf, headers.size());
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      String name = header.getKey();
+      if (Message.HEADER_QUALIFIER.equals(name)) {
+        byteBuf.writeByte(QUALIFIER_HEADER_TAG);
+      } else if (Message.HEADER_CORRELATION_ID.equals(name)) {
+        byteBuf.writeByte(CORRELATION_ID_HEADER_TAG);
+      } else {
+        byteBuf.writeByte(CUSTOM_HEADER_TAG);
+        BinaryCodecs.writeString(byteBuf, name);
+      }
+      BinaryCodecs.writeString(byteBuf, header.getValue());
+    }
+    BinaryCodecs.writeAddress(byteBuf, message.sender());
+    writeData(message.data(), byteBuf);
+  }
+
+  /**
+   * Reads message written by {@link #writeMessage(Message, ByteBuf)}.
+   *
+   * @param byteBuf byte buffer
+   * @return message
+   */
+  public Message readMessage(ByteBuf byteBuf) throws Exception {
+    int headersCount = BinaryCodecs.readVarInt(byteBuf);
+    Message.Builder builder = Message.builder();
+    for (int i = 0; i < headersCount; i++) {
+      byte tag = byteBuf.readByte();
+      switch (tag) {
+        case QUALIFIER_HEADER_TAG:
+          builder.qualifier(stringCache.readString(byteBuf));
+          break;
+        case CORRELATION_ID_HEADER_TAG:
+          builder.correlationId(BinaryCodecs.readString(byteBuf));
+          break;
+        case CUSTOM_HEADER_TAG:
+          builder.header(stringCache.readString(byteBuf), BinaryCodecs.readString(byteBuf));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown header tag: " + tag);
+      }
+    }
+    return builder
+        .sender(BinaryCodecs.readAddress(byteBuf))
+        .data(readData(byteBuf))
+        .build();
+  }
+
+  /**
+   * Writes data object prefixed with its type id.
+   *
+   * @param data data, may be null
+   * @param byteBuf byte buffer
+   */
+  @SuppressWarnings("unchecked")
+  public void writeData(Object data, ByteBuf byteBuf) throws Exception {
+    if (data == null) {
+      BinaryCodecs.writeVarInt(byteBuf, NULL_TYPE_ID);
+    } else if (data instanceof String) {
+      BinaryCodecs.writeVarInt(byteBuf, STRING_TYPE_ID);
+      BinaryCodecs.writeString(byteBuf, (String) data);
+    } else if (data instanceof byte[]) {
+      BinaryCodecs.writeVarInt(byteBuf, BYTES_TYPE_ID);
+      BinaryCodecs.writeBytes(byteBuf, (byte[]) data);
+    } else if (data instanceof ByteBuffer) {
+      BinaryCodecs.writeVarInt(byteBuf, BYTE_BUFFER_TYPE_ID);
+      BinaryCodecs.writeByteBuffer(byteBuf, (ByteBuffer) data);
+    } else {
+      DataCodec<Object> dataCodec = (DataCodec<Object>) codecsByType.get(data.getClass());
+      if (dataCodec != null) {
+        BinaryCodecs.writeVarInt(byteBuf, dataCodec.typeId());
+        dataCodec.encode(this, byteBuf, data);
+      } else {
+        writeFallback(data, byteBuf);
+      }
+    }
+  }
+
+  /**
+   * Reads data object written by {@link #writeData(Object, ByteBuf)}.
+   *
+   * @param byteBuf byte buffer
+   * @return data, may be null
+   */
+  public Object readData(ByteBuf byteBuf) throws Exception {
+    int typeId = BinaryCodecs.readVarInt(byteBuf);
+    switch (typeId) {
+      case NULL_TYPE_ID:
+        return null;
+      case STRING_TYPE_ID:
+        return BinaryCodecs.readString(byteBuf);
+      case BYTES_TYPE_ID:
+        return BinaryCodecs.readBytes(byteBuf);
+      case BYTE_BUFFER_TYPE_ID:
+        return BinaryCodecs.readByteBuffer(byteBuf);
+      case FALLBACK_TYPE_ID:
+        return readFallback(byteBuf);
+      default:
+        DataCodec<?> dataCodec = codecsById.get(typeId);
+        if (dataCodec == null) {
+          throw new IllegalArgumentException("Unknown data type id: " + typeId);
+        }
+        return dataCodec.decode(this, byteBuf);
+    }
+  }
+
+  private void writeFallback(Object data, ByteBuf byteBuf) throws Exception {
+    if (fallbackCodec == null) {
+      throw new IllegalArgumentException(
+          "No data codec found for " + data.getClass().getName() + " and no fallback codec set");
+    }
+    BinaryCodecs.writeVarInt(byteBuf, FALLBACK_TYPE_ID);
+    int lengthIndex = byteBuf.writerIndex();
+    byteBuf.writeInt(0); // length placeholder
+    fallbackCodec.serialize(Message.fromData(data), new ByteBufOutputStream(byteBuf));
+    byteBuf.setInt(lengthIndex, byteBuf.writerIndex() - lengthIndex - 4);
+  }
+
+  private Object readFallback(ByteBuf byteBuf) throws Exception {
+    if (fallbackCodec == null) {
+      throw new IllegalArgumentException("Can't read fallback data, no fallback codec set");
+    }
+    int length = byteBuf.readInt();
+    ByteBuf slice = byteBuf.readSlice(length);
+    return fallbackCodec.deserialize(new ByteBufInputStream(slice)).data();
+  }
+
+  @Override
+  public String toString() {
+    return "BinaryMessageCodec{"
+        + "dataTypes="
+        + codecsByType.keySet()
+        + ", fallbackCodec="
+        + fallbackCodec
+        + '}';
+  }
+}
@@ -0,0 +1,47 @@
+package io.scalecube.transport.binary;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Binary schema of a message data type. Implementations are discovered with {@link
+ * java.util.ServiceLoader} and used by {@link BinaryMessageCodec} to write message data of the
+ * given type straight into {@link ByteBuf} and read it back.
+ *
+ * <p>Type ids below {@link BinaryMessageCodec#MIN_CUSTOM_TYPE_ID} are reserved for built-in types.
+ *
+ * @param <T> data type
+ */
+public interface DataCodec<T> {
+
+  /**
+   * Returns wire id of the data type, must be unique across all registered data codecs.
+   *
+   * @return type id
+   */
+  int typeId();
+
+  /**
+   * Returns data type which this codec reads and writes.
+   *
+   * @return data type
+   */
+  Class<T> dataType();
+
+  /**
+   * Writes given data into byte buffer.
+   *
+   * @param codec message codec, for writing nested messages
+   * @param byteBuf byte buffer
+   * @param data data
+   */
+  void encode(BinaryMessageCodec codec, ByteBuf byteBuf, T data) throws Exception;
+
+  /**
+   * Reads data from byte buffer.
+   *
+   * @param codec message codec, for reading nested messages
+   * @param byteBuf byte buffer
+   * @return data
+   */
+  T decode(BinaryMessageCodec codec, ByteBuf byteBuf) throws Exception;
+}
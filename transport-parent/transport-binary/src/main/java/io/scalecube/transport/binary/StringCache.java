@@ -0,0 +1,93 @@
+package io.scalecube.transport.binary;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cache of decoded strings which repeat from message to message, such as header names and
+ * qualifiers. Bytes are compared in place, so reading cached string allocates nothing and every
+ * reader gets the same string instance. Cache is lossy: string in colliding slot is replaced, so
+ * cache stays bounded whatever strings come from the network.
+ *
+ * <p><b>NOTE:</b> cache is shared by event loop threads; slots are raced for, but entries are
+ * immutable, so reader sees either old or new entry.
+ */
+final class StringCache {
+
+  private static final int MAX_CACHED_LENGTH = 128;
+
+  private final Entry[] entries;
+  private final int mask;
+
+  /**
+   * Constructor.
+   *
+   * @param size number of slots, rounded up to power of two
+   */
+  StringCache(int size) {
+    int capacity = Integer.highestOneBit(Math.max(2, size - 1)) << 1;
+    this.entries = new Entry[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Reads string written by {@link BinaryCodecs#writeString(ByteBuf, String)}.
+   *
+   * @param byteBuf byte buffer
+   * @return string or null
+   */
+  String readString(ByteBuf byteBuf) {
+    int length = BinaryCodecs.readVarInt(byteBuf) - 1;
+    if (length < 0) {
+      return null;
+    }
+    int index = byteBuf.readerIndex();
+    String value;
+    if (length > MAX_CACHED_LENGTH) {
+      value = byteBuf.toString(index, length, StandardCharsets.UTF_8);
+    } else {
+      int slot = hash(byteBuf, index, length) & mask;
+      Entry entry = entries[slot];
+      if (entry == null || !entry.matches(byteBuf, index, length)) {
+        byte[] bytes = new byte[length];
+        byteBuf.getBytes(index, bytes);
+        entry = new Entry(bytes, new String(bytes, StandardCharsets.UTF_8));
+        entries[slot] = entry;
+      }
+      value = entry.value;
+    }
+    byteBuf.skipBytes(length);
+    return value;
+  }
+
+  private static int hash(ByteBuf byteBuf, int index, int length) {
+    int hash = 1;
+    for (int i = index, end = index + length; i < end; i++) {
+      hash = 31 * hash + byteBuf.getByte(i);
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  private static final class Entry {
+
+    private final byte[] bytes;
+    private final String value;
+
+    private Entry(byte[] bytes, String value) {
+      this.bytes = bytes;
+      this.value = value;
+    }
+
+    private boolean matches(ByteBuf byteBuf, int index, int length) {
+      if (bytes.length != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (bytes[i] != byteBuf.getByte(index + i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
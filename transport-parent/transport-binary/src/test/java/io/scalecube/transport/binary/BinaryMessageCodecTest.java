@@ -0,0 +1,134 @@
+package io.scalecube.transport.binary;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.scalecube.cluster.transport.JacksonMessageCodec;
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.net.Address;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BinaryMessageCodecTest {
+
+  private BinaryMessageCodec codec;
+  private ByteBuf byteBuf;
+
+  @BeforeEach
+  public void setUp() {
+    codec = new BinaryMessageCodec(new JacksonMessageCodec());
+    byteBuf = ByteBufAllocator.DEFAULT.buffer();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    byteBuf.release();
+  }
+
+  @Test
+  public void testHeadersAndSender() throws Exception {
+    Message message =
+        Message.withData("hello")
+            .qualifier("sc/test")
+            .correlationId("cid-1")
+            .header("empty", null)
+            .sender(Address.create("localhost", 4801))
+            .build();
+
+    Message result = roundTrip(message);
+
+    assertEquals(message.headers(), result.headers());
+    assertEquals(message.sender(), result.sender());
+    assertEquals("hello", result.data());
+  }
+
+  @Test
+  public void testQualifierAndHeaderNamesInterned() throws Exception {
+    Message message = Message.withData("hello").qualifier("sc/test").header("custom", "1").build();
+
+    Message first = roundTrip(message);
+    byteBuf.clear();
+    Message second = roundTrip(message);
+
+    assertEquals(message.headers(), second.headers());
+    assertSame(first.qualifier(), second.qualifier());
+    assertSame(
+        first.headers().keySet().stream().filter("custom"::equals).findFirst().get(),
+        second.headers().keySet().stream().filter("custom"::equals).findFirst().get());
+  }
+
+  @Test
+  public void testNullDataAndSender() throws Exception {
+    Message result = roundTrip(Message.fromQualifier("sc/test"));
+
+    assertEquals("sc/test", result.qualifier());
+    assertNull(result.sender());
+    assertNull(result.data());
+  }
+
+  @Test
+  public void testBytesData() throws Exception {
+    byte[] bytes = "bytes".getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(bytes, roundTrip(Message.fromData(bytes)).data());
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    ByteBuffer result = roundTrip(Message.fromData(buffer)).data();
+    assertEquals(buffer, result);
+    assertEquals(bytes.length, buffer.remaining());
+  }
+
+  @Test
+  public void testFallbackData() throws Exception {
+    Object data = Collections.singletonMap("key", "value");
+    assertEquals(data, roundTrip(Message.fromData(data)).data());
+  }
+
+  @Test
+  public void testNoFallbackCodec() {
+    BinaryMessageCodec codec = new BinaryMessageCodec(null);
+    Message message = Message.fromData(Collections.singletonMap("key", "value"));
+    assertThrows(IllegalArgumentException.class, () -> codec.serialize(message, byteBuf));
+  }
+
+  @Test
+  public void testStreamMethods() throws Exception {
+    Message message = Message.withData("hello").qualifier("sc/test").build();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    codec.serialize(message, out);
+    Message result = codec.deserialize(new ByteArrayInputStream(out.toByteArray()));
+
+    assertEquals(message.headers(), result.headers());
+    assertEquals("hello", result.data());
+  }
+
+  @Test
+  public void testVarInt() {
+    int[] values = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE};
+    for (int value : values) {
+      BinaryCodecs.writeVarInt(byteBuf, value);
+    }
+    for (int value : values) {
+      assertEquals(value, BinaryCodecs.readVarInt(byteBuf));
+    }
+    assertEquals(0, byteBuf.readableBytes());
+  }
+
+  private Message roundTrip(Message message) throws Exception {
+    codec.serialize(message, byteBuf);
+    Message result = codec.deserialize(byteBuf);
+    assertEquals(0, byteBuf.readableBytes());
+    return result;
+  }
+}
@@ -0,0 +1,80 @@
+package io.scalecube.transport.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+import io.scalecube.cluster.transport.api.ByteBufMessageCodec;
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.MessageCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts messages to/from netty byte buffers with the given {@link MessageCodec}. Uses {@link
+ * ByteBufMessageCodec} methods directly when codec supports them.
+ */
+public final class ByteBufMessages {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ByteBufMessages.class);
+
+  private ByteBufMessages() {
+    // Do not instantiate
+  }
+
+  /**
+   * Deserializes message from the given byte buffer, byte buffer is released.
+   *
+   * @param messageCodec message codec
+   * @param byteBuf byte buffer
+   * @return message
+   * @throws DecoderException if message codec failed
+   */
+  public static Message toMessage(MessageCodec messageCodec, ByteBuf byteBuf) {
+    if (messageCodec instanceof ByteBufMessageCodec) {
+      try {
+        return ((ByteBufMessageCodec) messageCodec).deserialize(byteBuf);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Message codec exception occurred at converting bytes to message: " + e.toString());
+        throw new DecoderException(e);
+      } finally {
+        byteBuf.release();
+      }
+    }
+    try (ByteBufInputStream stream = new ByteBufInputStream(byteBuf, true)) {
+      return messageCodec.deserialize(stream);
+    } catch (Exception e) {
+      LOGGER.warn(
+          "Message codec exception occurred at converting bytes to message: " + e.toString());
+      throw new DecoderException(e);
+    }
+  }
+
+  /**
+   * Serializes given message into a new byte buffer.
+   *
+   * @param messageCodec message codec
+   * @param message message
+   * @return byte buffer
+   * @throws EncoderException if message codec failed
+   */
+  public static ByteBuf toByteBuf(MessageCodec messageCodec, Message message) {
+    ByteBuf bb = ByteBufAllocator.DEFAULT.buffer();
+    try {
+      if (messageCodec instanceof ByteBufMessageCodec) {
+        ((ByteBufMessageCodec) messageCodec).serialize(message, bb);
+      } else {
+        messageCodec.serialize(message, new ByteBufOutputStream(bb));
+      }
+    } catch (Exception e) {
+      bb.release();
+      LOGGER.warn(
+          "Message codec exception occurred at converting message to bytes: " + e.toString());
+      throw new EncoderException(e);
+    }
+    return bb;
+  }
+}
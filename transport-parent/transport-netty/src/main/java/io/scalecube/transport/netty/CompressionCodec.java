@@ -0,0 +1,99 @@
+package io.scalecube.transport.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.MessageToMessageCodec;
+import io.netty.handler.codec.compression.Snappy;
+import java.util.List;
+
+/**
+ * Compresses frames with Snappy. Every frame is prefixed with one byte flag which tells whether
+ * frame is compressed. Frames smaller than threshold (and frames which don't get smaller after
+ * compression) are sent as is, so small messages pay just one byte.
+ *
+ * <p><b>NOTE:</b> handler is stateful, it must be created per channel and placed after frame
+ * decoder/encoder in the pipeline.
+ */
+final class CompressionCodec extends MessageToMessageCodec<ByteBuf, ByteBuf> {
+
+  private static final byte RAW = 0;
+  private static final byte SNAPPY = 1;
+
+  private final int threshold;
+  private final int maxFrameLength;
+  private final Snappy snappy = new Snappy();
+
+  /**
+   * Constructor.
+   *
+   * @param threshold min frame size to compress
+   * @param maxFrameLength max size of decompressed frame
+   */
+  CompressionCodec(int threshold, int maxFrameLength) {
+    this.threshold = threshold;
+    this.maxFrameLength = maxFrameLength;
+  }
+
+  @Override
+  protected void encode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
+    int length = msg.readableBytes();
+    if (length >= threshold) {
+      ByteBuf compressed = ctx.alloc().buffer(length / 2 + 1);
+      try {
+        compressed.writeByte(SNAPPY);
+        snappy.encode(msg.duplicate(), compressed, length);
+      } finally {
+        snappy.reset();
+      }
+      if (compressed.readableBytes() < length + 1) {
+        out.add(compressed);
+        return;
+      }
+      compressed.release();
+    }
+    ByteBuf flag = ctx.alloc().buffer(1).writeByte(RAW);
+    out.add(Unpooled.wrappedBuffer(flag, msg.retain()));
+  }
+
+  @Override
+  protected void decode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
+    byte flag = msg.readByte();
+    if (flag == RAW) {
+      out.add(msg.readRetainedSlice(msg.readableBytes()));
+      return;
+    }
+    if (flag != SNAPPY) {
+      throw new DecoderException("Unknown frame compression flag: " + flag);
+    }
+    int length = uncompressedLength(msg);
+    if (length > maxFrameLength) {
+      throw new DecoderException(
+          "Uncompressed frame length " + length + " exceeds max frame length " + maxFrameLength);
+    }
+    ByteBuf uncompressed = ctx.alloc().buffer(length);
+    try {
+      snappy.decode(msg, uncompressed);
+    } catch (Exception e) {
+      uncompressed.release();
+      throw new DecoderException(e);
+    } finally {
+      snappy.reset();
+    }
+    out.add(uncompressed);
+  }
+
+  /** Reads (without consuming) varint preamble of snappy block, which is uncompressed length. */
+  private static int uncompressedLength(ByteBuf msg) {
+    long length = 0;
+    for (int i = 0, index = msg.readerIndex(); i < 5 && index < msg.writerIndex(); i++, index++) {
+      byte b = msg.getByte(index);
+      length |= (long) (b & 0x7F) << (7 * i);
+      if ((b & 0x80) == 0) {
+        return (int) Math.min(length, Integer.MAX_VALUE);
+      }
+    }
+    throw new DecoderException("Malformed snappy preamble");
+  }
+}
@@ -0,0 +1,156 @@
+package io.scalecube.transport.netty;
+
+import io.scalecube.net.Address;
+import java.net.ConnectException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.tcp.TcpClient;
+
+/**
+ * Keeps outbound connections by remote address. Connect attempt to the address which has just
+ * failed to connect is not made until reconnect backoff elapses, such sends fail fast with {@link
+ * ConnectException}. Backoff doubles with every subsequent failure up to max backoff and is reset
+ * by successful connect.
+ */
+final class ConnectionManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionManager.class);
+
+  private final Function<Address, TcpClient> clientFactory;
+  private final long backoffMinNanos;
+  private final long backoffMaxNanos;
+
+  private final Map<Address, Mono<? extends Connection>> connections = new ConcurrentHashMap<>();
+  private final Map<Address, Backoff> backoffs = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param clientFactory tcp client factory
+   * @param backoffMinMillis initial reconnect backoff, zero to disable backoff
+   * @param backoffMaxMillis max reconnect backoff
+   */
+  ConnectionManager(
+      Function<Address, TcpClient> clientFactory, long backoffMinMillis, long backoffMaxMillis) {
+    this.clientFactory = clientFactory;
+    this.backoffMinNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, backoffMinMillis));
+    this.backoffMaxNanos =
+        TimeUnit.MILLISECONDS.toNanos(Math.max(backoffMinMillis, backoffMaxMillis));
+  }
+
+  /**
+   * Returns connection to the given address, connects if there's no connection yet.
+   *
+   * @param address remote address
+   * @return promise for connection
+   */
+  Mono<Connection> getOrConnect(Address address) {
+    return Mono.create(
+        sink -> {
+          Mono<? extends Connection> connection = connections.get(address);
+          if (connection == null) {
+            Backoff backoff = backoffs.get(address);
+            if (backoff != null && backoff.remainingNanos(System.nanoTime()) > 0) {
+              sink.error(backoff.newException(address));
+              return;
+            }
+            connection = connections.computeIfAbsent(address, this::connect0);
+          }
+          connection.subscribe(sink::success, sink::error);
+        });
+  }
+
+  /** Forgets all connections and backoffs, doesn't close connections. */
+  void clear() {
+    connections.clear();
+    backoffs.clear();
+  }
+
+  /**
+   * Returns number of addresses which connect attempts are currently backed off.
+   *
+   * <p><b>NOTE:</b> this method is for testing purpose only.
+   *
+   * @return number of backed off addresses
+   */
+  int backoffCount() {
+    long now = System.nanoTime();
+    return (int) backoffs.values().stream().filter(b -> b.remainingNanos(now) > 0).count();
+  }
+
+  private Mono<? extends Connection> connect0(Address address) {
+    return clientFactory
+        .apply(address)
+        .doOnDisconnected(
+            c -> {
+              LOGGER.debug("Disconnected from: {} {}", address, c.channel());
+              connections.remove(address);
+            })
+        .doOnConnected(
+            c -> {
+              LOGGER.debug("Connected to {}: {}", address, c.channel());
+              backoffs.remove(address);
+            })
+        .connect()
+        .doOnError(
+            th -> {
+              LOGGER.debug("Failed to connect on address {}, cause: {}", address, th.toString());
+              connections.remove(address);
+              onConnectFailed(address, th);
+            })
+        .cache();
+  }
+
+  private void onConnectFailed(Address address, Throwable cause) {
+    if (backoffMinNanos == 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    backoffs.compute(
+        address,
+        (address1, backoff) -> {
+          // backoff which elapsed long ago doesn't grow further
+          long delay =
+              backoff == null || backoff.remainingNanos(now) < -backoffMaxNanos
+                  ? backoffMinNanos
+                  : Math.min(backoff.delayNanos * 2, backoffMaxNanos);
+          return new Backoff(now + delay, delay, cause);
+        });
+  }
+
+  private static final class Backoff {
+
+    private final long deadline;
+    private final long delayNanos;
+    private final Throwable cause;
+
+    private Backoff(long deadline, long delayNanos, Throwable cause) {
+      this.deadline = deadline;
+      this.delayNanos = delayNanos;
+      this.cause = cause;
+    }
+
+    private long remainingNanos(long now) {
+      return deadline - now;
+    }
+
+    private ConnectException newException(Address address) {
+      ConnectException exception =
+          new ConnectException(
+              "Connect to "
+                  + address
+                  + " is backed off for "
+                  + TimeUnit.NANOSECONDS.toMillis(delayNanos)
+                  + "ms after failure: "
+                  + cause);
+      exception.initCause(cause);
+      return exception;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package io.scalecube.transport.netty;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.scalecube.cluster.transport.api.Message;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import reactor.core.Disposable;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Table of pending requests keyed by correlation id. Inbound message is looked up once by its
+ * correlation id, so cost of resolving a response doesn't depend on number of requests in flight.
+ * Several requests may share the same correlation id (e.g. ping-req sent to several members), all
+ * of them are resolved by the first response.
+ *
+ * <p>Requests are expired by the shared hashed wheel timer.
+ */
+public final class CorrelationTable {
+
+  private static final Timer TIMER =
+      new HashedWheelTimer(
+          new DefaultThreadFactory("sc-cluster-request-timeout", true), 10, TimeUnit.MILLISECONDS);
+
+  private static final PendingRequest[] EMPTY = new PendingRequest[0];
+
+  private final Map<String, PendingRequest[]> pendingRequests = new ConcurrentHashMap<>();
+
+  /**
+   * Registers pending request.
+   *
+   * @param correlationId correlation id
+   * @param sink sink to resolve with response
+   * @param timeoutMillis timeout after which sink is failed with {@link TimeoutException}, zero or
+   *     negative value disables the timeout
+   * @return disposable which cancels pending request
+   */
+  public Disposable register(String correlationId, MonoSink<Message> sink, long timeoutMillis) {
+    PendingRequest request = new PendingRequest(correlationId, sink);
+    if (timeoutMillis > 0) {
+      request.timeout =
+          TIMER.newTimeout(
+              timeout -> {
+                if (!request.isDisposed()) {
+                  sink.error(
+                      new TimeoutException(
+                          "Did not observe response on correlationId="
+                              + correlationId
+                              + " within "
+                              + timeoutMillis
+                              + "ms"));
+                }
+              },
+              timeoutMillis,
+              TimeUnit.MILLISECONDS);
+    }
+    pendingRequests.merge(correlationId, new PendingRequest[] {request}, CorrelationTable::concat);
+    return request;
+  }
+
+  /**
+   * Resolves pending requests with the given message if there are any for its correlation id.
+   *
+   * @param message inbound message
+   * @return true if some pending request was resolved
+   */
+  public boolean complete(Message message) {
+    String correlationId = message.correlationId();
+    if (correlationId == null) {
+      return false;
+    }
+    PendingRequest[] requests = pendingRequests.remove(correlationId);
+    if (requests == null) {
+      return false;
+    }
+    for (PendingRequest request : requests) {
+      request.sink.success(message);
+    }
+    return true;
+  }
+
+  /** Completes all pending requests without response. */
+  public void completeAll() {
+    for (String correlationId : pendingRequests.keySet()) {
+      PendingRequest[] requests = pendingRequests.remove(correlationId);
+      if (requests != null) {
+        for (PendingRequest request : requests) {
+          request.sink.success();
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns number of correlation ids awaiting response.
+   *
+   * <p><b>NOTE:</b> this method is for testing purpose only.
+   *
+   * @return number of correlation ids
+   */
+  int size() {
+    return pendingRequests.size();
+  }
+
+  private void remove(PendingRequest request) {
+    pendingRequests.computeIfPresent(
+        request.correlationId, (correlationId, requests) -> without(requests, request));
+  }
+
+  private static PendingRequest[] concat(PendingRequest[] requests, PendingRequest[] other) {
+    PendingRequest[] result = Arrays.copyOf(requests, requests.length + other.length);
+    System.arraycopy(other, 0, result, requests.length, other.length);
+    return result;
+  }
+
+  private static PendingRequest[] without(PendingRequest[] requests, PendingRequest request) {
+    PendingRequest[] result = EMPTY;
+    for (PendingRequest r : requests) {
+      if (r != request) {
+        result = concat(result, new PendingRequest[] {r});
+      }
+    }
+    return result.length > 0 ? result : null;
+  }
+
+  private final class PendingRequest implements Disposable {
+
+    private final String correlationId;
+    private final MonoSink<Message> sink;
+    private volatile Timeout timeout;
+    private volatile boolean disposed;
+
+    private PendingRequest(String correlationId, MonoSink<Message> sink) {
+      this.correlationId = correlationId;
+      this.sink = sink;
+    }
+
+    @Override
+    public void dispose() {
+      disposed = true;
+      Timeout timeout = this.timeout;
+      if (timeout != null) {
+        timeout.cancel();
+      }
+      remove(this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return disposed;
+    }
+  }
+}
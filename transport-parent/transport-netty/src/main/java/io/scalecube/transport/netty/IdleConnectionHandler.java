@@ -0,0 +1,29 @@
+package io.scalecube.transport.netty;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Closes connection which neither read nor written anything within idle timeout. */
+final class IdleConnectionHandler extends IdleStateHandler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IdleConnectionHandler.class);
+
+  /**
+   * Constructor.
+   *
+   * @param idleTimeoutMillis idle timeout
+   */
+  IdleConnectionHandler(long idleTimeoutMillis) {
+    super(0, 0, idleTimeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent evt) {
+    LOGGER.debug("Closing idle connection: {}", ctx.channel());
+    ctx.close();
+  }
+}
@@ -0,0 +1,320 @@
+package io.scalecube.transport.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.util.AttributeKey;
+import io.scalecube.cluster.transport.api.OverflowStrategy;
+import io.scalecube.cluster.transport.api.TransportConfig;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.netty.FutureMono;
+
+/**
+ * Channel writer with bounded outbound queue and coalesced flushes.
+ *
+ * <p>While channel is writable frames are written right away. Otherwise they are kept in the
+ * outbound queue until channel becomes writable again; application frames and system frames have
+ * separate capacity, and {@link OverflowStrategy} is applied to the frame which doesn't fit.
+ *
+ * <p>Frames written within one event loop tick are flushed together by a task scheduled on the
+ * channel's event loop, unless pending frames reach message or byte threshold earlier. Urgent
+ * frames are flushed right away together with frames written before them.
+ *
+ * <p><b>NOTE:</b> mutable state is accessed only on the channel's event loop.
+ */
+final class OutboundWriter extends ChannelInboundHandlerAdapter {
+
+  private static final AttributeKey<OutboundWriter> WRITER_KEY =
+      AttributeKey.valueOf("sc-cluster-outbound-writer");
+
+  private final Channel channel;
+  private final int maxMessages;
+  private final int maxBytes;
+  private final int capacity;
+  private final int reservedCapacity;
+  private final OverflowStrategy overflowStrategy;
+  private final long blockTimeoutMillis;
+  private final Semaphore permits;
+  private final LongAdder queueSize;
+  private final LongAdder droppedCount;
+  private final Runnable flushTask = this::onFlushTask;
+
+  private final ArrayDeque<PendingWrite> queue = new ArrayDeque<>();
+  private int queuedMessages;
+  private int queuedSystemMessages;
+  private int pendingMessages;
+  private int pendingBytes;
+  private boolean flushScheduled;
+
+  private OutboundWriter(
+      Channel channel, TransportConfig config, LongAdder queueSize, LongAdder droppedCount) {
+    this.channel = channel;
+    this.maxMessages = config.writeBatchMaxMessages();
+    this.maxBytes = config.writeBatchMaxBytes();
+    this.capacity = config.outboundQueueCapacity();
+    this.reservedCapacity = config.outboundQueueReservedCapacity();
+    this.overflowStrategy = config.overflowStrategy();
+    this.blockTimeoutMillis = config.connectTimeout();
+    this.permits =
+        overflowStrategy == OverflowStrategy.BLOCK ? new Semaphore(Math.max(0, capacity)) : null;
+    this.queueSize = queueSize;
+    this.droppedCount = droppedCount;
+  }
+
+  /**
+   * Creates writer and binds it to the given channel, writer must be added to the channel's
+   * pipeline by the caller.
+   *
+   * @param channel channel
+   * @param config transport config
+   * @param queueSize counter of queued frames
+   * @param droppedCount counter of dropped frames
+   * @return channel writer
+   */
+  static OutboundWriter create(
+      Channel channel, TransportConfig config, LongAdder queueSize, LongAdder droppedCount) {
+    OutboundWriter writer = new OutboundWriter(channel, config, queueSize, droppedCount);
+    channel.attr(WRITER_KEY).set(writer);
+    return writer;
+  }
+
+  /**
+   * Returns writer bound to the given channel.
+   *
+   * @param channel channel
+   * @return channel writer
+   */
+  static OutboundWriter of(Channel channel) {
+    return channel.attr(WRITER_KEY).get();
+  }
+
+  /**
+   * Writes frame into the channel.
+   *
+   * @param byteBuf frame, released by the channel once written or by writer if dropped
+   * @param urgent whether to flush right away
+   * @param system whether frame is a system one (uses reserved capacity, never blocks)
+   * @return promise which completes once frame is written to socket or dropped
+   */
+  Mono<Void> write(ByteBuf byteBuf, boolean urgent, boolean system) {
+    return FutureMono.deferFuture(
+        () -> {
+          ChannelPromise promise = channel.newPromise();
+          EventLoop eventLoop = channel.eventLoop();
+          boolean permit = permits != null && !system;
+          if (permit && !acquirePermit(eventLoop)) {
+            byteBuf.release();
+            droppedCount.increment();
+            return promise.setFailure(failWithOverflow());
+          }
+          PendingWrite write = new PendingWrite(byteBuf, promise, urgent, system, permit);
+          if (eventLoop.inEventLoop()) {
+            write0(write);
+          } else {
+            try {
+              eventLoop.execute(() -> write0(write));
+            } catch (RejectedExecutionException ex) {
+              write.fail(ex);
+            }
+          }
+          return promise;
+        });
+  }
+
+  private boolean acquirePermit(EventLoop eventLoop) {
+    if (eventLoop.inEventLoop()) {
+      // blocking here would deadlock channel
+      return permits.tryAcquire();
+    }
+    try {
+      return permits.tryAcquire(blockTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    drain();
+    super.channelWritabilityChanged(ctx);
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    ClosedChannelException cause = new ClosedChannelException();
+    PendingWrite write;
+    while ((write = poll()) != null) {
+      write.fail(cause);
+    }
+    super.channelInactive(ctx);
+  }
+
+  private void write0(PendingWrite write) {
+    if (!channel.isActive() || (queue.isEmpty() && channel.isWritable())) {
+      // inactive channel fails the write by itself
+      writeNow(write);
+      return;
+    }
+    if (write.system ? queuedSystemMessages < reservedCapacity : canQueueMessage()) {
+      offer(write);
+      return;
+    }
+    OverflowStrategy strategy = overflowStrategy;
+    if (write.system && strategy == OverflowStrategy.BLOCK) {
+      strategy = OverflowStrategy.FAIL_FAST;
+    }
+    switch (strategy) {
+      case DROP_NEWEST:
+        drop(write);
+        break;
+      case DROP_OLDEST:
+        PendingWrite oldest = removeOldest(write.system);
+        if (oldest != null) {
+          drop(oldest);
+          offer(write);
+        } else {
+          drop(write);
+        }
+        break;
+      default:
+        droppedCount.increment();
+        write.fail(failWithOverflow());
+        break;
+    }
+  }
+
+  private boolean canQueueMessage() {
+    // with BLOCK strategy queue is bounded by permits
+    return permits != null || queuedMessages < capacity;
+  }
+
+  private void offer(PendingWrite write) {
+    queue.add(write);
+    if (write.system) {
+      queuedSystemMessages++;
+    } else {
+      queuedMessages++;
+    }
+    queueSize.increment();
+  }
+
+  private PendingWrite poll() {
+    PendingWrite write = queue.poll();
+    if (write != null) {
+      onRemoved(write);
+    }
+    return write;
+  }
+
+  private PendingWrite removeOldest(boolean system) {
+    for (Iterator<PendingWrite> it = queue.iterator(); it.hasNext(); ) {
+      PendingWrite write = it.next();
+      if (write.system == system) {
+        it.remove();
+        onRemoved(write);
+        return write;
+      }
+    }
+    return null;
+  }
+
+  private void onRemoved(PendingWrite write) {
+    if (write.system) {
+      queuedSystemMessages--;
+    } else {
+      queuedMessages--;
+    }
+    queueSize.decrement();
+  }
+
+  private void drop(PendingWrite write) {
+    droppedCount.increment();
+    write.byteBuf.release();
+    write.releasePermit();
+    write.promise.trySuccess();
+  }
+
+  private void drain() {
+    while (channel.isWritable() && !queue.isEmpty()) {
+      writeNow(poll());
+    }
+  }
+
+  private void writeNow(PendingWrite write) {
+    int size = write.byteBuf.readableBytes();
+    write.releasePermit();
+    channel.write(write.byteBuf, write.promise);
+    pendingMessages++;
+    pendingBytes += size;
+
+    if (write.urgent
+        || maxMessages <= 1
+        || pendingMessages >= maxMessages
+        || pendingBytes >= maxBytes) {
+      flush();
+    } else if (!flushScheduled) {
+      flushScheduled = true;
+      channel.eventLoop().execute(flushTask);
+    }
+  }
+
+  private void onFlushTask() {
+    flushScheduled = false;
+    if (pendingMessages > 0) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    pendingMessages = 0;
+    pendingBytes = 0;
+    channel.flush();
+  }
+
+  private IllegalStateException failWithOverflow() {
+    return Exceptions.failWithOverflow("Outbound queue is full for " + channel.remoteAddress());
+  }
+
+  private final class PendingWrite {
+
+    private final ByteBuf byteBuf;
+    private final ChannelPromise promise;
+    private final boolean urgent;
+    private final boolean system;
+    private boolean permit;
+
+    private PendingWrite(
+        ByteBuf byteBuf, ChannelPromise promise, boolean urgent, boolean system, boolean permit) {
+      this.byteBuf = byteBuf;
+      this.promise = promise;
+      this.urgent = urgent;
+      this.system = system;
+      this.permit = permit;
+    }
+
+    private void releasePermit() {
+      if (permit) {
+        permit = false;
+        permits.release();
+      }
+    }
+
+    private void fail(Throwable cause) {
+      byteBuf.release();
+      releasePermit();
+      promise.tryFailure(cause);
+    }
+  }
+}
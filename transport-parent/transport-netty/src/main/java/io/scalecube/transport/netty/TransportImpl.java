@@ -1,14 +1,9 @@
 package io.scalecube.transport.netty;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
-import io.netty.buffer.ByteBufInputStream;
-import io.netty.buffer.ByteBufOutputStream;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
-import io.netty.handler.codec.DecoderException;
-import io.netty.handler.codec.EncoderException;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.codec.LengthFieldPrepender;
 import io.scalecube.cluster.transport.api.Message;
@@ -16,9 +11,9 @@
 import io.scalecube.cluster.transport.api.Transport;
 import io.scalecube.cluster.transport.api.TransportConfig;
 import io.scalecube.net.Address;
-import java.util.Map;
+import java.time.Duration;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,7 +30,6 @@
 import reactor.netty.DisposableServer;
 import reactor.netty.NettyInbound;
 import reactor.netty.NettyOutbound;
-import reactor.netty.NettyPipeline.SendOptions;
 import reactor.netty.channel.BootstrapHandlers;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.resources.LoopResources;
@@ -48,16 +42,29 @@ public final class TransportImpl implements Transport {
 
   private final TransportConfig config;
   private final LoopResources loopResources;
+  private final boolean ownLoopResources;
 
   // Subject
   private final DirectProcessor<Message> messagesSubject;
   private final FluxSink<Message> messageSink;
+  private final DirectProcessor<Message> priorityMessagesSubject;
+  private final FluxSink<Message> priorityMessageSink;
 
-  private final Map<Address, Mono<? extends Connection>> connections;
+  // Outbound connections
+  private final ConnectionManager connections;
+  private final ConnectionManager priorityConnections;
+
+  // Pending requests
+  private final CorrelationTable correlationTable;
+
+  // Outbound queues stats
+  private final LongAdder outboundQueueSize;
+  private final LongAdder outboundDroppedCount;
 
   // Pipeline
   private final ExceptionHandler exceptionHandler;
   private final TransportChannelInitializer channelInitializer;
+  private final TransportChannelInitializer outboundChannelInitializer;
 
   // Close handler
   private final MonoProcessor<Void> stop;
@@ -76,13 +83,32 @@ public final class TransportImpl implements Transport {
    * @param config transport configuration
    */
   public TransportImpl(TransportConfig config) {
+    this(config, null);
+  }
+
+  /**
+   * Constructor with config and event loops as parameters.
+   *
+   * @param config transport configuration
+   * @param loopResources shared event loops, they are not disposed on transport stop; if null then
+   *     transport creates its own event loops according to the config
+   */
+  public TransportImpl(TransportConfig config, LoopResources loopResources) {
     this.config = config;
-    this.loopResources = LoopResources.create("sc-cluster-io", 1, true);
+    this.ownLoopResources = loopResources == null;
+    this.loopResources = loopResources != null ? loopResources : newLoopResources(config);
     this.messagesSubject = DirectProcessor.create();
     this.messageSink = messagesSubject.sink();
-    this.connections = new ConcurrentHashMap<>();
+    this.priorityMessagesSubject = DirectProcessor.create();
+    this.priorityMessageSink = priorityMessagesSubject.sink();
+    this.connections = newConnectionManager(config);
+    this.priorityConnections = newConnectionManager(config);
+    this.correlationTable = new CorrelationTable();
+    this.outboundQueueSize = new LongAdder();
+    this.outboundDroppedCount = new LongAdder();
     this.exceptionHandler = new ExceptionHandler();
-    this.channelInitializer = new TransportChannelInitializer();
+    this.channelInitializer = new TransportChannelInitializer(false);
+    this.outboundChannelInitializer = new TransportChannelInitializer(true);
     this.stop = MonoProcessor.create();
     this.onStop = MonoProcessor.create();
     this.messageCodec = config.messageCodec();
@@ -101,11 +127,19 @@ private TransportImpl(DisposableServer server, TransportImpl other) {
     this.address = Address.create(server.address().getHostString(), server.address().getPort());
     this.config = other.config;
     this.loopResources = other.loopResources;
+    this.ownLoopResources = other.ownLoopResources;
     this.messagesSubject = other.messagesSubject;
     this.messageSink = other.messageSink;
+    this.priorityMessagesSubject = other.priorityMessagesSubject;
+    this.priorityMessageSink = other.priorityMessageSink;
     this.connections = other.connections;
+    this.priorityConnections = other.priorityConnections;
+    this.correlationTable = other.correlationTable;
+    this.outboundQueueSize = other.outboundQueueSize;
+    this.outboundDroppedCount = other.outboundDroppedCount;
     this.exceptionHandler = other.exceptionHandler;
     this.channelInitializer = other.channelInitializer;
+    this.outboundChannelInitializer = other.outboundChannelInitializer;
     this.stop = other.stop;
     this.onStop = other.onStop;
     this.messageCodec = other.messageCodec;
@@ -161,6 +195,32 @@ public static Mono<Transport> bind(TransportConfig config) {
     return new TransportImpl(config).bind0();
   }
 
+  /**
+   * Init transport with the given configuration on the given event loops asynchronously. Starts to
+   * accept connections on local address. Event loops may be shared by several transports, they are
+   * not disposed on transport stop.
+   *
+   * @param config transport config
+   * @param loopResources shared event loops
+   * @return promise for bind operation
+   */
+  public static Mono<Transport> bind(TransportConfig config, LoopResources loopResources) {
+    return new TransportImpl(config, Objects.requireNonNull(loopResources)).bind0();
+  }
+
+  private static LoopResources newLoopResources(TransportConfig config) {
+    if (config.selectCount() > 0) {
+      return LoopResources.create(
+          "sc-cluster-io", config.selectCount(), config.workerCount(), true);
+    }
+    return LoopResources.create("sc-cluster-io", config.workerCount(), true);
+  }
+
+  private ConnectionManager newConnectionManager(TransportConfig config) {
+    return new ConnectionManager(
+        this::newTcpClient, config.reconnectBackoffMin(), config.reconnectBackoffMax());
+  }
+
   /**
    * Starts to accept connections on local address.
    *
@@ -207,47 +267,74 @@ private Mono<Void> doStop() {
           LOGGER.debug("Transport is shutting down on {}", address);
           // Complete incoming messages observable
           messageSink.complete();
+          priorityMessageSink.complete();
+          // Complete pending requests
+          correlationTable.completeAll();
           return Flux.concatDelayError(closeServer(), shutdownLoopResources())
               .then()
-              .doFinally(s -> connections.clear())
+              .doFinally(
+                  s -> {
+                    connections.clear();
+                    priorityConnections.clear();
+                  })
               .doOnSuccess(avoid -> LOGGER.debug("Transport has been shut down on {}", address));
         });
   }
 
+  /**
+   * Returns number of outbound messages queued for all destinations.
+   *
+   * @return outbound queue size
+   */
+  public long outboundQueueSize() {
+    return outboundQueueSize.sum();
+  }
+
+  /**
+   * Returns number of outbound messages dropped or rejected due to outbound queue overflow.
+   *
+   * @return number of dropped messages
+   */
+  public long outboundDroppedCount() {
+    return outboundDroppedCount.sum();
+  }
+
   @Override
   public final Flux<Message> listen() {
-    return messagesSubject.onBackpressureBuffer();
+    // Priority messages are buffered apart from the rest and bulk messages are pulled one by one,
+    // so slow listener gets priority message without draining backlog of bulk messages first
+    return Flux.merge(
+        1, priorityMessagesSubject.onBackpressureBuffer(), messagesSubject.onBackpressureBuffer());
   }
 
   @Override
   public Mono<Void> send(Address address, Message message) {
-    return getOrConnect(address).flatMap(conn -> send0(conn, message)).then();
+    boolean priority = isPriority(message);
+    boolean priorityLane = priority && config.priorityLane();
+    return (priorityLane ? priorityConnections : connections)
+        .getOrConnect(address)
+        .flatMap(conn -> send0(conn, message, priority))
+        .then();
   }
 
   @Override
   public Mono<Message> requestResponse(Address address, final Message request) {
+    return requestResponse(address, request, Duration.ofMillis(config.requestTimeout()));
+  }
+
+  @Override
+  public Mono<Message> requestResponse(Address address, Message request, Duration timeout) {
     return Mono.create(
         sink -> {
           Objects.requireNonNull(request, "request must be not null");
           Objects.requireNonNull(request.correlationId(), "correlationId must be not null");
 
-          Disposable receive =
-              listen()
-                  .filter(resp -> resp.correlationId() != null)
-                  .filter(resp -> resp.correlationId().equals(request.correlationId()))
-                  .take(1)
-                  .subscribe(sink::success, sink::error, sink::success);
-
-          Disposable send =
-              send(address, request)
-                  .subscribe(
-                      null,
-                      ex -> {
-                        receive.dispose();
-                        sink.error(ex);
-                      });
-
-          sink.onDispose(Disposables.composite(send, receive));
+          Disposable pending =
+              correlationTable.register(request.correlationId(), sink, timeout.toMillis());
+
+          Disposable send = send(address, request).subscribe(null, sink::error);
+
+          sink.onDispose(Disposables.composite(send, pending));
         });
   }
 
@@ -256,69 +343,50 @@ private Mono<Void> onMessage(NettyInbound in, NettyOutbound out) {
     return in.receive() //
         .retain()
         .map(this::toMessage)
-        .doOnNext(messageSink::next)
+        .doOnNext(this::onMessage)
         .then();
   }
 
+  private void onMessage(Message message) {
+    // Resolve pending request (if any) and then emit message to the listeners anyway
+    correlationTable.complete(message);
+    (isPriority(message) ? priorityMessageSink : messageSink).next(message);
+  }
+
   private Message toMessage(ByteBuf byteBuf) {
-    try (ByteBufInputStream stream = new ByteBufInputStream(byteBuf, true)) {
-      return messageCodec.deserialize(stream);
-    } catch (Exception e) {
-      LOGGER.warn(
-          "Message codec exception occurred at converting bytes to message: " + e.toString());
-      throw new DecoderException(e);
-    }
+    return ByteBufMessages.toMessage(messageCodec, byteBuf);
   }
 
   private TransportImpl onBind(DisposableServer server) {
-    return new TransportImpl(server, this);
+    TransportImpl transport = new TransportImpl(server, this);
+    transport.warmUp();
+    return transport;
   }
 
-  private Mono<? extends Void> send0(Connection conn, Message message) {
-    // do send
-    return conn.outbound()
-        .options(SendOptions::flushOnEach)
-        .send(Mono.just(message).map(this::toByteBuf))
-        .then();
+  private void warmUp() {
+    for (Address address : config.warmUpAddresses()) {
+      if (!address.equals(this.address)) {
+        connections
+            .getOrConnect(address)
+            .subscribe(
+                null, ex -> LOGGER.debug("Failed to warm up connection to {}: {}", address, ex));
+      }
+    }
   }
 
-  private ByteBuf toByteBuf(Message message) {
-    ByteBuf bb = ByteBufAllocator.DEFAULT.buffer();
-    ByteBufOutputStream stream = new ByteBufOutputStream(bb);
-    try {
-      messageCodec.serialize(message, stream);
-    } catch (Exception e) {
-      bb.release();
-      LOGGER.warn(
-          "Message codec exception occurred at converting message to bytes: " + e.toString());
-      throw new EncoderException(e);
-    }
-    return bb;
+  private boolean isPriority(Message message) {
+    return config.priorityQualifiers().contains(message.qualifier());
   }
 
-  private Mono<Connection> getOrConnect(Address address) {
-    return Mono.create(
-        sink ->
-            connections
-                .computeIfAbsent(address, this::connect0)
-                .subscribe(sink::success, sink::error));
-  }
-
-  private Mono<? extends Connection> connect0(Address address) {
-    return newTcpClient(address)
-        .doOnDisconnected(
-            c -> {
-              LOGGER.debug("Disconnected from: {} {}", address, c.channel());
-              connections.remove(address);
-            })
-        .doOnConnected(c -> LOGGER.debug("Connected to {}: {}", address, c.channel()))
-        .connect()
-        .doOnError(
-            th -> {
-              LOGGER.debug("Failed to connect on address {}, cause: {}", address, th.toString());
-              connections.remove(address);
-            })
-        .cache();
+  private Mono<? extends Void> send0(Connection conn, Message message, boolean priority) {
+    // do send
+    OutboundWriter writer = OutboundWriter.of(conn.channel());
+    boolean system = priority || config.systemQualifiers().contains(message.qualifier());
+    return Mono.defer(() -> writer.write(toByteBuf(message), priority, system));
+  }
+
+  private ByteBuf toByteBuf(Message message) {
+    return ByteBufMessages.toByteBuf(messageCodec, message);
   }
 
   private Mono<Void> closeServer() {
@@ -335,6 +403,9 @@ private Mono<Void> closeServer() {
   private Mono<Void> shutdownLoopResources() {
     return Mono.defer(
         () -> {
+          if (!ownLoopResources) {
+            return Mono.empty();
+          }
           loopResources.dispose();
           return loopResources.disposeLater();
         });
@@ -348,7 +419,7 @@ private Mono<Void> shutdownLoopResources() {
   private TcpServer newTcpServer() {
     TcpServer tcpServer =
         TcpServer.create()
-            .runOn(loopResources)
+            .runOn(loopResources, config.preferNative())
             .option(ChannelOption.TCP_NODELAY, true)
             .option(ChannelOption.SO_KEEPALIVE, true)
             .option(ChannelOption.SO_REUSEADDR, true)
@@ -370,14 +441,15 @@ private TcpServer newTcpServer() {
    */
   private TcpClient newTcpClient(Address address) {
     return TcpClient.create(ConnectionProvider.newConnection())
-        .runOn(loopResources)
+        .runOn(loopResources, config.preferNative())
         .host(address.host())
         .port(address.port())
         .option(ChannelOption.TCP_NODELAY, true)
         .option(ChannelOption.SO_KEEPALIVE, true)
         .option(ChannelOption.SO_REUSEADDR, true)
         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.connectTimeout())
-        .bootstrap(b -> BootstrapHandlers.updateConfiguration(b, "outbound", channelInitializer));
+        .bootstrap(
+            b -> BootstrapHandlers.updateConfiguration(b, "outbound", outboundChannelInitializer));
   }
 
   private final class TransportChannelInitializer
@@ -385,6 +457,12 @@ private TcpClient newTcpClient(Address address) {
 
     private static final int LENGTH_FIELD_LENGTH = 4;
 
+    private final boolean outbound;
+
+    private TransportChannelInitializer(boolean outbound) {
+      this.outbound = outbound;
+    }
+
     @Override
     public void accept(ConnectionObserver connectionObserver, Channel channel) {
       ChannelPipeline pipeline = channel.pipeline();
@@ -392,6 +470,15 @@ public void accept(ConnectionObserver connectionObserver, Channel channel) {
       pipeline.addLast(
           new LengthFieldBasedFrameDecoder(
               config.maxFrameLength(), 0, LENGTH_FIELD_LENGTH, 0, LENGTH_FIELD_LENGTH));
+      if (config.compressionThreshold() > 0) {
+        pipeline.addLast(
+            new CompressionCodec(config.compressionThreshold(), config.maxFrameLength()));
+      }
+      if (outbound && config.connectionIdleTimeout() > 0) {
+        pipeline.addLast(new IdleConnectionHandler(config.connectionIdleTimeout()));
+      }
+      pipeline.addLast(
+          OutboundWriter.create(channel, config, outboundQueueSize, outboundDroppedCount));
       pipeline.addLast(exceptionHandler);
     }
   }
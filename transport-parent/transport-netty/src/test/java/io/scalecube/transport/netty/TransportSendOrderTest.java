@@ -4,6 +4,7 @@
 
 import io.scalecube.cluster.transport.api.Message;
 import io.scalecube.cluster.transport.api.Transport;
+import io.scalecube.cluster.transport.api.TransportConfig;
 import io.scalecube.net.Address;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -11,12 +12,15 @@
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -85,6 +89,99 @@ public void testSendOrderSingleThreadWithoutPromises(TestInfo testInfo) throws E
     LOGGER.info("Iteration time stats (ms): {}", iterationTimeStats);
   }
 
+  @Test
+  public void testSendOrderWithPriorityQualifiers() throws Exception {
+    // priority messages bypass write batching, but share connection with the rest
+    server = createTransport();
+
+    int sent = 1000;
+    Set<String> priorityQualifiers =
+        IntStream.range(0, sent)
+            .filter(j -> j % 10 == 0)
+            .mapToObj(j -> "q" + j)
+            .collect(Collectors.toSet());
+    client =
+        TransportImpl.bindAwait(
+            TransportConfig.defaultConfig()
+                .writeBatchMaxMessages(16)
+                .priorityQualifiers(priorityQualifiers)
+                .priorityLane(false));
+
+    final List<Message> received = new ArrayList<>();
+    final CountDownLatch latch = new CountDownLatch(sent);
+    server
+        .listen()
+        .subscribe(
+            message -> {
+              received.add(message);
+              latch.countDown();
+            });
+
+    for (int j = 0; j < sent; j++) {
+      client
+          .send(server.address(), Message.withQualifier("q" + j).build())
+          .subscribe(null, th -> LOGGER.error("Failed to send message", th));
+    }
+    latch.await(20, TimeUnit.SECONDS);
+    assertSendOrder(sent, received);
+  }
+
+  @Test
+  public void testSendOrderWithPriorityLane() throws Exception {
+    server = createTransport();
+
+    int sent = 1000;
+    Set<String> priorityQualifiers =
+        IntStream.range(0, sent)
+            .filter(j -> j % 10 == 0)
+            .mapToObj(j -> "q" + j)
+            .collect(Collectors.toSet());
+    client =
+        TransportImpl.bindAwait(
+            TransportConfig.defaultConfig()
+                .writeBatchMaxMessages(16)
+                .priorityQualifiers(priorityQualifiers)
+                .priorityLane(true));
+
+    final List<Message> received = new ArrayList<>();
+    final CountDownLatch latch = new CountDownLatch(sent);
+    server
+        .listen()
+        .subscribe(
+            message -> {
+              received.add(message);
+              latch.countDown();
+            });
+
+    for (int j = 0; j < sent; j++) {
+      client
+          .send(server.address(), Message.withQualifier("q" + j).build())
+          .subscribe(null, th -> LOGGER.error("Failed to send message", th));
+    }
+    latch.await(20, TimeUnit.SECONDS);
+    assertEquals(sent, received.size());
+
+    // priority and bulk messages go over different connections, order is kept within each lane
+    List<String> expectedPriority = new ArrayList<>();
+    List<String> expectedBulk = new ArrayList<>();
+    for (int j = 0; j < sent; j++) {
+      String qualifier = "q" + j;
+      (priorityQualifiers.contains(qualifier) ? expectedPriority : expectedBulk).add(qualifier);
+    }
+    List<String> receivedQualifiers =
+        received.stream().map(Message::qualifier).collect(Collectors.toList());
+    assertEquals(
+        expectedPriority,
+        receivedQualifiers.stream()
+            .filter(priorityQualifiers::contains)
+            .collect(Collectors.toList()));
+    assertEquals(
+        expectedBulk,
+        receivedQualifiers.stream()
+            .filter(qualifier -> !priorityQualifiers.contains(qualifier))
+            .collect(Collectors.toList()));
+  }
+
   @Test
   public void testSendOrderSingleThread(TestInfo testInfo) throws Exception {
     server = createTransport();
@@ -7,12 +7,17 @@
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.OverflowStrategy;
+import io.scalecube.cluster.transport.api.Transport;
+import io.scalecube.cluster.transport.api.TransportConfig;
 import io.scalecube.cluster.utils.NetworkEmulatorTransport;
 import io.scalecube.net.Address;
 import java.io.IOException;
+import java.net.ConnectException;
 import java.net.UnknownHostException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -20,8 +25,11 @@
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.ReplayProcessor;
+import reactor.netty.resources.LoopResources;
 import reactor.test.StepVerifier;
 
 public class TransportTest extends BaseTest {
@@ -84,6 +92,28 @@ public void testInteractWithNoConnection(TestInfo testInfo) {
     }
   }
 
+  @Test
+  public void testReconnectBackoff() {
+    Address serverAddress = Address.from("localhost:49255");
+    TransportConfig config =
+        TransportConfig.defaultConfig().reconnectBackoffMin(60_000).reconnectBackoffMax(60_000);
+    client = new NetworkEmulatorTransport(TransportImpl.bindAwait(config));
+
+    Message msg = Message.withData("q").build();
+    StepVerifier.create(client.send(serverAddress, msg))
+        .expectError(IOException.class)
+        .verify(TIMEOUT);
+
+    // no connect attempt within backoff, send fails fast
+    StepVerifier.create(client.send(serverAddress, msg))
+        .expectErrorSatisfies(
+            ex -> {
+              assertEquals(ConnectException.class, ex.getClass());
+              assertTrue(ex.getMessage().contains("backed off"), ex.getMessage());
+            })
+        .verify(Duration.ofMillis(500));
+  }
+
   @Test
   public void testPingPongClientTfListenAndServerTfListen() throws Exception {
     client = createTransport();
@@ -202,6 +232,298 @@ public void testShouldRequestResponseSuccess() {
     assertEquals("hello: server", result);
   }
 
+  @Test
+  public void testRequestResponseTimeout() {
+    client =
+        new NetworkEmulatorTransport(
+            TransportImpl.bindAwait(TransportConfig.defaultConfig().requestTimeout(100)));
+    server = createTransport();
+
+    StepVerifier.create(
+            client.requestResponse(
+                server.address(),
+                Message.builder().qualifier("hello/server").correlationId("123xyz").build()))
+        .expectError(TimeoutException.class)
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void testRequestResponseTimeoutOverridesConfiguredTimeout() {
+    // configured request timeout is longer than verification timeout
+    client = createTransport();
+    server = createTransport();
+
+    StepVerifier.create(
+            client.requestResponse(
+                server.address(),
+                Message.builder().qualifier("hello/server").correlationId("123xyz").build(),
+                Duration.ofMillis(100)))
+        .expectError(TimeoutException.class)
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void testRequestResponseWithSameCorrelationId() {
+    client = createTransport();
+    server = createTransport();
+
+    server
+        .listen()
+        .filter(req -> req.qualifier().equals("hello/server"))
+        .take(1)
+        .subscribe(
+            message ->
+                send(
+                        server,
+                        message.sender(),
+                        Message.builder()
+                            .correlationId(message.correlationId())
+                            .data("hello: " + message.data())
+                            .build())
+                    .subscribe());
+
+    Message request =
+        Message.builder().qualifier("hello/server").correlationId("123xyz").data("server").build();
+
+    StepVerifier.create(
+            Flux.merge(
+                client.requestResponse(server.address(), request),
+                client.requestResponse(server.address(), request)))
+        .expectNextCount(2)
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void testSharedLoopResources() {
+    LoopResources loopResources = LoopResources.create("sc-cluster-io-shared", 2, true);
+    try {
+      TransportConfig config = TransportConfig.defaultConfig();
+      server = new NetworkEmulatorTransport(TransportImpl.bind(config, loopResources).block());
+      Transport other = TransportImpl.bind(config, loopResources).block();
+      client = new NetworkEmulatorTransport(TransportImpl.bind(config, loopResources).block());
+
+      // stopping of one transport must not dispose shared event loops
+      destroyTransport(other);
+
+      StepVerifier.create(server.listen().take(1))
+          .then(() -> send(client, server.address(), Message.fromQualifier("q")).subscribe())
+          .expectNextMatches(message -> "q".equals(message.qualifier()))
+          .expectComplete()
+          .verify(TIMEOUT);
+    } finally {
+      destroyTransport(client);
+      destroyTransport(server);
+      loopResources.dispose();
+    }
+  }
+
+  @Test
+  public void testPriorityLane() {
+    int bulkNum = 16;
+    client =
+        new NetworkEmulatorTransport(
+            TransportImpl.bindAwait(
+                TransportConfig.defaultConfig()
+                    .priorityQualifiers(Collections.singleton("ping"))));
+    server = createTransport();
+
+    // establish both connections upfront
+    StepVerifier.create(server.listen().take(2))
+        .then(
+            () -> {
+              send(client, server.address(), Message.fromQualifier("warm-up")).subscribe();
+              send(client, server.address(), Message.fromQualifier("ping")).subscribe();
+            })
+        .expectNextCount(2)
+        .expectComplete()
+        .verify(TIMEOUT);
+
+    byte[] bulk = new byte[1024 * 1024];
+
+    StepVerifier.create(server.listen().map(Message::qualifier).take(bulkNum + 2).collectList())
+        .then(
+            () -> {
+              for (int i = 0; i < bulkNum; i++) {
+                Message bulkMessage = Message.withData(bulk).qualifier("bulk").build();
+                send(client, server.address(), bulkMessage).subscribe();
+              }
+              send(client, server.address(), Message.fromQualifier("ping")).subscribe();
+              send(client, server.address(), Message.fromQualifier("after-bulk")).subscribe();
+            })
+        .assertNext(
+            qualifiers -> {
+              assertEquals(bulkNum + 2, qualifiers.size());
+              // bulk traffic keeps its order
+              assertEquals("after-bulk", qualifiers.get(qualifiers.size() - 1));
+              // ping doesn't wait for bulk traffic sent before it
+              assertTrue(
+                  qualifiers.indexOf("ping") < qualifiers.lastIndexOf("bulk"),
+                  "Ping arrived after bulk: " + qualifiers);
+            })
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void testCompression() {
+    TransportConfig config = TransportConfig.defaultConfig().compressionThreshold(1024);
+    client = new NetworkEmulatorTransport(TransportImpl.bindAwait(config));
+    server = new NetworkEmulatorTransport(TransportImpl.bindAwait(config));
+
+    StringBuilder large = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      large.append("compressible-");
+    }
+
+    StepVerifier.create(server.listen().map(message -> (String) message.data()).take(2))
+        .then(
+            () -> {
+              send(client, server.address(), Message.fromData(large.toString())).subscribe();
+              send(client, server.address(), Message.fromData("small")).subscribe();
+            })
+        .expectNext(large.toString())
+        .expectNext("small")
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void testOutboundQueueOverflowWithDropNewest() {
+    TransportConfig config =
+        TransportConfig.defaultConfig()
+            .outboundQueueCapacity(1)
+            .overflowStrategy(OverflowStrategy.DROP_NEWEST);
+    TransportImpl clientTransport = (TransportImpl) TransportImpl.bindAwait(config);
+    client = new NetworkEmulatorTransport(clientTransport);
+    server = createTransport();
+
+    Message message = Message.fromData(largeData());
+
+    // dropped messages complete successfully, so nothing fails here
+    StepVerifier.create(
+            Flux.range(0, 1000).flatMap(i -> client.send(server.address(), message)).then())
+        .expectComplete()
+        .verify(TIMEOUT);
+
+    assertEquals(0, clientTransport.outboundQueueSize());
+    assertTrue(clientTransport.outboundDroppedCount() > 0, "Expected dropped messages");
+  }
+
+  @Test
+  public void testOutboundQueueOverflowWithFailFast() {
+    TransportConfig config =
+        TransportConfig.defaultConfig()
+            .outboundQueueCapacity(1)
+            .overflowStrategy(OverflowStrategy.FAIL_FAST);
+    TransportImpl clientTransport = (TransportImpl) TransportImpl.bindAwait(config);
+    client = new NetworkEmulatorTransport(clientTransport);
+    server = createTransport();
+
+    Message message = Message.fromData(largeData());
+
+    // overflowed messages fail with overflow exception
+    StepVerifier.create(
+            Flux.range(0, 1000)
+                .flatMap(
+                    i ->
+                        client
+                            .send(server.address(), message)
+                            .then(Mono.<Throwable>empty())
+                            .onErrorResume(Mono::just))
+                .collectList())
+        .assertNext(
+            errors -> {
+              assertTrue(errors.size() > 0, "Expected failed sends");
+              assertTrue(errors.stream().allMatch(Exceptions::isOverflow), "" + errors);
+              assertEquals(errors.size(), clientTransport.outboundDroppedCount());
+            })
+        .expectComplete()
+        .verify(TIMEOUT);
+
+    assertEquals(0, clientTransport.outboundQueueSize());
+  }
+
+  @Test
+  public void testOutboundQueueOverflowWithDropOldest() {
+    int messagesNum = 1000;
+    TransportConfig config =
+        TransportConfig.defaultConfig()
+            .outboundQueueCapacity(1)
+            .overflowStrategy(OverflowStrategy.DROP_OLDEST);
+    TransportImpl clientTransport = (TransportImpl) TransportImpl.bindAwait(config);
+    client = new NetworkEmulatorTransport(clientTransport);
+    server = createTransport();
+
+    String data = largeData();
+    String last = String.valueOf(messagesNum - 1);
+    // connection is established upfront, so messages are queued in order they're sent
+    client.send(server.address(), Message.fromQualifier("warm-up")).block(TIMEOUT);
+
+    // the newest message is always queued, so the last one gets through
+    StepVerifier.create(
+            server.listen().filter(message -> last.equals(message.header("seq"))).take(1))
+        .then(
+            () ->
+                Flux.range(0, messagesNum)
+                    .flatMap(
+                        i ->
+                            client.send(
+                                server.address(),
+                                Message.withData(data).header("seq", String.valueOf(i)).build()))
+                    .subscribe())
+        .expectNextCount(1)
+        .expectComplete()
+        .verify(TIMEOUT);
+
+    assertTrue(clientTransport.outboundDroppedCount() > 0, "Expected dropped messages");
+  }
+
+  @Test
+  public void testSystemMessagesUseReservedCapacity() {
+    int systemMessagesNum = 10;
+    TransportConfig config =
+        TransportConfig.defaultConfig()
+            .outboundQueueCapacity(1)
+            .overflowStrategy(OverflowStrategy.FAIL_FAST)
+            .systemQualifiers(Collections.singleton("system"));
+    TransportImpl clientTransport = (TransportImpl) TransportImpl.bindAwait(config);
+    client = new NetworkEmulatorTransport(clientTransport);
+    server = createTransport();
+
+    Message message = Message.fromData(largeData());
+
+    StepVerifier.create(
+            server
+                .listen()
+                .filter(msg -> "system".equals(msg.qualifier()))
+                .take(systemMessagesNum))
+        .then(
+            () -> {
+              // flood of application messages overflows shared capacity
+              Flux.range(0, 1000)
+                  .flatMap(
+                      i -> client.send(server.address(), message).onErrorResume(ex -> Mono.empty()))
+                  .subscribe();
+              for (int i = 0; i < systemMessagesNum; i++) {
+                send(client, server.address(), Message.fromQualifier("system")).subscribe();
+              }
+            })
+        .expectNextCount(systemMessagesNum)
+        .expectComplete()
+        .verify(TIMEOUT);
+
+    assertTrue(clientTransport.outboundDroppedCount() > 0, "Expected dropped messages");
+  }
+
+  private static String largeData() {
+    StringBuilder large = new StringBuilder();
+    for (int i = 0; i < 1024; i++) {
+      large.append("0123456789abcdef");
+    }
+    return large.toString();
+  }
+
   @Test
   public void testPingPongOnSeparateChannel() throws Exception {
     server = createTransport();
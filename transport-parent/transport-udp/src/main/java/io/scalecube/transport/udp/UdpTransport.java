@@ -0,0 +1,372 @@
+package io.scalecube.transport.udp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.FixedRecvByteBufAllocator;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.handler.codec.EncoderException;
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.MessageCodec;
+import io.scalecube.cluster.transport.api.Transport;
+import io.scalecube.cluster.transport.api.TransportConfig;
+import io.scalecube.net.Address;
+import io.scalecube.transport.netty.ByteBufMessages;
+import io.scalecube.transport.netty.CorrelationTable;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.Exceptions;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.Connection;
+import reactor.netty.FutureMono;
+import reactor.netty.resources.LoopResources;
+import reactor.netty.udp.UdpInbound;
+import reactor.netty.udp.UdpOutbound;
+import reactor.netty.udp.UdpServer;
+
+/**
+ * Datagram based transport for small control messages (e.g. failure detector pings). Every message
+ * is sent as a single datagram, there is no connection state per peer. Delivery is not guaranteed,
+ * messages may be lost, duplicated or reordered.
+ *
+ * <p>Messages larger than {@link #MAX_DATAGRAM_LENGTH} are rejected.
+ */
+public final class UdpTransport implements Transport {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(UdpTransport.class);
+
+  /** Max payload of UDP datagram over IPv4. */
+  public static final int MAX_DATAGRAM_LENGTH = 65_507;
+
+  /** Max number of cached recipient addresses. */
+  private static final int MAX_RECIPIENTS = 1024;
+
+  /** Time after which recipient address is resolved again, so that changes of DNS are seen. */
+  private static final long RECIPIENT_TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+  private final TransportConfig config;
+  private final LoopResources loopResources;
+  private final boolean ownLoopResources;
+
+  // Subject
+  private final DirectProcessor<Message> messagesSubject;
+  private final FluxSink<Message> messageSink;
+
+  // Pending requests
+  private final CorrelationTable correlationTable;
+
+  // Resolved recipients
+  private final Map<Address, Recipient> recipients;
+
+  // Close handler
+  private final MonoProcessor<Void> stop;
+  private final MonoProcessor<Void> onStop;
+
+  // Bound channel
+  private final Address address;
+  private final Connection connection;
+
+  // Message codec
+  private final MessageCodec messageCodec;
+
+  /**
+   * Constructor with config and event loops as parameters.
+   *
+   * @param config transport configuration
+   * @param loopResources shared event loops, they are not disposed on transport stop; if null then
+   *     transport creates its own event loop
+   */
+  public UdpTransport(TransportConfig config, LoopResources loopResources) {
+    this.config = config;
+    this.ownLoopResources = loopResources == null;
+    this.loopResources =
+        loopResources != null ? loopResources : LoopResources.create("sc-cluster-udp", 1, true);
+    this.messagesSubject = DirectProcessor.create();
+    this.messageSink = messagesSubject.sink();
+    this.correlationTable = new CorrelationTable();
+    this.recipients = new ConcurrentHashMap<>();
+    this.stop = MonoProcessor.create();
+    this.onStop = MonoProcessor.create();
+    this.messageCodec = config.messageCodec();
+    this.address = null;
+    this.connection = null;
+  }
+
+  /**
+   * Copying constructor.
+   *
+   * @param connection bound channel
+   * @param other instance of transport to copy from
+   */
+  private UdpTransport(Connection connection, UdpTransport other) {
+    this.connection = connection;
+    this.address =
+        Address.create(connection.address().getHostString(), connection.address().getPort());
+    this.config = other.config;
+    this.loopResources = other.loopResources;
+    this.ownLoopResources = other.ownLoopResources;
+    this.messagesSubject = other.messagesSubject;
+    this.messageSink = other.messageSink;
+    this.correlationTable = other.correlationTable;
+    this.recipients = other.recipients;
+    this.stop = other.stop;
+    this.onStop = other.onStop;
+    this.messageCodec = other.messageCodec;
+
+    // Setup cleanup
+    stop.then(doStop())
+        .doFinally(s -> onStop.onComplete())
+        .subscribe(null, ex -> LOGGER.warn("Exception occurred on transport stop: " + ex));
+  }
+
+  /**
+   * Init transport with the given configuration synchronously.
+   *
+   * @param config transport config
+   * @return transport
+   */
+  public static Transport bindAwait(TransportConfig config) {
+    try {
+      return bind(config).block();
+    } catch (Exception e) {
+      throw Exceptions.propagate(e.getCause() != null ? e.getCause() : e);
+    }
+  }
+
+  /**
+   * Init transport with the given configuration asynchronously.
+   *
+   * @param config transport config
+   * @return promise for bind operation
+   */
+  public static Mono<Transport> bind(TransportConfig config) {
+    return new UdpTransport(config, null).bind0();
+  }
+
+  /**
+   * Init transport with the given configuration on the given event loops asynchronously.
+   *
+   * @param config transport config
+   * @param loopResources shared event loops
+   * @return promise for bind operation
+   */
+  public static Mono<Transport> bind(TransportConfig config, LoopResources loopResources) {
+    return new UdpTransport(config, Objects.requireNonNull(loopResources)).bind0();
+  }
+
+  /**
+   * Binds datagram channel on local address.
+   *
+   * @return mono transport
+   */
+  public Mono<Transport> bind0() {
+    return UdpServer.create()
+        .runOn(loopResources, config.preferNative())
+        .host(config.host() != null ? config.host() : "0.0.0.0")
+        .port(config.port())
+        // default receive buffer of datagram channel is 2048 bytes, larger datagrams get truncated
+        .option(ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator(MAX_DATAGRAM_LENGTH))
+        .handle(this::onMessage)
+        .bind()
+        .doOnSuccess(
+            connection -> LOGGER.debug("Bound cluster udp transport on {}", connection.address()))
+        .doOnError(
+            ex ->
+                LOGGER.error(
+                    "Failed to bind cluster udp transport on port={}, cause: {}",
+                    config.port(),
+                    ex.toString()))
+        .map(connection -> new UdpTransport(connection, this));
+  }
+
+  @Override
+  public Address address() {
+    return address;
+  }
+
+  @Override
+  public boolean isStopped() {
+    return onStop.isDisposed();
+  }
+
+  @Override
+  public Mono<Void> stop() {
+    return Mono.defer(
+        () -> {
+          stop.onComplete();
+          return onStop;
+        });
+  }
+
+  private Mono<Void> doStop() {
+    return Mono.defer(
+        () -> {
+          LOGGER.debug("Udp transport is shutting down on {}", address);
+          // Complete incoming messages observable
+          messageSink.complete();
+          // Complete pending requests
+          correlationTable.completeAll();
+          connection.dispose();
+          return Flux.concatDelayError(connection.onDispose(), shutdownLoopResources())
+              .then()
+              .doFinally(s -> recipients.clear())
+              .doOnSuccess(
+                  avoid -> LOGGER.debug("Udp transport has been shut down on {}", address));
+        });
+  }
+
+  private Mono<Void> shutdownLoopResources() {
+    return Mono.defer(
+        () -> {
+          if (!ownLoopResources) {
+            return Mono.empty();
+          }
+          loopResources.dispose();
+          return loopResources.disposeLater();
+        });
+  }
+
+  @Override
+  public Flux<Message> listen() {
+    return messagesSubject.onBackpressureBuffer();
+  }
+
+  @Override
+  public Mono<Void> send(Address address, Message message) {
+    return recipient(address).flatMap(recipient -> send(recipient, message));
+  }
+
+  private Mono<Void> send(InetSocketAddress recipient, Message message) {
+    return Mono.defer(
+        () -> {
+          ByteBuf byteBuf = ByteBufMessages.toByteBuf(messageCodec, message);
+          if (byteBuf.readableBytes() > MAX_DATAGRAM_LENGTH) {
+            int length = byteBuf.readableBytes();
+            byteBuf.release();
+            return Mono.error(
+                new EncoderException(
+                    "Message doesn't fit into datagram, length: "
+                        + length
+                        + ", max: "
+                        + MAX_DATAGRAM_LENGTH));
+          }
+          return FutureMono.from(
+              connection.channel().writeAndFlush(new DatagramPacket(byteBuf, recipient)));
+        });
+  }
+
+  @Override
+  public Mono<Message> requestResponse(Address address, Message request) {
+    return requestResponse(address, request, Duration.ofMillis(config.requestTimeout()));
+  }
+
+  @Override
+  public Mono<Message> requestResponse(Address address, Message request, Duration timeout) {
+    return Mono.create(
+        sink -> {
+          Objects.requireNonNull(request, "request must be not null");
+          Objects.requireNonNull(request.correlationId(), "correlationId must be not null");
+
+          Disposable pending =
+              correlationTable.register(request.correlationId(), sink, timeout.toMillis());
+
+          Disposable send = send(address, request).subscribe(null, sink::error);
+
+          sink.onDispose(Disposables.composite(send, pending));
+        });
+  }
+
+  @SuppressWarnings("unused")
+  private Mono<Void> onMessage(UdpInbound in, UdpOutbound out) {
+    return in.receiveObject()
+        .ofType(DatagramPacket.class)
+        .<Message>handle(
+            (packet, sink) -> {
+              // datagram content is released right after this handler returns
+              ByteBuf content = packet.content().retain();
+              try {
+                sink.next(ByteBufMessages.toMessage(messageCodec, content));
+              } catch (Exception ex) {
+                // don't let a single corrupted datagram terminate inbound stream
+                LOGGER.debug("Dropped datagram from {}, cause: {}", packet.sender(), ex.toString());
+              }
+            })
+        .doOnNext(this::onMessage)
+        .then();
+  }
+
+  private void onMessage(Message message) {
+    // Resolve pending request (if any) and then emit message to the listeners anyway
+    correlationTable.complete(message);
+    messageSink.next(message);
+  }
+
+  /**
+   * Returns resolved address of recipient. Resolving of host name may block, so it's done on
+   * elastic scheduler and resolved address is cached for {@link #RECIPIENT_TTL_NANOS}.
+   */
+  private Mono<InetSocketAddress> recipient(Address address) {
+    return Mono.defer(
+        () -> {
+          long now = System.nanoTime();
+          Recipient recipient = recipients.get(address);
+          if (recipient != null && !recipient.isExpired(now)) {
+            return Mono.just(recipient.address);
+          }
+          return Mono.fromCallable(() -> new InetSocketAddress(address.host(), address.port()))
+              .subscribeOn(Schedulers.elastic())
+              .flatMap(
+                  resolved -> {
+                    if (resolved.isUnresolved()) {
+                      recipients.remove(address);
+                      return Mono.error(new UnknownHostException(address.host()));
+                    }
+                    cacheRecipient(address, new Recipient(resolved, now));
+                    return Mono.just(resolved);
+                  });
+        });
+  }
+
+  private void cacheRecipient(Address address, Recipient recipient) {
+    if (recipients.size() >= MAX_RECIPIENTS && !recipients.containsKey(address)) {
+      long now = System.nanoTime();
+      recipients.values().removeIf(r -> r.isExpired(now));
+      // all are fresh, evict arbitrary one
+      Iterator<Address> iterator = recipients.keySet().iterator();
+      if (recipients.size() >= MAX_RECIPIENTS && iterator.hasNext()) {
+        iterator.next();
+        iterator.remove();
+      }
+    }
+    recipients.put(address, recipient);
+  }
+
+  private static final class Recipient {
+
+    private final InetSocketAddress address;
+    private final long resolvedAt;
+
+    private Recipient(InetSocketAddress address, long resolvedAt) {
+      this.address = address;
+      this.resolvedAt = resolvedAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now - resolvedAt >= RECIPIENT_TTL_NANOS;
+    }
+  }
+}
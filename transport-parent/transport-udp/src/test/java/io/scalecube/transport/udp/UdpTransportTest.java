@@ -0,0 +1,101 @@
+package io.scalecube.transport.udp;
+
+import io.netty.handler.codec.EncoderException;
+import io.scalecube.cluster.transport.api.Message;
+import io.scalecube.cluster.transport.api.Transport;
+import io.scalecube.cluster.transport.api.TransportConfig;
+import io.scalecube.net.Address;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+public class UdpTransportTest {
+
+  public static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private Transport client;
+  private Transport server;
+
+  @BeforeEach
+  public void setUp() {
+    TransportConfig config = TransportConfig.defaultLocalConfig();
+    client = UdpTransport.bindAwait(config);
+    server = UdpTransport.bindAwait(config);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    client.stop().block(TIMEOUT);
+    server.stop().block(TIMEOUT);
+  }
+
+  @Test
+  public void testSend() {
+    StepVerifier.create(server.listen().take(1))
+        .then(() -> client.send(server.address(), Message.fromQualifier("q")).subscribe())
+        .expectNextMatches(message -> "q".equals(message.qualifier()))
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void testSendLargeDatagram() {
+    // well over 2048 bytes of default receive buffer of datagram channel
+    char[] chars = new char[32 * 1024];
+    Arrays.fill(chars, 'x');
+    String data = new String(chars);
+
+    StepVerifier.create(server.listen().take(1))
+        .then(() -> client.send(server.address(), Message.fromData(data)).subscribe())
+        .expectNextMatches(message -> data.equals(message.data()))
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void testRequestResponse() {
+    server
+        .listen()
+        .filter(message -> "ping".equals(message.qualifier()))
+        .subscribe(
+            message ->
+                server
+                    .send(
+                        message.sender(),
+                        Message.builder()
+                            .qualifier("ack")
+                            .correlationId(message.correlationId())
+                            .build())
+                    .subscribe());
+
+    Message ping =
+        Message.builder().qualifier("ping").correlationId("cid").sender(client.address()).build();
+
+    StepVerifier.create(client.requestResponse(server.address(), ping))
+        .expectNextMatches(message -> "ack".equals(message.qualifier()))
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void testMessageTooLarge() {
+    byte[] data = new byte[UdpTransport.MAX_DATAGRAM_LENGTH + 1];
+
+    StepVerifier.create(client.send(server.address(), Message.fromData(data)))
+        .expectError(EncoderException.class)
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void testSendToUnknownHost() {
+    Address address = Address.create("unknown-host.invalid", server.address().port());
+
+    StepVerifier.create(client.send(address, Message.fromQualifier("q")))
+        .expectError(UnknownHostException.class)
+        .verify(TIMEOUT);
+  }
+}